@@ -2,12 +2,18 @@ package com.aigf.gf_plz.domain.call.controller;
 
 import com.aigf.gf_plz.domain.call.dto.CallAudioRequestDto;
 import com.aigf.gf_plz.domain.call.dto.CallAudioResponseDto;
+import com.aigf.gf_plz.domain.call.dto.CallAudioStreamDto;
 import com.aigf.gf_plz.domain.call.service.CallService;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 /**
  * 통화 컨트롤러
@@ -56,4 +62,78 @@ public class CallController {
                 .headers(headers)
                 .body(response.audioData());
     }
+
+    /**
+     * 논블로킹 음성 파일 기반 통화 엔드포인트
+     * POST /api/call/audio와 요청/응답이 같지만, Whisper/Groq/TTS 응답을 기다리는 동안 서블릿 스레드를 반환합니다.
+     *
+     * @param audioFile 사용자의 음성 파일 (MP3, WAV, M4A 등)
+     * @param characterId 캐릭터 ID
+     * @param sessionId 세션 ID (선택사항)
+     * @return AI 여자친구의 음성 응답 (MP3 형식)
+     */
+    @PostMapping("/audio/async")
+    public Mono<ResponseEntity<byte[]>> callByAudioAsync(
+            @RequestParam("audio") MultipartFile audioFile,
+            @RequestParam("characterId") Long characterId,
+            @RequestParam(value = "sessionId", required = false) Long sessionId
+    ) {
+        CallAudioRequestDto request = new CallAudioRequestDto(
+                characterId,
+                sessionId != null ? java.util.Optional.of(sessionId) : java.util.Optional.empty()
+        );
+
+        return callService.replyToAudioAsync(audioFile, request)
+                .map(response -> {
+                    HttpHeaders headers = new HttpHeaders();
+                    headers.setContentType(MediaType.parseMediaType("audio/mpeg"));
+                    headers.setContentLength(response.audioData().length);
+                    headers.setContentDispositionFormData("attachment", "response.mp3");
+
+                    return ResponseEntity.ok()
+                            .headers(headers)
+                            .body(response.audioData());
+                });
+    }
+
+    /**
+     * 음성 파일 기반 스트리밍 통화 엔드포인트
+     * Whisper(STT) → AI 답변 스트리밍 → 문장별 TTS를 파이프라인으로 수행하여,
+     * 첫 문장의 음성이 준비되는 즉시 MP3 데이터를 전송하기 시작합니다.
+     * 세션 ID는 X-Session-Id 헤더로 전달합니다.
+     *
+     * @param audioFile 사용자의 음성 파일 (MP3, WAV, M4A 등)
+     * @param characterId 캐릭터 ID
+     * @param sessionId 세션 ID (선택사항)
+     * @return AI 여자친구의 음성 응답 (MP3 스트림)
+     */
+    @PostMapping("/audio/stream")
+    public ResponseEntity<StreamingResponseBody> callByAudioStream(
+            @RequestParam("audio") MultipartFile audioFile,
+            @RequestParam("characterId") Long characterId,
+            @RequestParam(value = "sessionId", required = false) Long sessionId
+    ) {
+        CallAudioRequestDto request = new CallAudioRequestDto(
+                characterId,
+                sessionId != null ? java.util.Optional.of(sessionId) : java.util.Optional.empty()
+        );
+
+        CallAudioStreamDto response = callService.replyToAudioStream(audioFile, request);
+
+        StreamingResponseBody body = outputStream -> response.audio()
+                .doOnNext(chunk -> {
+                    try {
+                        outputStream.write(chunk);
+                        outputStream.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .blockLast();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("audio/mpeg"))
+                .header("X-Session-Id", String.valueOf(response.sessionId()))
+                .body(body);
+    }
 }
@@ -0,0 +1,320 @@
+package com.aigf.gf_plz.domain.call.controller;
+
+import com.aigf.gf_plz.domain.call.dto.CallEventDto;
+import com.aigf.gf_plz.domain.call.entity.CallSession;
+import com.aigf.gf_plz.domain.call.repository.CallSessionRepository;
+import com.aigf.gf_plz.domain.call.service.CallReplyPipeline;
+import com.aigf.gf_plz.domain.character.exception.CharacterNotFoundException;
+import com.aigf.gf_plz.domain.message.entity.MessageType;
+import com.aigf.gf_plz.domain.session.dto.ConversationTurnDto;
+import com.aigf.gf_plz.domain.session.entity.SessionType;
+import com.aigf.gf_plz.domain.session.service.ConversationTurnService;
+import com.aigf.gf_plz.global.cancellation.CancellationToken;
+import com.aigf.gf_plz.global.groq.prompt.PromptBudgeter;
+import com.aigf.gf_plz.global.whisper.WhisperClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * WebSocket 통화 핸들러 ({@code /ws/call?characterId=1&sessionId=2&format=webm})
+ * 연결 시 세션, 히스토리, 캐릭터 프롬프트를 한 번만 조회해 CallSession에 들고 있고,
+ * 이후 발화마다 음성 인식 → 답변 스트리밍 → 문장별 TTS를 같은 연결로 주고받습니다.
+ *
+ * 클라이언트 → 서버: 바이너리 프레임(음성 조각) 또는 JSON 텍스트 프레임(AUDIO_CHUNK, UTTERANCE_END, HANG_UP)
+ * 서버 → 클라이언트: JSON 텍스트 프레임(CONNECTED, TRANSCRIPT, REPLY_TEXT, REPLY_END, ERROR),
+ * 바이너리 프레임은 항상 AUDIO_OUT(문장 단위 MP3)입니다.
+ */
+@Component
+public class CallWebSocketHandler extends AbstractWebSocketHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CallWebSocketHandler.class);
+
+    private static final String SENDER_ATTRIBUTE = "callSender";
+    private static final String DEFAULT_AUDIO_FORMAT = "webm";
+    private static final Pattern AUDIO_FORMAT_PATTERN = Pattern.compile("[a-z0-9]{2,5}");
+    private static final int SEND_TIME_LIMIT_MS = 10_000;
+    private static final int SEND_BUFFER_SIZE_LIMIT = 1024 * 1024;
+
+    private final ConversationTurnService conversationTurnService;
+    private final CallReplyPipeline callReplyPipeline;
+    private final WhisperClient whisperClient;
+    private final CallSessionRepository callSessionRepository;
+    private final ObjectMapper objectMapper;
+    private final Scheduler dbScheduler;
+    private final PromptBudgeter promptBudgeter;
+    private final int historySize;
+    private final long maxAudioBytes;
+
+    public CallWebSocketHandler(
+            ConversationTurnService conversationTurnService,
+            CallReplyPipeline callReplyPipeline,
+            WhisperClient whisperClient,
+            CallSessionRepository callSessionRepository,
+            ObjectMapper objectMapper,
+            Scheduler dbScheduler,
+            PromptBudgeter promptBudgeter,
+            @Value("${conversation.window.size:30}") int historySize,
+            @Value("${call.audio.max-utterance-bytes:26214400}") long maxAudioBytes
+    ) {
+        this.conversationTurnService = conversationTurnService;
+        this.callReplyPipeline = callReplyPipeline;
+        this.whisperClient = whisperClient;
+        this.callSessionRepository = callSessionRepository;
+        this.objectMapper = objectMapper;
+        this.dbScheduler = dbScheduler;
+        this.promptBudgeter = promptBudgeter;
+        this.historySize = historySize;
+        this.maxAudioBytes = maxAudioBytes;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        // 여러 스레드(Reactor, 컨테이너)에서 보내므로 동시 전송이 가능한 데코레이터 사용
+        WebSocketSession sender = new ConcurrentWebSocketSessionDecorator(
+                session, SEND_TIME_LIMIT_MS, SEND_BUFFER_SIZE_LIMIT);
+        session.getAttributes().put(SENDER_ATTRIBUTE, sender);
+
+        MultiValueMap<String, String> params = session.getUri() != null
+                ? UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams()
+                : new LinkedMultiValueMap<>();
+
+        Long characterId = parseLong(params.getFirst("characterId"));
+        if (characterId == null) {
+            send(sender, CallEventDto.error(null, "characterId가 필요합니다."));
+            session.close(CloseStatus.BAD_DATA);
+            return;
+        }
+        Optional<Long> sessionId = Optional.ofNullable(parseLong(params.getFirst("sessionId")));
+        String audioFormat = Optional.ofNullable(params.getFirst("format"))
+                .filter(format -> AUDIO_FORMAT_PATTERN.matcher(format).matches())
+                .orElse(DEFAULT_AUDIO_FORMAT);
+
+        ConversationTurnDto conversation;
+        try {
+            conversation = conversationTurnService.openConversation(sessionId, characterId, SessionType.CALL);
+        } catch (CharacterNotFoundException e) {
+            logger.warn("통화 연결 실패: 캐릭터를 찾을 수 없음 - CharacterId: {}", characterId);
+            send(sender, CallEventDto.error(null, e.getMessage()));
+            session.close(CloseStatus.BAD_DATA);
+            return;
+        }
+
+        CallSession callSession = callSessionRepository.save(
+                CallSession.open(session.getId(), conversation, audioFormat, historySize, maxAudioBytes));
+        logger.info("통화 연결 - ConnectionId: {}, SessionId: {}, CharacterId: {}",
+                session.getId(), callSession.getSessionId(), characterId);
+        send(sender, CallEventDto.connected(callSession.getSessionId()));
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws IOException {
+        Optional<CallSession> found = findCallSession(session);
+        if (found.isPresent()) {
+            appendAudio(session, found.get(), toBytes(message.getPayload()));
+        }
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        Optional<CallSession> found = findCallSession(session);
+        if (found.isEmpty()) {
+            return;
+        }
+        CallSession callSession = found.get();
+        WebSocketSession sender = getSender(session);
+
+        CallEventDto event;
+        try {
+            event = objectMapper.readValue(message.getPayload(), CallEventDto.class);
+        } catch (IOException e) {
+            send(sender, CallEventDto.error(callSession.getSessionId(), "잘못된 이벤트 형식입니다."));
+            return;
+        }
+        if (event.type() == null) {
+            send(sender, CallEventDto.error(callSession.getSessionId(), "이벤트 타입이 필요합니다."));
+            return;
+        }
+
+        switch (event.type()) {
+            case AUDIO_CHUNK -> {
+                if (event.audio() != null) {
+                    appendAudio(session, callSession, event.audio());
+                }
+            }
+            case UTTERANCE_END -> startReply(callSession, sender);
+            case HANG_UP -> session.close(CloseStatus.NORMAL);
+            default -> send(sender, CallEventDto.error(callSession.getSessionId(),
+                    "클라이언트가 보낼 수 없는 이벤트입니다: " + event.type()));
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        logger.warn("통화 전송 오류 - ConnectionId: {}, Error: {}", session.getId(), exception.getMessage());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        callSessionRepository.remove(session.getId()).ifPresent(callSession -> {
+            callSession.cancelInFlightReply();
+            logger.info("통화 종료 - ConnectionId: {}, SessionId: {}, Status: {}",
+                    session.getId(), callSession.getSessionId(), status);
+        });
+    }
+
+    @Override
+    public boolean supportsPartialMessages() {
+        return false;
+    }
+
+    /**
+     * 음성 조각을 발화 버퍼에 추가합니다.
+     * 발화 종료 없이 음성만 계속 보내 버퍼가 최대 크기를 넘으면 오류를 보내고 연결을 닫습니다.
+     */
+    private void appendAudio(WebSocketSession session, CallSession callSession, byte[] chunk) throws IOException {
+        if (callSession.appendAudio(chunk)) {
+            return;
+        }
+        logger.warn("통화 음성 버퍼 한도 초과 - ConnectionId: {}, SessionId: {}, 한도: {}바이트",
+                session.getId(), callSession.getSessionId(), maxAudioBytes);
+        send(getSender(session), CallEventDto.error(callSession.getSessionId(),
+                "발화 음성이 너무 깁니다. 최대 " + maxAudioBytes + "바이트까지 보낼 수 있습니다."));
+        session.close(CloseStatus.TOO_BIG_TO_PROCESS);
+    }
+
+    /**
+     * 발화 종료 시 모인 음성으로 답변을 시작합니다.
+     * 이전 답변이 아직 진행 중이면 취소하고(barge-in) 새 발화에 답합니다.
+     */
+    private void startReply(CallSession callSession, WebSocketSession sender) {
+        byte[] audio = callSession.drainAudio();
+        if (audio.length == 0) {
+            send(sender, CallEventDto.error(callSession.getSessionId(), "음성이 비어있습니다."));
+            return;
+        }
+        // barge-in: 이전 답변의 Groq/TTS 요청을 취소하고 대기 중인 음성을 버림
+        CancellationToken cancellationToken = callSession.beginReply();
+
+        String filename = "utterance." + callSession.getAudioFormat();
+        Disposable reply = whisperClient.transcribeAsync(audio, filename)
+                .flatMapMany(transcript -> replyEvents(callSession, transcript, cancellationToken))
+                .subscribe(
+                        event -> send(sender, event),
+                        e -> {
+                            logger.error("통화 답변 처리 실패 - SessionId: {}", callSession.getSessionId(), e);
+                            send(sender, CallEventDto.error(callSession.getSessionId(),
+                                    "통화 처리 중 오류가 발생했습니다."));
+                        }
+                );
+        callSession.setInFlightReply(cancellationToken, reply);
+    }
+
+    /**
+     * 인식된 발화 하나에 대한 서버 이벤트 스트림을 만듭니다.
+     * TRANSCRIPT → (REPLY_TEXT, AUDIO_OUT 동시 진행) → REPLY_END 순서로 방출합니다.
+     */
+    private Flux<CallEventDto> replyEvents(CallSession callSession, String transcript,
+                                           CancellationToken cancellationToken) {
+        Long sessionId = callSession.getSessionId();
+        // 히스토리 스냅샷은 현재 발화를 포함하지 않음 (GroqClient가 사용자 입력을 따로 붙임)
+        ConversationTurnDto turn = conversationTurnService.withMemory(callSession.toTurn(), transcript);
+        StringBuilder assembledReply = new StringBuilder();
+
+        Mono<CallEventDto> saveUserMessage = Mono.<CallEventDto>fromRunnable(() -> {
+                    conversationTurnService.saveUserMessage(sessionId, transcript, MessageType.TRANSCRIPT);
+                    callSession.appendHistory(promptBudgeter.message("user", transcript));
+                })
+                .subscribeOn(dbScheduler);
+
+        // 답변 토큰을 텍스트 이벤트와 TTS 양쪽에서 구독하도록 공유
+        // barge-in이나 연결 종료로 구독이 해제되어도 끊긴 시점까지의 답변을 히스토리에 남김 (DB 저장과 동일)
+        Flux<String> tokens = callReplyPipeline.streamReply(turn, transcript, cancellationToken)
+                .doOnNext(assembledReply::append)
+                .doFinally(signal -> {
+                    if (!assembledReply.isEmpty()) {
+                        callSession.appendHistory(promptBudgeter.message("assistant", assembledReply.toString()));
+                    }
+                })
+                .publish()
+                .autoConnect(2);
+
+        Flux<CallEventDto> replyText = tokens.map(token -> CallEventDto.replyText(sessionId, token));
+        Flux<CallEventDto> audioOut = callReplyPipeline.synthesizeSentences(tokens, turn, cancellationToken)
+                .map(audio -> CallEventDto.audioOut(sessionId, audio));
+
+        Mono<CallEventDto> replyEnd = Mono.fromCallable(() -> CallEventDto.replyEnd(sessionId));
+
+        return Flux.concat(
+                Mono.just(CallEventDto.transcript(sessionId, transcript)),
+                saveUserMessage,
+                Flux.merge(replyText, audioOut),
+                replyEnd
+        );
+    }
+
+    /**
+     * 이벤트를 클라이언트에 보냅니다. AUDIO_OUT은 바이너리 프레임, 나머지는 JSON 텍스트 프레임입니다.
+     */
+    private void send(WebSocketSession sender, CallEventDto event) {
+        if (!sender.isOpen()) {
+            return;
+        }
+        try {
+            WebSocketMessage<?> message = event.type() == CallEventDto.Type.AUDIO_OUT
+                    ? new BinaryMessage(event.audio())
+                    : new TextMessage(objectMapper.writeValueAsString(event));
+            sender.sendMessage(message);
+        } catch (IOException e) {
+            logger.warn("통화 이벤트 전송 실패 - ConnectionId: {}, Type: {}, Error: {}",
+                    sender.getId(), event.type(), e.getMessage());
+        }
+    }
+
+    private Optional<CallSession> findCallSession(WebSocketSession session) {
+        return callSessionRepository.findByConnectionId(session.getId());
+    }
+
+    private WebSocketSession getSender(WebSocketSession session) {
+        Object sender = session.getAttributes().get(SENDER_ATTRIBUTE);
+        return sender instanceof WebSocketSession webSocketSession ? webSocketSession : session;
+    }
+
+    private byte[] toBytes(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        return bytes;
+    }
+
+    private Long parseLong(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.aigf.gf_plz.domain.call.dto;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * 통화 음성 스트리밍 응답 DTO
+ * 문장별로 합성된 MP3 조각을 순서대로 방출하는 스트림을 담습니다.
+ */
+public record CallAudioStreamDto(
+        Long sessionId,
+        String transcript,  // 사용자 발화 텍스트 (디버깅용)
+        Flux<byte[]> audio  // 문장 순서대로 이어 붙이면 하나의 MP3가 되는 조각 스트림
+) {}
@@ -1,4 +1,65 @@
 package com.aigf.gf_plz.domain.call.dto;
 
-public class CallEventDto {
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * WebSocket 통화 이벤트 DTO
+ * 텍스트 프레임(JSON)으로 주고받는 통화 이벤트입니다.
+ * 음성 조각은 바이너리 프레임으로 보내는 것을 권장하며, 텍스트 프레임으로 보낼 때는 audio에 Base64로 담습니다.
+ *
+ * 클라이언트 → 서버: AUDIO_CHUNK, UTTERANCE_END, HANG_UP
+ * 서버 → 클라이언트: CONNECTED, TRANSCRIPT, REPLY_TEXT, AUDIO_OUT, REPLY_END, ERROR
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CallEventDto(
+        Type type,
+        Long sessionId,
+        String text,
+        byte[] audio
+) {
+
+    public enum Type {
+        /** 사용자 음성 조각 */
+        AUDIO_CHUNK,
+        /** 사용자 발화 종료 (모인 음성을 인식하고 답변 시작) */
+        UTTERANCE_END,
+        /** 통화 종료 */
+        HANG_UP,
+        /** 통화 연결 완료 */
+        CONNECTED,
+        /** 사용자 발화 인식 결과 */
+        TRANSCRIPT,
+        /** 답변 텍스트 조각 */
+        REPLY_TEXT,
+        /** 답변 음성 조각 (문장 단위 MP3) */
+        AUDIO_OUT,
+        /** 답변 종료 */
+        REPLY_END,
+        /** 오류 */
+        ERROR
+    }
+
+    public static CallEventDto connected(Long sessionId) {
+        return new CallEventDto(Type.CONNECTED, sessionId, null, null);
+    }
+
+    public static CallEventDto transcript(Long sessionId, String text) {
+        return new CallEventDto(Type.TRANSCRIPT, sessionId, text, null);
+    }
+
+    public static CallEventDto replyText(Long sessionId, String text) {
+        return new CallEventDto(Type.REPLY_TEXT, sessionId, text, null);
+    }
+
+    public static CallEventDto audioOut(Long sessionId, byte[] audio) {
+        return new CallEventDto(Type.AUDIO_OUT, sessionId, null, audio);
+    }
+
+    public static CallEventDto replyEnd(Long sessionId) {
+        return new CallEventDto(Type.REPLY_END, sessionId, null, null);
+    }
+
+    public static CallEventDto error(Long sessionId, String message) {
+        return new CallEventDto(Type.ERROR, sessionId, message, null);
+    }
 }
@@ -1,4 +1,167 @@
 package com.aigf.gf_plz.domain.call.entity;
 
+import com.aigf.gf_plz.domain.character.entity.VoiceType;
+import com.aigf.gf_plz.domain.session.dto.ConversationTurnDto;
+import com.aigf.gf_plz.global.cancellation.CancellationToken;
+import com.aigf.gf_plz.global.groq.GroqMessage;
+import lombok.AccessLevel;
+import lombok.Getter;
+import reactor.core.Disposable;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * WebSocket 통화 세션 (인메모리)
+ * 통화가 연결되어 있는 동안 캐릭터, 시스템 프롬프트, 목소리, 최근 대화 히스토리를 들고 있어
+ * 발화마다 세션/캐릭터/히스토리를 다시 조회하지 않습니다.
+ * DB에 저장되는 대화 세션(Session)과는 sessionId로 연결됩니다.
+ */
+@Getter
 public class CallSession {
+
+    /**
+     * WebSocket 연결 ID
+     */
+    private final String connectionId;
+
+    private final Long sessionId;
+    private final Long characterId;
+    private final String systemPrompt;
+    private final VoiceType voiceType;
+
+    /**
+     * 클라이언트가 보내는 음성 포맷 (Whisper 파일 이름 확장자로 사용)
+     */
+    private final String audioFormat;
+
+    private final int maxHistorySize;
+
+    /**
+     * 발화 하나에 모을 수 있는 최대 음성 크기 (바이트)
+     */
+    private final long maxAudioBytes;
+
+    @Getter(AccessLevel.NONE)
+    private final Deque<GroqMessage> history;
+
+    @Getter(AccessLevel.NONE)
+    private final ByteArrayOutputStream audioBuffer = new ByteArrayOutputStream();
+
+    /**
+     * 현재 진행 중인 답변 생성 작업과 취소 토큰 (없으면 null)
+     */
+    @Getter(AccessLevel.NONE)
+    private Disposable inFlightReply;
+
+    @Getter(AccessLevel.NONE)
+    private CancellationToken replyToken;
+
+    private CallSession(String connectionId, ConversationTurnDto conversation, String audioFormat, int maxHistorySize,
+                        long maxAudioBytes) {
+        this.connectionId = connectionId;
+        this.sessionId = conversation.sessionId();
+        this.characterId = conversation.characterId();
+        this.systemPrompt = conversation.systemPrompt();
+        this.voiceType = conversation.voiceType();
+        this.audioFormat = audioFormat;
+        this.maxHistorySize = maxHistorySize;
+        this.maxAudioBytes = maxAudioBytes;
+        this.history = new ArrayDeque<>(conversation.history());
+        trimHistory();
+    }
+
+    /**
+     * 연결 시 조회한 대화 정보로 통화 세션을 생성합니다.
+     */
+    public static CallSession open(String connectionId, ConversationTurnDto conversation, String audioFormat,
+                                   int maxHistorySize, long maxAudioBytes) {
+        return new CallSession(connectionId, conversation, audioFormat, maxHistorySize, maxAudioBytes);
+    }
+
+    /**
+     * 수신한 음성 조각을 발화 버퍼에 추가합니다.
+     * 추가하면 최대 크기를 넘는 경우 추가하지 않고 버퍼를 비웁니다.
+     *
+     * @return 추가했으면 true, 최대 크기를 넘어 버렸으면 false
+     */
+    public synchronized boolean appendAudio(byte[] chunk) {
+        if ((long) audioBuffer.size() + chunk.length > maxAudioBytes) {
+            audioBuffer.reset();
+            return false;
+        }
+        audioBuffer.writeBytes(chunk);
+        return true;
+    }
+
+    /**
+     * 지금까지 모인 발화 음성을 꺼내고 버퍼를 비웁니다.
+     */
+    public synchronized byte[] drainAudio() {
+        byte[] audio = audioBuffer.toByteArray();
+        audioBuffer.reset();
+        return audio;
+    }
+
+    /**
+     * 히스토리에 메시지를 추가합니다. 최대 크기를 넘으면 오래된 메시지부터 버립니다.
+     */
+    public synchronized void appendHistory(GroqMessage message) {
+        history.addLast(message);
+        trimHistory();
+    }
+
+    /**
+     * 현재 상태로 LLM 호출에 필요한 턴 정보를 만듭니다.
+     * 히스토리는 스냅샷이므로 답변 생성 중에 히스토리가 바뀌어도 영향을 받지 않습니다.
+     */
+    public synchronized ConversationTurnDto toTurn() {
+        return new ConversationTurnDto(sessionId, characterId, List.copyOf(history), systemPrompt, voiceType);
+    }
+
+    /**
+     * 새 답변을 시작합니다. 진행 중인 답변이 있으면 먼저 취소(barge-in)합니다.
+     *
+     * @return 새 답변의 취소 토큰
+     */
+    public synchronized CancellationToken beginReply() {
+        cancelInFlightReply();
+        replyToken = new CancellationToken();
+        return replyToken;
+    }
+
+    /**
+     * 진행 중인 답변 작업을 등록합니다.
+     * 그 사이 답변이 취소되었거나 새 답변이 시작되었으면 바로 중단합니다.
+     */
+    public synchronized void setInFlightReply(CancellationToken token, Disposable inFlightReply) {
+        if (token != replyToken || token.isCancelled()) {
+            inFlightReply.dispose();
+            return;
+        }
+        this.inFlightReply = inFlightReply;
+    }
+
+    /**
+     * 진행 중인 답변 작업이 있으면 취소합니다.
+     * 토큰을 먼저 취소해 Groq 스트리밍과 TTS 요청을 끊고, 구독을 해제해 대기 중인 이벤트를 버립니다.
+     */
+    public synchronized void cancelInFlightReply() {
+        if (replyToken != null) {
+            replyToken.cancel();
+            replyToken = null;
+        }
+        if (inFlightReply != null && !inFlightReply.isDisposed()) {
+            inFlightReply.dispose();
+        }
+        inFlightReply = null;
+    }
+
+    private void trimHistory() {
+        while (history.size() > maxHistorySize) {
+            history.removeFirst();
+        }
+    }
 }
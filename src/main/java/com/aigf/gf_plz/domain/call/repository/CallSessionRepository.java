@@ -1,4 +1,35 @@
 package com.aigf.gf_plz.domain.call.repository;
 
+import com.aigf.gf_plz.domain.call.entity.CallSession;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebSocket 통화 세션 저장소 (인메모리)
+ * 연결된 통화 세션을 WebSocket 연결 ID로 관리합니다.
+ */
+@Repository
 public class CallSessionRepository {
+
+    private final Map<String, CallSession> callSessions = new ConcurrentHashMap<>();
+
+    public CallSession save(CallSession callSession) {
+        callSessions.put(callSession.getConnectionId(), callSession);
+        return callSession;
+    }
+
+    public Optional<CallSession> findByConnectionId(String connectionId) {
+        return Optional.ofNullable(callSessions.get(connectionId));
+    }
+
+    public Optional<CallSession> remove(String connectionId) {
+        return Optional.ofNullable(callSessions.remove(connectionId));
+    }
+
+    public int count() {
+        return callSessions.size();
+    }
 }
@@ -0,0 +1,192 @@
+package com.aigf.gf_plz.domain.call.service;
+
+import com.aigf.gf_plz.domain.message.entity.MessageType;
+import com.aigf.gf_plz.domain.session.dto.ConversationTurnDto;
+import com.aigf.gf_plz.domain.session.service.ConversationTurnService;
+import com.aigf.gf_plz.global.cancellation.CancellationToken;
+import com.aigf.gf_plz.global.groq.GroqClient;
+import com.aigf.gf_plz.global.groq.exception.GroqApiException;
+import com.aigf.gf_plz.global.tts.TtsClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 통화 답변 생성 파이프라인
+ * HTTP 통화(CallServiceImpl)와 WebSocket 통화(CallWebSocketHandler)가 공통으로 사용하는
+ * Groq 답변 생성, 문장 단위 TTS 합성, AI 응답 저장을 담당합니다.
+ */
+@Component
+public class CallReplyPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(CallReplyPipeline.class);
+    private static final String DEFAULT_ERROR_REPLY = "죄송합니다. 일시적인 오류가 발생했습니다. 잠시 후 다시 시도해주세요.";
+
+    private final GroqClient groqClient;
+    private final TtsClient ttsClient;
+    private final ConversationTurnService conversationTurnService;
+    private final Scheduler dbScheduler;
+    private final int ttsConcurrency;
+
+    public CallReplyPipeline(
+            GroqClient groqClient,
+            TtsClient ttsClient,
+            ConversationTurnService conversationTurnService,
+            Scheduler dbScheduler,
+            @Value("${call.pipeline.tts-concurrency:3}") int ttsConcurrency
+    ) {
+        this.groqClient = groqClient;
+        this.ttsClient = ttsClient;
+        this.conversationTurnService = conversationTurnService;
+        this.dbScheduler = dbScheduler;
+        this.ttsConcurrency = ttsConcurrency;
+    }
+
+    /**
+     * Groq API를 호출하여 통화 답변을 생성합니다.
+     * 실패 시 사용자 친화적인 안내 문구를 답변으로 반환합니다.
+     */
+    public String generateReply(ConversationTurnDto turn, String transcript) {
+        try {
+            return groqClient.generateReply("call", transcript, turn.history(), turn.systemPrompt());
+        } catch (GroqApiException e) {
+            logger.error("Groq API 호출 실패 - SessionId: {}, CharacterId: {}, Error: {}", 
+                    turn.sessionId(), turn.characterId(), e.getMessage(), e);
+            // 상태 코드에 따라 다른 사용자 메시지 반환
+            return getUserFriendlyErrorMessage(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Groq API 호출 중 예상치 못한 오류 - SessionId: {}, CharacterId: {}", 
+                    turn.sessionId(), turn.characterId(), e);
+            return DEFAULT_ERROR_REPLY;
+        }
+    }
+
+    /**
+     * Groq API를 논블로킹으로 호출하여 통화 답변을 생성합니다.
+     * 실패 시 사용자 친화적인 안내 문구를 답변으로 반환합니다.
+     */
+    public Mono<String> generateReplyAsync(ConversationTurnDto turn, String transcript) {
+        return groqClient.generateReplyAsync("call", transcript, turn.history(), turn.systemPrompt())
+                .onErrorResume(e -> {
+                    logger.error("Groq API 호출 실패 - SessionId: {}, CharacterId: {}, Error: {}", 
+                            turn.sessionId(), turn.characterId(), e.getMessage(), e);
+                    return Mono.just(e instanceof GroqApiException
+                            ? getUserFriendlyErrorMessage(e.getMessage())
+                            : DEFAULT_ERROR_REPLY);
+                });
+    }
+
+    /**
+     * Groq 답변을 스트리밍으로 받으면서 조합하고, 스트림이 끝나면 AI 응답을 저장합니다.
+     * Groq 호출이 실패하면 안내 문구를 답변으로 사용합니다 (일반 통화와 동일).
+     * 토큰이 취소되거나 구독이 해제(barge-in, 연결 종료)되어도 그때까지 생성된 답변은 저장합니다.
+     * 저장은 스트림 종료 신호에서 DB 스케줄러로 넘기므로 다운스트림 구독과 관계없이 수행됩니다.
+     */
+    public Flux<String> streamReply(ConversationTurnDto turn, String transcript, CancellationToken cancellationToken) {
+        return Flux.defer(() -> {
+            StringBuilder assembledReply = new StringBuilder();
+            AtomicBoolean saved = new AtomicBoolean();
+
+            return groqClient
+                    .streamReply("call", transcript, turn.history(), turn.systemPrompt(), cancellationToken)
+                    .onErrorResume(e -> {
+                        logger.error("Groq 스트리밍 호출 실패 - SessionId: {}, CharacterId: {}, Error: {}", 
+                                turn.sessionId(), turn.characterId(), e.getMessage(), e);
+                        if (!assembledReply.isEmpty()) {
+                            // 이미 전송 중인 답변이 있으면 거기서 마무리
+                            return Flux.empty();
+                        }
+                        return Flux.just(e instanceof GroqApiException
+                                ? getUserFriendlyErrorMessage(e.getMessage())
+                                : DEFAULT_ERROR_REPLY);
+                    })
+                    .doOnNext(token -> {
+                        synchronized (assembledReply) {
+                            assembledReply.append(token);
+                        }
+                    })
+                    .doFinally(signal -> {
+                        String reply;
+                        synchronized (assembledReply) {
+                            reply = assembledReply.toString();
+                        }
+                        if (reply.isEmpty() && signal != SignalType.ON_COMPLETE) {
+                            // 답변이 시작되기 전에 취소되면 저장할 내용이 없음
+                            return;
+                        }
+                        if (saved.compareAndSet(false, true)) {
+                            dbScheduler.schedule(() -> saveAssistantReply(turn.sessionId(), reply));
+                        }
+                    });
+        });
+    }
+
+    /**
+     * 답변 토큰 스트림을 문장 단위로 잘라 TTS로 합성합니다.
+     * 문장들은 동시에 합성하지만 결과는 문장 순서대로 방출합니다.
+     * 토큰이 취소되면 진행 중인 TTS 요청을 취소하고, 합성되어 대기 중인 음성도 버립니다.
+     */
+    public Flux<byte[]> synthesizeSentences(Flux<String> tokens, ConversationTurnDto turn,
+                                            CancellationToken cancellationToken) {
+        return SentenceChunker.chunk(tokens)
+                .flatMapSequential(sentence -> synthesizeSentence(turn, sentence, cancellationToken), ttsConcurrency)
+                .takeUntilOther(cancellationToken.whenCancelled());
+    }
+
+    /**
+     * AI 응답 메시지를 TRANSCRIPT 타입으로 저장합니다.
+     * 저장에 실패해도 사용자 메시지는 이미 저장되었으므로 예외를 전파하지 않습니다.
+     */
+    public void saveAssistantReply(Long sessionId, String reply) {
+        try {
+            conversationTurnService.saveAssistantReply(sessionId, reply, MessageType.TRANSCRIPT);
+        } catch (Exception e) {
+            logger.error("AI 응답 메시지 저장 실패 - SessionId: {}", sessionId, e);
+        }
+    }
+
+    /**
+     * 문장 하나를 TTS로 합성합니다. 실패하거나 취소된 문장은 건너뜁니다.
+     */
+    private Mono<byte[]> synthesizeSentence(ConversationTurnDto turn, String sentence,
+                                            CancellationToken cancellationToken) {
+        return Mono.fromCallable(() -> ttsClient.synthesize(sentence, turn.voiceType().name(), cancellationToken))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(CancellationException.class, e -> Mono.empty())
+                .onErrorResume(e -> {
+                    logger.error("문장 TTS 합성 실패 - SessionId: {}, Sentence: {}", turn.sessionId(), sentence, e);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Groq API 에러 메시지에서 상태 코드를 추출하여 사용자 친화적인 메시지를 반환합니다.
+     */
+    private String getUserFriendlyErrorMessage(String errorMessage) {
+        if (errorMessage == null) {
+            return DEFAULT_ERROR_REPLY;
+        }
+
+        if (errorMessage.contains("(401)")) {
+            return "죄송합니다. 서비스 설정에 문제가 있어 대화를 이어갈 수 없습니다. 관리자에게 문의해주세요.";
+        } else if (errorMessage.contains("(429)")) {
+            return "죄송합니다. 현재 요청이 너무 많아 잠시 대기 중입니다. 잠시 후 다시 시도해주세요.";
+        } else if (errorMessage.contains("(500)") || errorMessage.contains("(502)") 
+                || errorMessage.contains("(503)") || errorMessage.contains("(504)")) {
+            return "죄송합니다. AI 서버에 일시적인 문제가 발생했습니다. 잠시 후 다시 시도해주세요.";
+        } else if (errorMessage.contains("(400)")) {
+            return "죄송합니다. 요청 처리 중 오류가 발생했습니다. 다시 시도해주세요.";
+        } else {
+            return DEFAULT_ERROR_REPLY;
+        }
+    }
+}
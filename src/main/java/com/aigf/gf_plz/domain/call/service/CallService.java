@@ -2,9 +2,11 @@ package com.aigf.gf_plz.domain.call.service;
 
 import com.aigf.gf_plz.domain.call.dto.CallAudioRequestDto;
 import com.aigf.gf_plz.domain.call.dto.CallAudioResponseDto;
+import com.aigf.gf_plz.domain.call.dto.CallAudioStreamDto;
 import com.aigf.gf_plz.domain.call.dto.CallTextRequestDto;
 import com.aigf.gf_plz.domain.call.dto.CallTextResponseDto;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
 
 /**
  * 통화 서비스 인터페이스
@@ -26,4 +28,24 @@ public interface CallService {
      * @return AI 여자친구의 음성 응답 (MP3 형식)
      */
     CallAudioResponseDto replyToAudio(MultipartFile audioFile, CallAudioRequestDto request);
+
+    /**
+     * replyToAudio의 논블로킹 버전입니다.
+     * Whisper, Groq, TTS 응답을 기다리는 동안 서블릿 스레드를 점유하지 않으며, DB 작업은 전용 스케줄러에서 실행합니다.
+     *
+     * @param audioFile 사용자의 음성 파일
+     * @param request 캐릭터 및 세션 정보
+     * @return AI 여자친구의 음성 응답 (MP3 형식)
+     */
+    Mono<CallAudioResponseDto> replyToAudioAsync(MultipartFile audioFile, CallAudioRequestDto request);
+
+    /**
+     * 음성 파일을 받아서 STT → AI 답변 스트리밍 → 문장별 TTS를 파이프라인으로 수행합니다.
+     * 첫 문장의 음성이 준비되는 즉시 전송을 시작하고, 이후 문장은 순서대로 이어서 전송합니다.
+     *
+     * @param audioFile 사용자의 음성 파일
+     * @param request 캐릭터 및 세션 정보
+     * @return 문장별 MP3 조각 스트림
+     */
+    CallAudioStreamDto replyToAudioStream(MultipartFile audioFile, CallAudioRequestDto request);
 }
@@ -0,0 +1,63 @@
+package com.aigf.gf_plz.domain.call.service;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LLM 토큰 스트림을 문장 단위로 묶는 유틸리티
+ * 문장이 완성되는 즉시 방출하여, 답변 생성이 끝나기 전에 TTS를 시작할 수 있게 합니다.
+ *
+ * 문장 경계: 종결 부호(. ? ! … ~) 뒤에 공백이 오는 위치, 또는 줄바꿈.
+ * 종결 부호가 토큰 끝에 있으면 다음 토큰을 기다립니다 ("..." 나 "3.5" 같은 경우를 잘못 자르지 않도록).
+ */
+public final class SentenceChunker {
+
+    private SentenceChunker() {
+    }
+
+    /**
+     * 토큰 스트림을 문장 스트림으로 변환합니다.
+     * 스트림이 끝나면 남은 텍스트를 마지막 문장으로 방출합니다.
+     */
+    public static Flux<String> chunk(Flux<String> tokens) {
+        return Flux.defer(() -> {
+            StringBuilder buffer = new StringBuilder();
+            return tokens
+                    .concatMapIterable(token -> {
+                        buffer.append(token);
+                        return drainSentences(buffer);
+                    })
+                    .concatWith(Mono.fromSupplier(() -> buffer.toString().trim())
+                            .filter(rest -> !rest.isEmpty()));
+        });
+    }
+
+    /**
+     * 버퍼에서 완성된 문장을 꺼내고, 나머지 미완성 텍스트만 버퍼에 남깁니다.
+     */
+    static List<String> drainSentences(StringBuilder buffer) {
+        List<String> sentences = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < buffer.length(); i++) {
+            char c = buffer.charAt(i);
+            boolean boundary = c == '\n'
+                    || (isTerminator(c) && i + 1 < buffer.length() && Character.isWhitespace(buffer.charAt(i + 1)));
+            if (boundary) {
+                String sentence = buffer.substring(start, i + 1).trim();
+                if (!sentence.isEmpty()) {
+                    sentences.add(sentence);
+                }
+                start = i + 1;
+            }
+        }
+        buffer.delete(0, start);
+        return sentences;
+    }
+
+    private static boolean isTerminator(char c) {
+        return c == '.' || c == '?' || c == '!' || c == '…' || c == '~';
+    }
+}
@@ -0,0 +1,53 @@
+package com.aigf.gf_plz.domain.character.cache;
+
+import com.aigf.gf_plz.domain.character.entity.Character;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Character 엔티티 변경 시 캐릭터 캐시를 비우는 JPA 엔티티 리스너
+ * update* 메서드로 변경된 캐릭터가 flush되면 캐릭터 캐시를, 삭제되면 프롬프트 캐시까지 비웁니다.
+ *
+ * EntityManagerFactory 생성 시점에 캐시 빈을 만들지 않도록 ObjectProvider로 지연 조회합니다.
+ */
+public class CharacterCacheEvictionListener {
+
+    private final ObjectProvider<CharacterPromptCache> characterPromptCache;
+
+    public CharacterCacheEvictionListener(ObjectProvider<CharacterPromptCache> characterPromptCache) {
+        this.characterPromptCache = characterPromptCache;
+    }
+
+    @PostUpdate
+    public void onUpdate(Character character) {
+        evictAfterCommit(character.getCharacterId(), CharacterPromptCache::evict);
+    }
+
+    @PostRemove
+    public void onRemove(Character character) {
+        evictAfterCommit(character.getCharacterId(), CharacterPromptCache::remove);
+    }
+
+    private void evictAfterCommit(Long characterId, BiConsumer<CharacterPromptCache, Long> eviction) {
+        CharacterPromptCache cache = characterPromptCache.getIfAvailable();
+        if (cache == null) {
+            return;
+        }
+        eviction.accept(cache, characterId);
+
+        // 커밋 전에 다른 요청이 이전 값을 다시 캐싱했을 수 있으므로 커밋 후 한 번 더 비움
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.accept(cache, characterId);
+                }
+            });
+        }
+    }
+}
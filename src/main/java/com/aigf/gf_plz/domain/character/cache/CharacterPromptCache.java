@@ -0,0 +1,104 @@
+package com.aigf.gf_plz.domain.character.cache;
+
+import com.aigf.gf_plz.domain.character.dto.CharacterPromptDto;
+import com.aigf.gf_plz.domain.character.entity.Character;
+import com.aigf.gf_plz.domain.character.exception.CharacterNotFoundException;
+import com.aigf.gf_plz.domain.character.repository.CharacterRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 캐릭터 및 시스템 프롬프트 캐시
+ *
+ * - 캐릭터 캐시: characterId → 대화에 필요한 캐릭터 스냅샷. 매 턴마다 findById를 호출하지 않습니다.
+ *   캐릭터가 수정/삭제되면 CharacterCacheEvictionListener가 제거합니다.
+ * - 프롬프트 캐시: characterId → (페르소나 필드, 렌더링된 시스템 프롬프트).
+ *   관계/애정도처럼 페르소나와 무관한 필드가 바뀌어 캐릭터 캐시가 비워져도 프롬프트는 다시 만들지 않고,
+ *   페르소나 필드가 하나라도 다르면 다시 렌더링하여 교체합니다. 캐릭터가 삭제되면 함께 제거합니다.
+ */
+@Component
+public class CharacterPromptCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CharacterPromptCache.class);
+
+    private final CharacterRepository characterRepository;
+    private final Cache<Long, CharacterPromptDto> characters;
+    private final Cache<Long, RenderedPrompt> prompts;
+
+    public CharacterPromptCache(
+            CharacterRepository characterRepository,
+            @Value("${character.cache.max-size:1000}") long maxSize,
+            @Value("${character.cache.ttl-minutes:60}") long ttlMinutes
+    ) {
+        this.characterRepository = characterRepository;
+        this.characters = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofMinutes(ttlMinutes))
+                .build();
+        this.prompts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    /**
+     * 캐릭터 스냅샷(시스템 프롬프트 포함)을 반환합니다.
+     * 캐시에 없으면 DB에서 조회하여 채웁니다.
+     *
+     * @param characterId 캐릭터 ID
+     * @return 캐릭터 스냅샷
+     * @throws CharacterNotFoundException 캐릭터가 존재하지 않을 때
+     */
+    public CharacterPromptDto get(Long characterId) {
+        return characters.get(characterId, this::load);
+    }
+
+    /**
+     * 캐릭터 캐시를 비웁니다. 프롬프트는 다시 조회할 때 페르소나 필드를 비교하므로 그대로 둡니다.
+     */
+    public void evict(Long characterId) {
+        characters.invalidate(characterId);
+        logger.debug("캐릭터 캐시 제거 - CharacterId: {}", characterId);
+    }
+
+    /**
+     * 삭제된 캐릭터의 캐릭터 캐시와 프롬프트 캐시를 모두 비웁니다.
+     */
+    public void remove(Long characterId) {
+        characters.invalidate(characterId);
+        prompts.invalidate(characterId);
+        logger.debug("캐릭터/프롬프트 캐시 제거 - CharacterId: {}", characterId);
+    }
+
+    private CharacterPromptDto load(Long characterId) {
+        Character character = characterRepository.findById(characterId)
+                .orElseThrow(() -> new CharacterNotFoundException(characterId));
+        String systemPrompt = systemPrompt(character);
+        return new CharacterPromptDto(
+                characterId,
+                character.getName(),
+                character.getVoiceType(),
+                systemPrompt
+        );
+    }
+
+    /**
+     * 같은 페르소나로 렌더링한 프롬프트가 있으면 재사용하고, 없거나 페르소나가 바뀌었으면 다시 렌더링합니다.
+     */
+    private String systemPrompt(Character character) {
+        Character.Persona persona = character.persona();
+        RenderedPrompt rendered = prompts.asMap().compute(character.getCharacterId(), (id, cached) ->
+                cached != null && cached.persona().equals(persona)
+                        ? cached
+                        : new RenderedPrompt(persona, character.generateFullSystemPrompt()));
+        return rendered.systemPrompt();
+    }
+
+    private record RenderedPrompt(Character.Persona persona, String systemPrompt) {}
+}
@@ -1,10 +1,13 @@
 package com.aigf.gf_plz.domain.character.controller;
 
+import com.aigf.gf_plz.domain.character.dto.RelationFinalizationStatusDto;
 import com.aigf.gf_plz.domain.character.dto.ThreeDaysRelationRequestDto;
 import com.aigf.gf_plz.domain.character.dto.ThreeDaysRelationResponseDto;
 import com.aigf.gf_plz.domain.character.service.ThreeDaysRelationService;
 import jakarta.validation.Valid;
 import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -27,5 +30,14 @@ public class ThreeDaysRelationController {
     public ThreeDaysRelationResponseDto createThreeDayRelation(@Valid @RequestBody ThreeDaysRelationRequestDto request) {
         return threeDaysRelationService.updateRelation(request);
     }
+
+    /**
+     * 한줄평/애정도 평가 작업 상태를 조회합니다.
+     * status가 SUCCEEDED 또는 FAILED가 되면 aiSummary와 like가 최종 값입니다.
+     */
+    @GetMapping(value = "/three-days/{characterId}", produces = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8")
+    public RelationFinalizationStatusDto getThreeDayRelationStatus(@PathVariable Long characterId) {
+        return threeDaysRelationService.getFinalizationStatus(characterId);
+    }
 }
 
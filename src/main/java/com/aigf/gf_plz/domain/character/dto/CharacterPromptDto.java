@@ -0,0 +1,14 @@
+package com.aigf.gf_plz.domain.character.dto;
+
+import com.aigf.gf_plz.domain.character.entity.VoiceType;
+
+/**
+ * 대화 턴 처리에 필요한 캐릭터 정보 스냅샷
+ * 영속성 컨텍스트와 무관하게 캐시에 보관할 수 있도록 엔티티 대신 값만 담습니다.
+ */
+public record CharacterPromptDto(
+        Long characterId,
+        String name,
+        VoiceType voiceType,
+        String systemPrompt
+) {}
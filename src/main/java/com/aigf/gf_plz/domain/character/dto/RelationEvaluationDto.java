@@ -0,0 +1,12 @@
+package com.aigf.gf_plz.domain.character.dto;
+
+/**
+ * 3일 관계 종료 시 AI 평가 결과 (Groq JSON 모드 응답)
+ *
+ * @param summary 전여친에게 건넬 한줄평 (생성 실패 시 null)
+ * @param affection 애정도 점수 (0-100)
+ */
+public record RelationEvaluationDto(
+        String summary,
+        Integer affection
+) {}
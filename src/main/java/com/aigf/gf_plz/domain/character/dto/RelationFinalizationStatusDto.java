@@ -0,0 +1,15 @@
+package com.aigf.gf_plz.domain.character.dto;
+
+import com.aigf.gf_plz.domain.character.entity.FinalizationStatus;
+
+/**
+ * 관계 종료 후처리 작업 상태 응답
+ * 작업이 끝나면(SUCCEEDED / FAILED) aiSummary와 like에 최종 값이 담깁니다.
+ */
+public record RelationFinalizationStatusDto(
+        Long characterId,
+        FinalizationStatus status,
+        Integer attempts,
+        String aiSummary,
+        Integer like
+) {}
@@ -1,13 +1,15 @@
 package com.aigf.gf_plz.domain.character.dto;
 
+import com.aigf.gf_plz.domain.character.entity.FinalizationStatus;
 import com.aigf.gf_plz.domain.character.entity.Relation;
 
 /**
  * 3일 결과 API 응답으로 넘어가는 결과 정보
+ * 한줄평과 애정도는 비동기로 평가되므로 finalization 상태를 GET /api/relations/three-days/{characterId}로 확인합니다.
  */
 public record ThreeDaysRelationResponseDto(
         String status,
         Long characterId,
-        Relation newRelation
+        Relation newRelation,
+        FinalizationStatus finalization
 ) {}
-
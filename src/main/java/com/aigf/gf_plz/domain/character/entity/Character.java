@@ -1,5 +1,7 @@
 package com.aigf.gf_plz.domain.character.entity;
 
+import com.aigf.gf_plz.domain.character.cache.CharacterCacheEvictionListener;
+import com.aigf.gf_plz.global.persistence.IdSequenceAligner;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -13,13 +15,18 @@ import java.time.LocalDateTime;
  * Status 정보도 함께 관리하도록 통합
  */
 @Entity
-@Table(name = "Character")
+@Table(name = "Character", indexes = {
+        // 만료된 관계 조회 (관계 = now AND 헤어지는 날짜 < 현재)
+        @Index(name = "idx_character_relation_end_day", columnList = "관계, 헤어지는 날짜")
+})
+@EntityListeners(CharacterCacheEvictionListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Character {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "character_seq")
+    @SequenceGenerator(name = "character_seq", sequenceName = "character_seq", allocationSize = IdSequenceAligner.ALLOCATION_SIZE)
     @Column(name = "캐릭터ID")
     private Long characterId;
 
@@ -144,6 +151,26 @@ public class Character {
     }
     // ---------------------------
 
+    /**
+     * 시스템 프롬프트에 반영되는 페르소나 필드를 반환합니다.
+     * 프롬프트 캐시에서 렌더링된 프롬프트가 현재 페르소나로 만든 것인지 비교하는 데 사용합니다.
+     */
+    public Persona persona() {
+        return new Persona(mbti, teto, attachment, gender, name, description);
+    }
+
+    /**
+     * 시스템 프롬프트에 반영되는 페르소나 필드 묶음
+     */
+    public record Persona(
+            Mbti mbti,
+            Integer teto,
+            AttachmentType attachment,
+            Gender gender,
+            String name,
+            String description
+    ) {}
+
     /**
      * AI에게 전달할 전체 시스템 프롬프트를 생성합니다.
      * 캐릭터의 성격 정보를 포함한 상세한 프롬프트를 반환합니다.
@@ -0,0 +1,15 @@
+package com.aigf.gf_plz.domain.character.entity;
+
+/**
+ * 관계 종료 후처리(한줄평, 애정도 평가) 작업 상태 ENUM
+ * PENDING: 처리 대기 (재시도 대기 포함)
+ * RUNNING: 워커가 처리 중
+ * SUCCEEDED: 평가 결과 반영 완료
+ * FAILED: 재시도 횟수를 모두 사용해 기본값으로 마무리
+ */
+public enum FinalizationStatus {
+    PENDING,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
@@ -0,0 +1,97 @@
+package com.aigf.gf_plz.domain.character.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관계 종료 후처리 작업 엔티티
+ * 3일 결과 API는 관계만 ex로 바꾸고 이 작업을 남긴 뒤 바로 응답하며,
+ * 워커가 작업을 가져가 한줄평과 애정도를 평가해 캐릭터에 반영합니다.
+ * 캐릭터마다 작업은 하나이므로 같은 요청이 반복되어도 작업이 중복 생성되지 않습니다.
+ */
+@Entity
+@Table(name = "RelationFinalizationJob", indexes = {
+        @Index(name = "idx_finalization_status_next_attempt", columnList = "상태, 다음 시도 시간")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RelationFinalizationJob {
+
+    @Id
+    @Column(name = "캐릭터ID")
+    private Long characterId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "상태", nullable = false)
+    private FinalizationStatus status;
+
+    @Column(name = "시도 횟수", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "다음 시도 시간", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "오류", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "생성 시간", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "수정 시간", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public RelationFinalizationJob(Long characterId) {
+        LocalDateTime now = LocalDateTime.now();
+        this.characterId = characterId;
+        this.status = FinalizationStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+
+    /**
+     * 처리 대기 또는 처리 중인 작업인지 확인합니다.
+     */
+    public boolean isInProgress() {
+        return status == FinalizationStatus.PENDING || status == FinalizationStatus.RUNNING;
+    }
+
+    /**
+     * 다시 관계가 끝난 캐릭터의 작업을 처음 상태로 되돌립니다.
+     */
+    public void restart() {
+        LocalDateTime now = LocalDateTime.now();
+        this.status = FinalizationStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.lastError = null;
+        this.updatedAt = now;
+    }
+
+    public void succeed() {
+        this.status = FinalizationStatus.SUCCEEDED;
+        this.lastError = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 실패한 작업을 지정한 시각에 다시 시도하도록 대기 상태로 돌립니다.
+     */
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.status = FinalizationStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = error;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void fail(String error) {
+        this.status = FinalizationStatus.FAILED;
+        this.lastError = error;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
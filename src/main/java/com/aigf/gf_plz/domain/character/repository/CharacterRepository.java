@@ -3,8 +3,12 @@ package com.aigf.gf_plz.domain.character.repository;
 import com.aigf.gf_plz.domain.character.entity.Character;
 import com.aigf.gf_plz.domain.character.entity.Gender;
 import com.aigf.gf_plz.domain.character.entity.Relation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -35,4 +39,19 @@ public interface CharacterRepository extends JpaRepository<Character, Long> {
      * @return 캐릭터 목록
      */
     List<Character> findByRelationAndGender(Relation relation, Gender gender);
-}
\ No newline at end of file
+
+    /**
+     * 헤어지는 날짜가 지난 관계의 캐릭터 ID를 오래된 순으로 조회합니다.
+     *
+     * @param relation 관계 상태 (now)
+     * @param now 기준 시각
+     * @param pageable 한 번에 처리할 개수
+     * @return 캐릭터 ID 목록
+     */
+    @Query("SELECT c.characterId FROM Character c WHERE c.relation = :relation AND c.endDay < :now ORDER BY c.endDay")
+    List<Long> findExpiredCharacterIds(
+            @Param("relation") Relation relation,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+}
@@ -0,0 +1,79 @@
+package com.aigf.gf_plz.domain.character.repository;
+
+import com.aigf.gf_plz.domain.character.entity.RelationFinalizationJob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 관계 종료 후처리 작업 리포지토리
+ */
+public interface RelationFinalizationJobRepository extends JpaRepository<RelationFinalizationJob, Long> {
+
+    /**
+     * 처리할 시각이 된 대기 작업의 캐릭터 ID를 오래된 순으로 조회합니다.
+     */
+    @Query("SELECT j.characterId FROM RelationFinalizationJob j " +
+           "WHERE j.status = com.aigf.gf_plz.domain.character.entity.FinalizationStatus.PENDING " +
+           "AND j.nextAttemptAt <= :now ORDER BY j.nextAttemptAt")
+    List<Long> findDueCharacterIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 대기 작업을 처리 중으로 바꾸고 시도 횟수를 올립니다.
+     * 조건부 UPDATE이므로 여러 워커(인스턴스)가 같은 작업을 가져가도 한 곳만 성공합니다.
+     *
+     * @return 가져간 작업 수 (0이면 다른 워커가 이미 가져갔거나 아직 처리할 시각이 아님)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RelationFinalizationJob j " +
+           "SET j.status = com.aigf.gf_plz.domain.character.entity.FinalizationStatus.RUNNING, " +
+           "j.attempts = j.attempts + 1, j.updatedAt = :now " +
+           "WHERE j.characterId = :characterId " +
+           "AND j.status = com.aigf.gf_plz.domain.character.entity.FinalizationStatus.PENDING " +
+           "AND j.nextAttemptAt <= :now")
+    int claim(@Param("characterId") Long characterId, @Param("now") LocalDateTime now);
+
+    /**
+     * 처리 중인 채로 오래 갱신되지 않은 작업(워커 종료 등)을 다시 대기 상태로 돌립니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RelationFinalizationJob j " +
+           "SET j.status = com.aigf.gf_plz.domain.character.entity.FinalizationStatus.PENDING, " +
+           "j.nextAttemptAt = :now, j.updatedAt = :now " +
+           "WHERE j.status = com.aigf.gf_plz.domain.character.entity.FinalizationStatus.RUNNING " +
+           "AND j.updatedAt < :staleBefore")
+    int releaseStale(@Param("staleBefore") LocalDateTime staleBefore, @Param("now") LocalDateTime now);
+
+    /**
+     * 처리 중인 작업의 lease를 갱신합니다 (수정 시간을 현재 시각으로).
+     * 가져갈 때의 시도 횟수와 같을 때만 갱신하므로, 이미 다른 워커가 다시 가져간 작업은 건드리지 않습니다.
+     *
+     * @return 갱신한 작업 수 (0이면 lease를 잃음)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RelationFinalizationJob j SET j.updatedAt = :now " +
+           "WHERE j.characterId = :characterId " +
+           "AND j.status = com.aigf.gf_plz.domain.character.entity.FinalizationStatus.RUNNING " +
+           "AND j.attempts = :attempt")
+    int renewLease(@Param("characterId") Long characterId, @Param("attempt") int attempt,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * 가져간 작업을 아직 그 시도가 잡고 있으면 행 잠금과 함께 조회합니다.
+     * 결과 반영 중에 releaseStale이 작업을 되돌리지 못하도록 트랜잭션이 끝날 때까지 잠급니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM RelationFinalizationJob j " +
+           "WHERE j.characterId = :characterId " +
+           "AND j.status = com.aigf.gf_plz.domain.character.entity.FinalizationStatus.RUNNING " +
+           "AND j.attempts = :attempt")
+    Optional<RelationFinalizationJob> findClaimed(@Param("characterId") Long characterId, @Param("attempt") int attempt);
+}
@@ -1,181 +1,150 @@
 package com.aigf.gf_plz.domain.character.service;
 
+import com.aigf.gf_plz.domain.character.dto.RelationEvaluationDto;
 import com.aigf.gf_plz.domain.character.entity.Character;
-import com.aigf.gf_plz.domain.message.entity.Message;
+import com.aigf.gf_plz.domain.message.dto.MessageTranscriptDto;
 import com.aigf.gf_plz.domain.message.entity.SenderRole;
 import com.aigf.gf_plz.domain.message.repository.MessageRepository;
 import com.aigf.gf_plz.domain.session.entity.SessionType;
 import com.aigf.gf_plz.domain.session.repository.SessionRepository;
 import com.aigf.gf_plz.global.groq.GroqClient;
 import com.aigf.gf_plz.global.groq.GroqMessage;
+import com.aigf.gf_plz.global.groq.GroqPriority;
 import com.aigf.gf_plz.global.groq.exception.GroqApiException;
+import com.aigf.gf_plz.global.groq.prompt.PromptBudgeter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 /**
  * AI 리뷰 요약 생성 서비스
+ * 관계 종료 시 한줄평과 애정도를 한 번의 Groq 요청으로 평가합니다.
  */
 @Service
 public class AiReviewService {
 
     private static final Logger log = LoggerFactory.getLogger(AiReviewService.class);
-    private static final int MAX_HISTORY = 30;
+
+    private static final int DEFAULT_AFFECTION = 50;
+
+    private static final String EVALUATION_SYSTEM_PROMPT = """
+            사용자와 캐릭터의 대화를 분석해 관계를 평가하는 AI입니다.
+            반드시 다음 형식의 JSON 객체 하나만 반환합니다: {"summary": string, "affection": integer}
+
+            summary: 대화를 바탕으로 사랑과 아쉬움을 담아 전여친에게 건넬 한줄평을 한국어 한 문장으로 진심 있게 작성합니다.
+            예: "우리가 함께한 시간 고마웠고, 이제는 너에게 더 나은 사람이 나타나길 바랄게."
+
+            affection: 대화의 적절성, 긍정성, 존중, 관심 등을 종합해 0부터 100까지의 정수로 평가합니다.
+            - 대화가 적절하고 정중했으면 높은 점수 (80-100점)
+            - 대화가 긍정적이고 서로를 존중했으면 높은 점수 (70-90점)
+            - 대화가 평범하고 무난했으면 중간 점수 (40-70점)
+            - 대화가 부적절하거나 부정적이면 낮은 점수 (0-40점)
+            - 모욕적이거나 비정상적인 내용이 있으면 매우 낮은 점수 (0-20점)
+            """;
 
     private final GroqClient groqClient;
     private final SessionRepository sessionRepository;
     private final MessageRepository messageRepository;
+    private final PromptBudgeter promptBudgeter;
+    private final int maxMessages;
 
     public AiReviewService(
             GroqClient groqClient,
             SessionRepository sessionRepository,
-            MessageRepository messageRepository
+            MessageRepository messageRepository,
+            PromptBudgeter promptBudgeter,
+            @Value("${relation.review.max-messages:100}") int maxMessages
     ) {
         this.groqClient = groqClient;
         this.sessionRepository = sessionRepository;
         this.messageRepository = messageRepository;
+        this.promptBudgeter = promptBudgeter;
+        this.maxMessages = maxMessages;
     }
 
-    public String generateReview(Character character) {
-        List<GroqMessage> history = collectConversation(character);
-
-        String systemPrompt = "사용자와 캐릭터의 대화를 바탕으로 전여친에게 남길 한줄평을 정리하는 AI입니다.";
+    /**
+     * 대화 내용을 한 번만 수집해 한줄평과 애정도를 하나의 Groq JSON 모드 요청으로 평가합니다.
+     * 대화가 적절하고 긍정적이면 높은 점수, 부적절하거나 부정적이면 낮은 점수를 받습니다.
+     * 호출 실패는 그대로 던지며, 재시도와 최종 실패 시 기본값 처리는 RelationFinalizationWorker가 담당합니다.
+     *
+     * @param character 캐릭터
+     * @return 한줄평(비어 있으면 null)과 애정도 점수 (0-100, 대화가 없으면 50)
+     * @throws GroqApiException Groq API 호출 또는 응답 변환 실패 시
+     */
+    public RelationEvaluationDto evaluateRelation(Character character) {
         String userPrompt = String.format(
-                "%s와의 최근 대화를 보고, 사랑과 아쉬움을 담은 한 문장으로 전여친에게 건넬 한줄평을 한국어로 진심 있게 작성해줘. 예: \"우리가 함께한 시간 고마웠고, 이제는 너에게 더 나은 사람이 나타나길 바랄게.\"",
+                "%s와의 최근 대화를 보고 한줄평과 애정도를 JSON으로 반환해줘.",
                 character.getName()
         );
+        List<GroqMessage> history = collectConversation(character, userPrompt);
 
-        try {
-            return groqClient.generateReply("chat", userPrompt, history, systemPrompt);
-        } catch (GroqApiException e) {
-            log.error("Groq API 호출 실패: {}", e.getMessage());
-            return null;
+        // 대화가 없으면 한줄평 없이 기본 점수 50 반환
+        if (history.isEmpty()) {
+            log.warn("대화 내역이 없어 기본 애정도 50을 반환합니다. CharacterId: {}", character.getCharacterId());
+            return new RelationEvaluationDto(null, DEFAULT_AFFECTION);
         }
-    }
 
-    /**
-     * 대화 내용을 분석하여 애정도를 평가합니다.
-     * 대화가 적절하고 긍정적이면 높은 점수, 부적절하거나 부정적이면 낮은 점수를 반환합니다.
-     * 
-     * @param character 캐릭터
-     * @return 애정도 점수 (0-100)
-     */
-    public Integer evaluateAffection(Character character) {
-        List<GroqMessage> history = collectConversation(character);
+        RelationEvaluationDto evaluation = groqClient.generateJson(
+                userPrompt, history, EVALUATION_SYSTEM_PROMPT, RelationEvaluationDto.class, GroqPriority.BATCH);
 
-        // 대화가 없으면 기본 점수 50 반환
-        if (history == null || history.isEmpty()) {
-            log.warn("대화 내역이 없어 기본 애정도 50을 반환합니다. CharacterId: {}", character.getCharacterId());
-            return 50;
-        }
+        String summary = evaluation.summary() != null && !evaluation.summary().isBlank()
+                ? evaluation.summary().trim()
+                : null;
+        int affection = evaluation.affection() != null
+                ? Math.clamp(evaluation.affection(), 0, 100)
+                : DEFAULT_AFFECTION;
 
-        String systemPrompt = "사용자와 캐릭터의 대화를 분석하여 애정도를 평가하는 AI입니다. " +
-                "대화의 적절성, 긍정성, 존중, 관심 등을 종합적으로 평가하여 0부터 100까지의 점수를 매깁니다.";
-        
-        String userPrompt = String.format(
-                "%s와의 최근 대화를 분석하여 애정도를 평가해주세요.\n\n" +
-                "평가 기준:\n" +
-                "- 대화가 적절하고 정중했으면 높은 점수 (80-100점)\n" +
-                "- 대화가 긍정적이고 서로를 존중했으면 높은 점수 (70-90점)\n" +
-                "- 대화가 평범하고 무난했으면 중간 점수 (40-70점)\n" +
-                "- 대화가 부적절하거나 부정적이면 낮은 점수 (0-40점)\n" +
-                "- 모욕적이거나 비정상적인 내용이 있으면 매우 낮은 점수 (0-20점)\n\n" +
-                "대화 내용을 종합적으로 분석하여 0부터 100까지의 정수 점수만 숫자로 반환해주세요. " +
-                "설명이나 다른 텍스트 없이 숫자만 반환해주세요. 예: 75",
-                character.getName()
-        );
+        log.info("관계 평가 완료 - CharacterId: {}, Score: {}", character.getCharacterId(), affection);
+        return new RelationEvaluationDto(summary, affection);
+    }
 
-        try {
-            String response = groqClient.generateReply("chat", userPrompt, history, systemPrompt);
-            
-            if (response == null || response.isBlank()) {
-                log.warn("애정도 평가 응답이 비어있어 기본 점수 50을 반환합니다. CharacterId: {}", character.getCharacterId());
-                return 50;
-            }
-
-            // 응답에서 숫자만 추출
-            String scoreStr = response.trim().replaceAll("[^0-9]", "");
-            if (scoreStr.isEmpty()) {
-                log.warn("애정도 평가 응답에서 숫자를 찾을 수 없어 기본 점수 50을 반환합니다. 응답: {}, CharacterId: {}", 
-                        response, character.getCharacterId());
-                return 50;
-            }
-
-            int score = Integer.parseInt(scoreStr);
-            
-            // 0-100 범위로 제한
-            if (score < 0) {
-                score = 0;
-            } else if (score > 100) {
-                score = 100;
-            }
-
-            log.info("애정도 평가 완료 - CharacterId: {}, Score: {}", character.getCharacterId(), score);
-            return score;
-
-        } catch (GroqApiException e) {
-            log.error("애정도 평가 Groq API 호출 실패: {}", e.getMessage());
-            return 50; // 에러 발생 시 기본 점수 반환
-        } catch (NumberFormatException e) {
-            log.error("애정도 평가 응답 파싱 실패: {}", e.getMessage());
-            return 50; // 파싱 실패 시 기본 점수 반환
-        } catch (Exception e) {
-            log.error("애정도 평가 중 예상치 못한 오류 발생: {}", e.getMessage(), e);
-            return 50; // 예외 발생 시 기본 점수 반환
-        }
+    /**
+     * 캐릭터와의 최근 대화를 수집합니다.
+     * 채팅과 통화의 가장 최근 세션에서 각각 최신 메시지 max-messages개만 프로젝션으로 조회해 시간순으로 합치고,
+     * 평가 프롬프트를 뺀 입력 토큰 예산 안에서 최신 대화부터 남깁니다.
+     * 토큰 수는 저장된 값을 그대로 사용하고, 저장되지 않은 이전 메시지만 다시 셉니다.
+     */
+    private List<GroqMessage> collectConversation(Character character, String userPrompt) {
+        List<MessageTranscriptDto> messages = new ArrayList<>();
+        messages.addAll(latestMessages(character.getCharacterId(), SessionType.CHAT));
+        messages.addAll(latestMessages(character.getCharacterId(), SessionType.CALL));
+        messages.sort(Comparator.comparing(MessageTranscriptDto::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(MessageTranscriptDto::messageId));
+
+        List<GroqMessage> history = messages.stream()
+                .filter(message -> message.textContent() != null && !message.textContent().isBlank())
+                .map(message -> message.tokenCount() != null
+                        ? new GroqMessage(toRole(message.senderRole()), message.textContent(), message.tokenCount())
+                        : promptBudgeter.message(toRole(message.senderRole()), message.textContent()))
+                .toList();
+        int fixedTokens = promptBudgeter.countSystemPromptTokens(EVALUATION_SYSTEM_PROMPT)
+                + promptBudgeter.countTokens(promptBudgeter.message("user", userPrompt));
+        return promptBudgeter.fitHistory(fixedTokens, history).messages();
     }
 
     /**
-     * 캐릭터와의 대화를 수집합니다.
-     * 채팅과 통화 세션의 메시지를 모두 수집하여 반환합니다.
+     * 캐릭터의 가장 최근 세션에서 최신 메시지를 최대 max-messages개 조회합니다 (최신순).
      */
-    private List<GroqMessage> collectConversation(Character character) {
-        // 채팅 세션 메시지 수집
-        List<Message> chatMessages = sessionRepository
-                .findByCharacterIdAndSessionTypeOrderByLastMessageAtDesc(character.getCharacterId(), SessionType.CHAT)
-                .stream()
-                .findFirst()
-                .map(session -> messageRepository.findBySessionIdOrderByCreatedAtAsc(session.getSessionId()))
-                .orElse(Collections.emptyList());
-        
-        // 통화 세션 메시지 수집
-        List<Message> callMessages = sessionRepository
-                .findByCharacterIdAndSessionTypeOrderByLastMessageAtDesc(character.getCharacterId(), SessionType.CALL)
+    private List<MessageTranscriptDto> latestMessages(Long characterId, SessionType sessionType) {
+        return sessionRepository
+                .findRecentSessionIdsByCharacterIdAndSessionType(characterId, sessionType, PageRequest.of(0, 1))
                 .stream()
                 .findFirst()
-                .map(session -> messageRepository.findBySessionIdOrderByCreatedAtAsc(session.getSessionId()))
-                .orElse(Collections.emptyList());
-        
-        // 두 세션의 메시지를 시간순으로 합침
-        List<Message> allMessages = new java.util.ArrayList<>();
-        allMessages.addAll(chatMessages);
-        allMessages.addAll(callMessages);
-        
-        // 시간순으로 정렬
-        allMessages.sort((m1, m2) -> {
-            if (m1.getCreatedAt() == null && m2.getCreatedAt() == null) return 0;
-            if (m1.getCreatedAt() == null) return -1;
-            if (m2.getCreatedAt() == null) return 1;
-            return m1.getCreatedAt().compareTo(m2.getCreatedAt());
-        });
-        
-        // 최대 개수로 제한하고 GroqMessage로 변환
-        return allMessages.stream()
-                .limit(MAX_HISTORY)
-                .map(this::toGroqMessage)
-                .toList();
+                .map(sessionId -> messageRepository.findLatestTranscriptBySessionId(sessionId, PageRequest.of(0, maxMessages)))
+                .orElse(List.of());
     }
 
-    private GroqMessage toGroqMessage(Message message) {
-        String role = switch (message.getSenderRole()) {
+    private String toRole(SenderRole senderRole) {
+        return switch (senderRole) {
             case USER -> "user";
             case ASSISTANT -> "assistant";
             default -> "system";
         };
-        return new GroqMessage(role, message.getTextContent());
     }
 }
-
@@ -14,13 +14,16 @@ import com.aigf.gf_plz.domain.character.repository.CharacterRepository;
 import com.aigf.gf_plz.domain.session.entity.Session;
 import com.aigf.gf_plz.domain.session.entity.SessionType;
 import com.aigf.gf_plz.domain.session.repository.SessionRepository;
+import com.aigf.gf_plz.domain.session.service.SessionResolver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 캐릭터 서비스 구현체
@@ -32,13 +35,16 @@ public class CharacterServiceImpl implements CharacterService {
 
     private final CharacterRepository characterRepository;
     private final SessionRepository sessionRepository;
+    private final SessionResolver sessionResolver;
 
     public CharacterServiceImpl(
             CharacterRepository characterRepository,
-            SessionRepository sessionRepository
+            SessionRepository sessionRepository,
+            SessionResolver sessionResolver
     ) {
         this.characterRepository = characterRepository;
         this.sessionRepository = sessionRepository;
+        this.sessionResolver = sessionResolver;
     }
 
     @Override
@@ -77,7 +83,7 @@ public class CharacterServiceImpl implements CharacterService {
         Character character = characterRepository.findById(characterId)
                 .orElseThrow(() -> new CharacterNotFoundException(characterId));
         
-        // Status 만료 체크 (프론트에서 처리)
+        // Status 만료 처리는 RelationExpiryScheduler가 주기적으로 수행
         
         return toResponseDto(character);
     }
@@ -85,13 +91,11 @@ public class CharacterServiceImpl implements CharacterService {
     @Override
     @Transactional(readOnly = true)
     public CharacterResponseDto getRecentCharacter(Gender gender) {
-        // 최근 활성 세션 조회 (성별 필터링 적용)
-        List<Session> recentSessions;
-        if (gender == null) {
-            recentSessions = sessionRepository.findRecentActiveSessions();
-        } else {
-            recentSessions = sessionRepository.findRecentActiveSessionsByGender(gender);
-        }
+        // 가장 최근 활성 세션 한 건만 캐릭터와 함께 조회 (성별 필터링 적용)
+        PageRequest first = PageRequest.of(0, 1);
+        List<Session> recentSessions = gender == null
+                ? sessionRepository.findRecentActiveSessions(first)
+                : sessionRepository.findRecentActiveSessionsByGender(gender, first);
         
         // 가장 최근 세션이 없으면 null 반환
         if (recentSessions.isEmpty()) {
@@ -99,10 +103,9 @@ public class CharacterServiceImpl implements CharacterService {
         }
         
         // 가장 최근 세션의 캐릭터 반환
-        Session mostRecentSession = recentSessions.get(0);
-        Character character = mostRecentSession.getCharacter();
+        Character character = recentSessions.get(0).getCharacter();
         
-        // Status 만료 체크 (프론트에서 처리)
+        // Status 만료 처리는 RelationExpiryScheduler가 주기적으로 수행
         
         return toResponseDto(character);
     }
@@ -114,7 +117,7 @@ public class CharacterServiceImpl implements CharacterService {
         Character character = characterRepository.findById(characterId)
                 .orElseThrow(() -> new CharacterNotFoundException(characterId));
         
-        // 2. Status 만료 체크 및 업데이트 (프론트에서 처리)
+        // 2. Status 만료 처리는 RelationExpiryScheduler가 주기적으로 수행
         
         // 3. 캐릭터 선택 시 Status를 now로 변경하고 날짜 설정
         LocalDateTime now = LocalDateTime.now();
@@ -123,32 +126,14 @@ public class CharacterServiceImpl implements CharacterService {
         character.updateEndDay(now.plusDays(3));
         characterRepository.save(character);
         
-        // 4. 기존 활성 세션이 있는지 확인 (CHAT 타입 우선, 가장 최근 세션 사용)
-        List<Session> existingChatSessions = sessionRepository
-                .findByCharacterIdAndSessionTypeAndIsActiveTrueOrderByLastMessageAtDesc(characterId, SessionType.CHAT);
-        
-        Session session;
-        if (!existingChatSessions.isEmpty()) {
-            // 가장 최근 활성 세션 사용
-            session = existingChatSessions.get(0);
-            logger.debug("기존 활성 세션 사용 - SessionId: {}, CharacterId: {}, LastMessageAt: {}", 
-                    session.getSessionId(), characterId, session.getLastMessageAt());
-        } else {
-            // 기존 세션이 없으면 새 세션 생성 (CHAT 타입)
-            session = Session.builder()
-                    .character(character)
-                    .sessionType(SessionType.CHAT)
-                    .build();
-            session = sessionRepository.save(session);
-            logger.debug("새 세션 생성 - SessionId: {}, CharacterId: {}", 
-                    session.getSessionId(), characterId);
-        }
+        // 4. CHAT 세션 결정 (가장 최근 세션 재사용, 없을 때만 생성)
+        Long sessionId = sessionResolver.resolve(Optional.empty(), characterId, SessionType.CHAT);
         
         // 5. 응답 DTO 생성
         CharacterResponseDto characterDto = toResponseDto(character);
         return new CharacterSelectResponseDto(
                 characterId,
-                session.getSessionId(),
+                sessionId,
                 characterDto
         );
     }
@@ -245,18 +230,15 @@ public class CharacterServiceImpl implements CharacterService {
             throw new CharacterNotFoundException(characterId);
         }
         
-        // 캐릭터의 가장 최근 세션 조회 (세션 타입 무관, 비활성 포함)
-        List<Session> sessions = sessionRepository
-                .findByCharacterIdOrderByLastMessageAtDesc(characterId);
+        // 캐릭터의 가장 최근 세션 ID 한 건만 조회 (세션 타입 무관, 비활성 포함)
+        List<Long> sessionIds = sessionRepository.findRecentSessionIdsByCharacterId(characterId, PageRequest.of(0, 1));
         
-        if (sessions.isEmpty()) {
+        if (sessionIds.isEmpty()) {
             // 세션이 없으면 null 반환
             return null;
         }
         
-        // 가장 최근 세션 반환
-        Session mostRecentSession = sessions.get(0);
-        return new SessionIdResponseDto(characterId, mostRecentSession.getSessionId());
+        return new SessionIdResponseDto(characterId, sessionIds.get(0));
     }
 
     @Override
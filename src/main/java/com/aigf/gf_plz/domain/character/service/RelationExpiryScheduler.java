@@ -0,0 +1,74 @@
+package com.aigf.gf_plz.domain.character.service;
+
+import com.aigf.gf_plz.global.groq.ratelimit.GroqRateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 만료된 관계 정리 스케줄러
+ * 헤어지는 날짜가 지난 연애 중(now) 캐릭터를 주기마다 조금씩 ex로 바꾸고,
+ * 한줄평/애정도 평가는 RelationFinalizationWorker의 고정 크기 풀에 맡깁니다.
+ *
+ * - 한 번에 batch-size개와 워커 풀의 빈 자리 중 작은 값만큼만 처리해 평가 요청을 시간에 고르게 나눕니다.
+ * - Groq 요청 한도 대기열이 max-groq-queue를 넘으면 이번 주기는 건너뛰어 채팅/통화 한도를 잠식하지 않습니다.
+ * - 상태는 모두 DB(관계, 후처리 작업)에 있으므로 재시작 후에도 남은 캐릭터부터 이어서 처리합니다.
+ */
+@Component
+public class RelationExpiryScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(RelationExpiryScheduler.class);
+
+    private final RelationFinalizationJobService jobService;
+    private final RelationFinalizationWorker worker;
+    private final GroqRateLimiter groqRateLimiter;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxGroqQueue;
+
+    public RelationExpiryScheduler(
+            RelationFinalizationJobService jobService,
+            RelationFinalizationWorker worker,
+            GroqRateLimiter groqRateLimiter,
+            @Value("${relation.expiry.enabled:true}") boolean enabled,
+            @Value("${relation.expiry.batch-size:10}") int batchSize,
+            @Value("${relation.expiry.max-groq-queue:5}") int maxGroqQueue
+    ) {
+        this.jobService = jobService;
+        this.worker = worker;
+        this.groqRateLimiter = groqRateLimiter;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxGroqQueue = maxGroqQueue;
+    }
+
+    @Scheduled(fixedDelayString = "${relation.expiry.interval:PT1M}")
+    public void expireRelations() {
+        if (!enabled) {
+            return;
+        }
+        if (groqRateLimiter.queueSize() > maxGroqQueue) {
+            logger.debug("Groq 요청 한도 대기열이 길어 만료 관계 정리를 다음 주기로 미룹니다. 대기열: {}",
+                    groqRateLimiter.queueSize());
+            return;
+        }
+        int limit = Math.min(batchSize, worker.freeCapacity());
+        if (limit <= 0) {
+            return;
+        }
+
+        try {
+            List<Long> expired = jobService.expireDueRelations(limit);
+            if (!expired.isEmpty()) {
+                logger.info("만료된 관계 {}건을 종료 처리했습니다. CharacterIds: {}", expired.size(), expired);
+            }
+            expired.forEach(worker::submit);
+        } catch (Exception e) {
+            logger.warn("만료 관계 정리 실패: {}", e.getMessage());
+        }
+    }
+}
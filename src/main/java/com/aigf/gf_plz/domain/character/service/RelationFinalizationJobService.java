@@ -0,0 +1,236 @@
+package com.aigf.gf_plz.domain.character.service;
+
+import com.aigf.gf_plz.domain.character.dto.RelationEvaluationDto;
+import com.aigf.gf_plz.domain.character.dto.RelationFinalizationStatusDto;
+import com.aigf.gf_plz.domain.character.entity.Character;
+import com.aigf.gf_plz.domain.character.entity.Relation;
+import com.aigf.gf_plz.domain.character.entity.RelationFinalizationJob;
+import com.aigf.gf_plz.domain.character.exception.CharacterNotFoundException;
+import com.aigf.gf_plz.domain.character.repository.CharacterRepository;
+import com.aigf.gf_plz.domain.character.repository.RelationFinalizationJobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 관계 종료 후처리 작업의 DB 작업을 담당하는 서비스
+ * 작업 등록, 가져가기(claim), 결과 반영, 재시도 예약을 각각 짧은 트랜잭션으로 수행합니다.
+ * Groq 호출은 RelationFinalizationWorker가 트랜잭션 밖에서 수행합니다.
+ */
+@Service
+public class RelationFinalizationJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RelationFinalizationJobService.class);
+
+    private static final int DEFAULT_AFFECTION = 50;
+
+    private final RelationFinalizationJobRepository jobRepository;
+    private final CharacterRepository characterRepository;
+    private final int maxAttempts;
+    private final Duration retryBaseDelay;
+    private final Duration leaseTimeout;
+
+    public RelationFinalizationJobService(
+            RelationFinalizationJobRepository jobRepository,
+            CharacterRepository characterRepository,
+            @Value("${relation.finalization.max-attempts:3}") int maxAttempts,
+            @Value("${relation.finalization.retry-base-delay:30s}") Duration retryBaseDelay,
+            @Value("${relation.finalization.lease-timeout:5m}") Duration leaseTimeout
+    ) {
+        this.jobRepository = jobRepository;
+        this.characterRepository = characterRepository;
+        this.maxAttempts = maxAttempts;
+        this.retryBaseDelay = retryBaseDelay;
+        this.leaseTimeout = leaseTimeout;
+    }
+
+    /**
+     * 캐릭터의 후처리 작업을 등록합니다.
+     * 처리 중인 작업이 있으면 그대로 반환하고, 끝난 작업이 있으면 다시 대기 상태로 돌립니다.
+     * 호출하는 트랜잭션에 참여합니다.
+     */
+    @Transactional
+    public RelationFinalizationJob enqueue(Long characterId) {
+        Optional<RelationFinalizationJob> existing = jobRepository.findById(characterId);
+        if (existing.isPresent()) {
+            RelationFinalizationJob job = existing.get();
+            if (!job.isInProgress()) {
+                job.restart();
+            }
+            return job;
+        }
+        return jobRepository.save(new RelationFinalizationJob(characterId));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<RelationFinalizationJob> findJob(Long characterId) {
+        return jobRepository.findById(characterId);
+    }
+
+    /**
+     * 작업 상태와 캐릭터에 반영된 결과를 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public RelationFinalizationStatusDto getStatus(Long characterId) {
+        Character character = characterRepository.findById(characterId)
+                .orElseThrow(() -> new CharacterNotFoundException(characterId));
+        RelationFinalizationJob job = jobRepository.findById(characterId)
+                .orElseThrow(() -> new CharacterNotFoundException("관계 종료 작업을 찾을 수 없습니다. 캐릭터 ID: " + characterId));
+        return new RelationFinalizationStatusDto(
+                characterId,
+                job.getStatus(),
+                job.getAttempts(),
+                character.getAiSummary(),
+                character.getLike()
+        );
+    }
+
+    /**
+     * 처리할 시각이 된 대기 작업을 최대 limit개 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findDueJobs(int limit) {
+        return jobRepository.findDueCharacterIds(LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    /**
+     * 작업을 가져가고 평가할 캐릭터와 이번 시도 번호를 반환합니다.
+     * 시도 번호는 lease 갱신과 결과 반영 때 작업을 아직 잡고 있는지 확인하는 데 사용합니다.
+     *
+     * 캐릭터가 삭제되어 평가할 수 없으면 같은 트랜잭션에서 작업을 FAILED로 마무리하여, 되돌려지고 다시 가져가지는 일이 반복되지 않게 합니다.
+     *
+     * @return 다른 워커가 이미 가져간 작업이거나 캐릭터가 없으면 빈 값
+     */
+    @Transactional
+    public Optional<Claim> claim(Long characterId) {
+        if (jobRepository.claim(characterId, LocalDateTime.now()) == 0) {
+            return Optional.empty();
+        }
+        RelationFinalizationJob job = jobRepository.findById(characterId)
+                .orElseThrow(() -> new CharacterNotFoundException("관계 종료 작업을 찾을 수 없습니다. 캐릭터 ID: " + characterId));
+        Optional<Character> character = characterRepository.findById(characterId);
+        if (character.isEmpty()) {
+            job.fail("캐릭터를 찾을 수 없습니다.");
+            logger.warn("관계 종료 후처리 중단 (캐릭터 없음) - CharacterId: {}", characterId);
+            return Optional.empty();
+        }
+        return Optional.of(new Claim(character.get(), job.getAttempts()));
+    }
+
+    /**
+     * 처리 중인 작업들의 lease를 갱신합니다.
+     *
+     * @param claims 캐릭터 ID별로 가져간 시도 번호
+     * @return lease를 잃은 (다른 워커가 다시 가져갔거나 이미 되돌려진) 작업의 캐릭터 ID 목록
+     */
+    @Transactional
+    public List<Long> renewLeases(Map<Long, Integer> claims) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> lost = new ArrayList<>();
+        claims.forEach((characterId, attempt) -> {
+            if (jobRepository.renewLease(characterId, attempt, now) == 0) {
+                lost.add(characterId);
+            }
+        });
+        return lost;
+    }
+
+    /**
+     * 평가 결과를 캐릭터에 반영하고 작업을 완료합니다.
+     * 작업을 아직 이 시도가 잡고 있을 때만 반영하므로, lease를 잃은 뒤 끝난 평가가 결과를 두 번 반영하지 않습니다.
+     *
+     * @return 결과를 반영했으면 true, lease를 잃어 버렸으면 false
+     */
+    @Transactional
+    public boolean complete(Long characterId, int attempt, RelationEvaluationDto evaluation) {
+        Optional<RelationFinalizationJob> claimed = jobRepository.findClaimed(characterId, attempt);
+        if (claimed.isEmpty()) {
+            logger.warn("관계 종료 후처리 결과 버림 (lease 만료) - CharacterId: {}, 시도: {}", characterId, attempt);
+            return false;
+        }
+        Character character = characterRepository.findById(characterId)
+                .orElseThrow(() -> new CharacterNotFoundException(characterId));
+        if (evaluation.summary() != null) {
+            character.updateAiSummary(evaluation.summary());
+        }
+        character.updateLike(evaluation.affection());
+        claimed.get().succeed();
+        return true;
+    }
+
+    /**
+     * 실패한 작업을 지수 백오프로 다시 예약합니다.
+     * 시도 횟수를 모두 사용하면 기본 애정도로 마무리하고 FAILED로 표시합니다.
+     * 작업을 아직 이 시도가 잡고 있을 때만 상태를 바꿉니다.
+     */
+    @Transactional
+    public void fail(Long characterId, int attempt, String error) {
+        RelationFinalizationJob job = jobRepository.findClaimed(characterId, attempt).orElse(null);
+        if (job == null) {
+            logger.warn("관계 종료 후처리 실패 무시 (lease 만료) - CharacterId: {}, 시도: {}", characterId, attempt);
+            return;
+        }
+        if (job.getAttempts() >= maxAttempts) {
+            characterRepository.findById(characterId).ifPresent(character -> character.updateLike(DEFAULT_AFFECTION));
+            job.fail(error);
+            logger.warn("관계 종료 후처리 최종 실패 - CharacterId: {}, 시도: {}, 원인: {}",
+                    characterId, job.getAttempts(), error);
+            return;
+        }
+        Duration delay = retryBaseDelay.multipliedBy(1L << (job.getAttempts() - 1));
+        job.retryAt(LocalDateTime.now().plus(delay), error);
+        logger.info("관계 종료 후처리 재시도 예약 - CharacterId: {}, 시도: {}, 대기: {}s",
+                characterId, job.getAttempts(), delay.toSeconds());
+    }
+
+    /**
+     * 헤어지는 날짜가 지난 관계를 최대 limit개 ex로 바꾸고 후처리 작업을 등록합니다.
+     * 관계 변경과 작업 등록이 한 트랜잭션이므로, 중간에 종료되어도 다음 실행에서 남은 캐릭터만 다시 조회됩니다.
+     * 헤어지는 날짜는 원래 만료 시각을 그대로 둡니다.
+     *
+     * @return 작업을 등록한 캐릭터 ID 목록
+     */
+    @Transactional
+    public List<Long> expireDueRelations(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> characterIds = characterRepository.findExpiredCharacterIds(Relation.now, now, PageRequest.of(0, limit));
+        List<Long> expired = new ArrayList<>(characterIds.size());
+        for (Character character : characterRepository.findAllById(characterIds)) {
+            // 조회와 로딩 사이에 연장/종료된 캐릭터는 건너뜀
+            if (character.getRelation() != Relation.now || character.getEndDay() == null
+                    || !character.getEndDay().isBefore(now)) {
+                continue;
+            }
+            character.updateRelation(Relation.ex);
+            enqueue(character.getCharacterId());
+            expired.add(character.getCharacterId());
+        }
+        return expired;
+    }
+
+    /**
+     * 처리 중인 채로 lease-timeout 동안 갱신되지 않은 작업을 다시 대기 상태로 돌립니다.
+     * 살아 있는 워커는 폴링마다 lease를 갱신하므로, 워커가 죽었거나 멈춘 작업만 되돌려집니다.
+     */
+    @Transactional
+    public int releaseStaleJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        return jobRepository.releaseStale(now.minus(leaseTimeout), now);
+    }
+
+    /**
+     * 가져간 작업: 평가할 캐릭터와 이번 시도 번호
+     */
+    public record Claim(Character character, int attempt) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.aigf.gf_plz.domain.character.service;
+
+import com.aigf.gf_plz.domain.character.dto.RelationEvaluationDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관계 종료 후처리 워커
+ * 고정 크기 스레드 풀에서 작업을 가져가 한줄평과 애정도를 평가하고 결과를 반영합니다.
+ *
+ * - 작업이 등록되면 커밋 직후 바로 제출하고, 풀이 가득 차 있거나 재시도할 작업은 주기적인 폴링이 가져갑니다.
+ * - 작업은 DB의 조건부 UPDATE로 가져가므로 여러 인스턴스가 함께 돌아도 한 번만 처리됩니다.
+ * - 처리 중인 작업은 폴링마다 lease를 갱신합니다. 평가가 lease-timeout보다 오래 걸려도
+ *   (BATCH 요청 한도 대기 + 재시도) 살아 있는 작업은 다시 대기 상태로 돌아가지 않습니다.
+ * - 결과 반영은 가져간 시도가 아직 작업을 잡고 있을 때만 하므로, lease를 잃은 평가가 결과를 두 번 반영하지 않습니다.
+ * - Groq 요청은 BATCH 우선순위라 채팅/통화 요청보다 뒤에서 요청 한도를 기다립니다.
+ */
+@Component
+public class RelationFinalizationWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(RelationFinalizationWorker.class);
+
+    private final RelationFinalizationJobService jobService;
+    private final AiReviewService aiReviewService;
+    private final int capacity;
+    private final ThreadPoolExecutor executor;
+    private final Set<Long> submitted = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Integer> running = new ConcurrentHashMap<>();
+
+    public RelationFinalizationWorker(
+            RelationFinalizationJobService jobService,
+            AiReviewService aiReviewService,
+            @Value("${relation.finalization.workers:2}") int workers,
+            @Value("${relation.finalization.queue-capacity:50}") int queueCapacity
+    ) {
+        this.jobService = jobService;
+        this.aiReviewService = aiReviewService;
+        this.capacity = workers + queueCapacity;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "relation-finalizer-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 작업을 풀에 제출합니다. 풀이 가득 차 있으면 다음 폴링에서 처리됩니다.
+     */
+    public void submit(Long characterId) {
+        if (!submitted.add(characterId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    process(characterId);
+                } finally {
+                    submitted.remove(characterId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            submitted.remove(characterId);
+            logger.debug("관계 종료 후처리 대기열이 가득 참 - CharacterId: {}, 다음 폴링에서 처리합니다.", characterId);
+        }
+    }
+
+    /**
+     * 풀(실행 중 + 대기열)에 더 넣을 수 있는 작업 수
+     */
+    public int freeCapacity() {
+        return Math.max(capacity - submitted.size(), 0);
+    }
+
+    /**
+     * 처리 중인 작업의 lease를 갱신하고, 멈춘 작업을 되살리고, 처리할 시각이 된 작업을 풀의 빈 자리만큼 가져옵니다.
+     */
+    @Scheduled(fixedDelayString = "${relation.finalization.poll-interval:PT10S}")
+    public void poll() {
+        try {
+            if (!running.isEmpty()) {
+                List<Long> lost = jobService.renewLeases(Map.copyOf(running));
+                if (!lost.isEmpty()) {
+                    logger.warn("관계 종료 후처리 lease를 잃은 작업: {} (결과는 반영하지 않습니다)", lost);
+                }
+            }
+            int released = jobService.releaseStaleJobs();
+            if (released > 0) {
+                logger.warn("멈춘 관계 종료 후처리 작업 {}건을 다시 대기 상태로 돌렸습니다.", released);
+            }
+            int free = freeCapacity();
+            if (free > 0) {
+                jobService.findDueJobs(free).forEach(this::submit);
+            }
+        } catch (Exception e) {
+            logger.warn("관계 종료 후처리 작업 폴링 실패: {}", e.getMessage());
+        }
+    }
+
+    void process(Long characterId) {
+        Optional<RelationFinalizationJobService.Claim> claimed = jobService.claim(characterId);
+        if (claimed.isEmpty()) {
+            return;
+        }
+        int attempt = claimed.get().attempt();
+        running.put(characterId, attempt);
+        try {
+            RelationEvaluationDto evaluation = aiReviewService.evaluateRelation(claimed.get().character());
+            if (jobService.complete(characterId, attempt, evaluation)) {
+                logger.info("관계 종료 후처리 완료 - CharacterId: {}, Score: {}", characterId, evaluation.affection());
+            }
+        } catch (Exception e) {
+            logger.warn("관계 종료 후처리 실패 - CharacterId: {}, 원인: {}", characterId, e.getMessage());
+            jobService.fail(characterId, attempt, e.getMessage());
+        } finally {
+            running.remove(characterId);
+        }
+    }
+
+    /**
+     * 새 작업은 받지 않고 진행 중인 작업만 잠시 기다립니다.
+     * 끝나지 못한 작업은 lease-timeout 이후 다른 인스턴스나 다음 기동 시 다시 처리됩니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
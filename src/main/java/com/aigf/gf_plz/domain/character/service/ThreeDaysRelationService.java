@@ -1,5 +1,6 @@
 package com.aigf.gf_plz.domain.character.service;
 
+import com.aigf.gf_plz.domain.character.dto.RelationFinalizationStatusDto;
 import com.aigf.gf_plz.domain.character.dto.ThreeDaysRelationRequestDto;
 import com.aigf.gf_plz.domain.character.dto.ThreeDaysRelationResponseDto;
 
@@ -7,6 +8,14 @@ import com.aigf.gf_plz.domain.character.dto.ThreeDaysRelationResponseDto;
  * 3일 결과에 따라 캐릭터 관계 상태를 업데이트하는 서비스 인터페이스
  */
 public interface ThreeDaysRelationService {
+
+    /**
+     * 관계를 ex로 바꾸고 한줄평/애정도 평가 작업을 등록한 뒤 바로 반환합니다.
+     */
     ThreeDaysRelationResponseDto updateRelation(ThreeDaysRelationRequestDto request);
-}
 
+    /**
+     * 한줄평/애정도 평가 작업의 상태를 조회합니다.
+     */
+    RelationFinalizationStatusDto getFinalizationStatus(Long characterId);
+}
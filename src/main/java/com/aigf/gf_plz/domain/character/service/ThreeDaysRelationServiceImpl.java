@@ -1,28 +1,40 @@
 package com.aigf.gf_plz.domain.character.service;
 
+import com.aigf.gf_plz.domain.character.dto.RelationFinalizationStatusDto;
 import com.aigf.gf_plz.domain.character.dto.ThreeDaysRelationRequestDto;
 import com.aigf.gf_plz.domain.character.dto.ThreeDaysRelationResponseDto;
 import com.aigf.gf_plz.domain.character.entity.Character;
 import com.aigf.gf_plz.domain.character.entity.Relation;
+import com.aigf.gf_plz.domain.character.entity.RelationFinalizationJob;
 import com.aigf.gf_plz.domain.character.exception.CharacterNotFoundException;
 import com.aigf.gf_plz.domain.character.repository.CharacterRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 /**
  * 3일 결과 API에서 캐릭터의 관계 상태를 업데이트하는 구현체
+ * 한줄평과 애정도 평가는 후처리 작업으로 등록하고 RelationFinalizationWorker가 비동기로 처리합니다.
  */
 @Service
 public class ThreeDaysRelationServiceImpl implements ThreeDaysRelationService {
 
     private final CharacterRepository characterRepository;
-    private final AiReviewService aiReviewService;
+    private final RelationFinalizationJobService jobService;
+    private final RelationFinalizationWorker worker;
 
-    public ThreeDaysRelationServiceImpl(CharacterRepository characterRepository, AiReviewService aiReviewService) {
+    public ThreeDaysRelationServiceImpl(
+            CharacterRepository characterRepository,
+            RelationFinalizationJobService jobService,
+            RelationFinalizationWorker worker
+    ) {
         this.characterRepository = characterRepository;
-        this.aiReviewService = aiReviewService;
+        this.jobService = jobService;
+        this.worker = worker;
     }
 
     @Override
@@ -31,28 +43,50 @@ public class ThreeDaysRelationServiceImpl implements ThreeDaysRelationService {
         Character character = characterRepository.findById(request.characterId())
                 .orElseThrow(() -> new CharacterNotFoundException(request.characterId()));
 
+        // 이미 종료 처리된 관계면 작업 상태만 반환 (재요청에도 헤어진 날짜와 평가를 다시 만들지 않음)
+        Optional<RelationFinalizationJob> existing = jobService.findJob(character.getCharacterId());
+        if (character.getRelation() == Relation.ex && existing.isPresent()) {
+            return new ThreeDaysRelationResponseDto(
+                    "UPDATED",
+                    character.getCharacterId(),
+                    Relation.ex,
+                    existing.get().getStatus()
+            );
+        }
+
         character.updateRelation(Relation.ex);
         character.updateEndDay(LocalDateTime.now());
-        
-        // 한줄평 생성
-        String aiSummary = aiReviewService.generateReview(character);
-        if (aiSummary != null) {
-            character.updateAiSummary(aiSummary);
-        }
-        
-        // 애정도 평가 및 업데이트
-        Integer affectionScore = aiReviewService.evaluateAffection(character);
-        if (affectionScore != null) {
-            character.updateLike(affectionScore);
-        }
-        
-        characterRepository.save(character);
+
+        // 한줄평 생성 및 애정도 평가는 커밋 이후 워커에서 처리
+        RelationFinalizationJob job = jobService.enqueue(character.getCharacterId());
+        submitAfterCommit(character.getCharacterId());
 
         return new ThreeDaysRelationResponseDto(
                 "UPDATED",
                 character.getCharacterId(),
-                Relation.ex
+                Relation.ex,
+                job.getStatus()
         );
     }
-}
 
+    @Override
+    public RelationFinalizationStatusDto getFinalizationStatus(Long characterId) {
+        return jobService.getStatus(characterId);
+    }
+
+    /**
+     * 작업이 커밋된 뒤에 워커에 제출합니다 (커밋 전에 제출하면 워커가 작업을 찾지 못함).
+     */
+    private void submitAfterCommit(Long characterId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            worker.submit(characterId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                worker.submit(characterId);
+            }
+        });
+    }
+}
@@ -2,9 +2,14 @@ package com.aigf.gf_plz.domain.chat.controller;
 
 import com.aigf.gf_plz.domain.chat.dto.ChatRequestDto;
 import com.aigf.gf_plz.domain.chat.dto.ChatResponseDto;
+import com.aigf.gf_plz.domain.chat.dto.ChatStreamEventDto;
 import com.aigf.gf_plz.domain.chat.service.ChatService;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * 채팅 컨트롤러
@@ -33,5 +38,31 @@ public class ChatController {
         return chatService.chat(request);
     }
 
-    // TODO: 나중에 SSE 스트리밍 버전 /api/chat/stream 을 별도로 추가할 수 있도록 설계
+    /**
+     * 논블로킹 텍스트 채팅 엔드포인트
+     * POST /api/chat과 요청/응답이 같지만, Groq 응답을 기다리는 동안 서블릿 스레드를 반환한다.
+     *
+     * @param request 사용자의 채팅 메시지
+     * @return AI 여자친구의 답변
+     */
+    @PostMapping("/async")
+    public Mono<ChatResponseDto> chatAsync(@Valid @RequestBody ChatRequestDto request) {
+        return chatService.chatAsync(request);
+    }
+
+    /**
+     * SSE 스트리밍 채팅 엔드포인트
+     * 답변 토큰을 생성되는 대로 "token" 이벤트로 전송하고,
+     * 답변이 저장되면 전체 답변을 담은 "done" 이벤트로 마무리한다.
+     *
+     * @param request 사용자의 채팅 메시지
+     * @return 답변 토큰 SSE 스트림
+     */
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ChatStreamEventDto>> chatStream(@Valid @RequestBody ChatRequestDto request) {
+        return chatService.chatStream(request)
+                .map(event -> ServerSentEvent.builder(event)
+                        .event(event.event())
+                        .build());
+    }
 }
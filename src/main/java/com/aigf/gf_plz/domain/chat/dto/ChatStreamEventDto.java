@@ -0,0 +1,29 @@
+package com.aigf.gf_plz.domain.chat.dto;
+
+/**
+ * 채팅 스트리밍 이벤트 DTO
+ * SSE로 전송되는 이벤트 하나를 나타냅니다.
+ *
+ * event: "token" (답변 조각), "done" (답변 완료, 전체 답변 포함), "error" (오류 안내 문구)
+ */
+public record ChatStreamEventDto(
+        String event,
+        Long sessionId,
+        String content
+) {
+    public static final String TOKEN = "token";
+    public static final String DONE = "done";
+    public static final String ERROR = "error";
+
+    public static ChatStreamEventDto token(Long sessionId, String delta) {
+        return new ChatStreamEventDto(TOKEN, sessionId, delta);
+    }
+
+    public static ChatStreamEventDto done(Long sessionId, String reply) {
+        return new ChatStreamEventDto(DONE, sessionId, reply);
+    }
+
+    public static ChatStreamEventDto error(Long sessionId, String message) {
+        return new ChatStreamEventDto(ERROR, sessionId, message);
+    }
+}
@@ -2,6 +2,9 @@ package com.aigf.gf_plz.domain.chat.service;
 
 import com.aigf.gf_plz.domain.chat.dto.ChatRequestDto;
 import com.aigf.gf_plz.domain.chat.dto.ChatResponseDto;
+import com.aigf.gf_plz.domain.chat.dto.ChatStreamEventDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * 채팅 서비스 인터페이스
@@ -14,4 +17,23 @@ public interface ChatService {
      * @return AI 여자친구의 답변
      */
     ChatResponseDto chat(ChatRequestDto request);
+
+    /**
+     * 사용자의 채팅 메시지에 대한 답변을 논블로킹으로 생성합니다.
+     * Groq 응답을 기다리는 동안 서블릿 스레드를 점유하지 않으며, DB 작업은 전용 스케줄러에서 실행합니다.
+     *
+     * @param request 사용자의 채팅 메시지
+     * @return AI 여자친구의 답변
+     */
+    Mono<ChatResponseDto> chatAsync(ChatRequestDto request);
+
+    /**
+     * 사용자의 채팅 메시지에 대한 답변을 토큰 단위로 스트리밍합니다.
+     * 스트림이 완료되면 조합된 답변을 AI 메시지로 저장하고,
+     * 클라이언트가 중간에 끊으면 그때까지 받은 답변만 저장합니다.
+     *
+     * @param request 사용자의 채팅 메시지
+     * @return 답변 토큰 이벤트 스트림 (정상 완료 시 마지막에 done 이벤트)
+     */
+    Flux<ChatStreamEventDto> chatStream(ChatRequestDto request);
 }
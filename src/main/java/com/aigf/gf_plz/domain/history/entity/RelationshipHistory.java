@@ -1,6 +1,7 @@
 package com.aigf.gf_plz.domain.history.entity;
 
 import com.aigf.gf_plz.domain.character.entity.Character;
+import com.aigf.gf_plz.global.persistence.IdSequenceAligner;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
@@ -12,7 +13,8 @@ import java.time.LocalDateTime;
 public class RelationshipHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "relationship_history_seq")
+    @SequenceGenerator(name = "relationship_history_seq", sequenceName = "relationship_history_seq", allocationSize = IdSequenceAligner.ALLOCATION_SIZE)
     @Column(name = "history_entry_id")
     private Long historyEntryId;
 
@@ -0,0 +1,338 @@
+package com.aigf.gf_plz.domain.memory.index;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 인덱스
+ * 정규화된 벡터의 내적(코사인 유사도)으로 가까운 메시지를 찾습니다.
+ * 삽입은 기존 그래프에 노드 하나를 연결하는 것으로 끝나므로 전체 재구성이 필요 없습니다.
+ *
+ * - 상위 레이어에서 탐욕적으로 내려와 진입점을 좁히고, 0번 레이어에서 ef개 후보를 넓게 탐색합니다.
+ * - 이웃 수가 한도를 넘으면 가장 가까운 이웃만 남깁니다.
+ * - 삭제는 지원하지 않습니다 (메시지는 지워지지 않음).
+ */
+public class HnswIndex {
+
+    private static final int MAGIC = 0x484E5357; // "HNSW"
+    private static final int VERSION = 1;
+
+    private final int dimension;
+    private final int maxNeighbors;
+    private final int maxNeighborsLayer0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final Random random;
+
+    private final List<Node> nodes = new ArrayList<>();
+    private final Map<Long, Integer> nodeIndexById = new HashMap<>();
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    public HnswIndex(int dimension, int maxNeighbors, int efConstruction, long seed) {
+        if (dimension <= 0 || maxNeighbors < 2 || efConstruction <= 0) {
+            throw new IllegalArgumentException("HNSW 인덱스 설정이 올바르지 않습니다.");
+        }
+        this.dimension = dimension;
+        this.maxNeighbors = maxNeighbors;
+        this.maxNeighborsLayer0 = maxNeighbors * 2;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1 / Math.log(maxNeighbors);
+        this.random = new Random(seed);
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    public synchronized boolean contains(long id) {
+        return nodeIndexById.containsKey(id);
+    }
+
+    /**
+     * 벡터를 인덱스에 추가합니다.
+     *
+     * @param id 메시지 ID
+     * @param text 검색 결과로 돌려줄 원문
+     * @param vector 정규화된 벡터
+     * @return 새로 추가했으면 true, 이미 있는 ID면 false
+     */
+    public synchronized boolean add(long id, String text, float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("벡터 차원이 인덱스와 다릅니다: " + vector.length + " != " + dimension);
+        }
+        if (nodeIndexById.containsKey(id)) {
+            return false;
+        }
+
+        int level = randomLevel();
+        int index = nodes.size();
+        nodes.add(new Node(id, text, vector, level));
+        nodeIndexById.put(id, index);
+
+        if (entryPoint < 0) {
+            entryPoint = index;
+            maxLevel = level;
+            return true;
+        }
+
+        int current = entryPoint;
+        for (int layer = maxLevel; layer > level; layer--) {
+            current = greedySearch(vector, current, layer);
+        }
+        for (int layer = Math.min(level, maxLevel); layer >= 0; layer--) {
+            List<Candidate> candidates = searchLayer(vector, current, efConstruction, layer);
+            List<Integer> neighbors = nodes.get(index).neighbors.get(layer);
+            for (int i = 0; i < candidates.size() && i < maxNeighbors; i++) {
+                int neighbor = candidates.get(i).node();
+                neighbors.add(neighbor);
+                connect(neighbor, index, layer);
+            }
+            current = candidates.get(0).node();
+        }
+
+        if (level > maxLevel) {
+            maxLevel = level;
+            entryPoint = index;
+        }
+        return true;
+    }
+
+    /**
+     * 질의 벡터와 가장 가까운 k개를 유사도 내림차순으로 반환합니다.
+     *
+     * @param ef 탐색 후보 수 (클수록 정확하고 느림, k보다 작으면 k를 사용)
+     */
+    public synchronized List<SearchResult> search(float[] query, int k, int ef) {
+        if (entryPoint < 0 || k <= 0) {
+            return List.of();
+        }
+        int current = entryPoint;
+        for (int layer = maxLevel; layer > 0; layer--) {
+            current = greedySearch(query, current, layer);
+        }
+        return searchLayer(query, current, Math.max(ef, k), 0).stream()
+                .limit(k)
+                .map(candidate -> {
+                    Node node = nodes.get(candidate.node());
+                    return new SearchResult(node.id, node.text, candidate.score());
+                })
+                .toList();
+    }
+
+    /**
+     * 그래프 전체를 스냅샷으로 기록합니다.
+     */
+    public synchronized void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(dimension);
+        out.writeInt(maxNeighbors);
+        out.writeInt(efConstruction);
+        out.writeInt(nodes.size());
+        out.writeInt(entryPoint);
+        out.writeInt(maxLevel);
+        for (Node node : nodes) {
+            out.writeLong(node.id);
+            writeString(out, node.text);
+            writeVector(out, node.vector);
+            out.writeInt(node.level);
+            for (List<Integer> neighbors : node.neighbors) {
+                out.writeInt(neighbors.size());
+                for (int neighbor : neighbors) {
+                    out.writeInt(neighbor);
+                }
+            }
+        }
+    }
+
+    /**
+     * writeTo로 기록한 스냅샷을 읽습니다.
+     *
+     * @throws IOException 형식이 다르거나 파일이 손상된 경우
+     */
+    public static HnswIndex readFrom(DataInputStream in, long seed) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("HNSW 스냅샷 형식이 아닙니다.");
+        }
+        HnswIndex index = new HnswIndex(in.readInt(), in.readInt(), in.readInt(), seed);
+        int size = in.readInt();
+        index.entryPoint = in.readInt();
+        index.maxLevel = in.readInt();
+        for (int i = 0; i < size; i++) {
+            long id = in.readLong();
+            String text = readString(in);
+            float[] vector = readVector(in, index.dimension);
+            Node node = new Node(id, text, vector, in.readInt());
+            for (List<Integer> neighbors : node.neighbors) {
+                int count = in.readInt();
+                for (int j = 0; j < count; j++) {
+                    neighbors.add(in.readInt());
+                }
+            }
+            index.nodes.add(node);
+            index.nodeIndexById.put(id, i);
+        }
+        return index;
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        // writeUTF는 64KB 제한이 있어 길이 + 바이트로 기록
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void writeVector(DataOutputStream out, float[] vector) throws IOException {
+        for (float value : vector) {
+            out.writeFloat(value);
+        }
+    }
+
+    static float[] readVector(DataInputStream in, int dimension) throws IOException {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = in.readFloat();
+        }
+        return vector;
+    }
+
+    /**
+     * 한 레이어에서 더 가까운 이웃이 없을 때까지 이동합니다.
+     */
+    private int greedySearch(float[] query, int start, int layer) {
+        int current = start;
+        float best = similarity(query, nodes.get(current).vector);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int neighbor : nodes.get(current).neighbors.get(layer)) {
+                float score = similarity(query, nodes.get(neighbor).vector);
+                if (score > best) {
+                    best = score;
+                    current = neighbor;
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 한 레이어에서 ef개 후보를 유지하며 탐색하고, 유사도 내림차순으로 반환합니다.
+     */
+    private List<Candidate> searchLayer(float[] query, int entry, int ef, int layer) {
+        Set<Integer> visited = new HashSet<>();
+        PriorityQueue<Candidate> toVisit = new PriorityQueue<>(Comparator.comparingDouble(Candidate::score).reversed());
+        PriorityQueue<Candidate> found = new PriorityQueue<>(Comparator.comparingDouble(Candidate::score));
+
+        Candidate start = new Candidate(entry, similarity(query, nodes.get(entry).vector));
+        visited.add(entry);
+        toVisit.add(start);
+        found.add(start);
+
+        while (!toVisit.isEmpty()) {
+            Candidate closest = toVisit.poll();
+            if (found.size() >= ef && closest.score() < found.peek().score()) {
+                break;
+            }
+            for (int neighbor : nodes.get(closest.node()).neighbors.get(layer)) {
+                if (!visited.add(neighbor)) {
+                    continue;
+                }
+                float score = similarity(query, nodes.get(neighbor).vector);
+                if (found.size() < ef || score > found.peek().score()) {
+                    Candidate candidate = new Candidate(neighbor, score);
+                    toVisit.add(candidate);
+                    found.add(candidate);
+                    if (found.size() > ef) {
+                        found.poll();
+                    }
+                }
+            }
+        }
+
+        List<Candidate> result = new ArrayList<>(found);
+        result.sort(Comparator.comparingDouble(Candidate::score).reversed());
+        return result;
+    }
+
+    /**
+     * from의 이웃 목록에 to를 추가하고, 한도를 넘으면 가장 가까운 이웃만 남깁니다.
+     */
+    private void connect(int from, int to, int layer) {
+        List<Integer> neighbors = nodes.get(from).neighbors.get(layer);
+        neighbors.add(to);
+        int limit = layer == 0 ? maxNeighborsLayer0 : maxNeighbors;
+        if (neighbors.size() > limit) {
+            float[] base = nodes.get(from).vector;
+            neighbors.sort(Comparator.comparingDouble((Integer neighbor) -> similarity(base, nodes.get(neighbor).vector)).reversed());
+            neighbors.subList(limit, neighbors.size()).clear();
+        }
+    }
+
+    private int randomLevel() {
+        return (int) Math.floor(-Math.log(1 - random.nextDouble()) * levelMultiplier);
+    }
+
+    private static float similarity(float[] a, float[] b) {
+        float sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    /**
+     * 검색 결과
+     *
+     * @param id 메시지 ID
+     * @param text 원문
+     * @param score 코사인 유사도
+     */
+    public record SearchResult(long id, String text, float score) {
+    }
+
+    private record Candidate(int node, float score) {
+    }
+
+    private static final class Node {
+        private final long id;
+        private final String text;
+        private final float[] vector;
+        private final int level;
+        private final List<List<Integer>> neighbors;
+
+        private Node(long id, String text, float[] vector, int level) {
+            this.id = id;
+            this.text = text;
+            this.vector = vector;
+            this.level = level;
+            this.neighbors = new ArrayList<>(level + 1);
+            for (int i = 0; i <= level; i++) {
+                this.neighbors.add(new ArrayList<>());
+            }
+        }
+    }
+}
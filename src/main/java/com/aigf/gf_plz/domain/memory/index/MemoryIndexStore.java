@@ -0,0 +1,220 @@
+package com.aigf.gf_plz.domain.memory.index;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 캐릭터별 HNSW 인덱스 저장소
+ * 캐릭터마다 스냅샷 파일({캐릭터ID}.hnsw)과 추가 로그 파일({캐릭터ID}.log)을 둡니다.
+ *
+ * - 추가할 때는 메모리 인덱스에 연결하고 로그에 한 레코드만 덧붙입니다.
+ * - 주기적으로 변경된 인덱스만 스냅샷으로 기록하고 로그를 비웁니다.
+ * - 시작할 때 디렉터리의 인덱스를 모두 읽고(loadAll), 스냅샷 이후의 로그를 이어서 반영합니다.
+ *   비정상 종료로 잘린 마지막 로그 레코드는 버립니다.
+ * - 파일이 없는 캐릭터는 처음 사용할 때 빈 인덱스를 만듭니다.
+ */
+public class MemoryIndexStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(MemoryIndexStore.class);
+
+    private static final String SNAPSHOT_SUFFIX = ".hnsw";
+    private static final String LOG_SUFFIX = ".log";
+
+    private final Path directory;
+    private final int dimension;
+    private final int maxNeighbors;
+    private final int efConstruction;
+
+    private final Map<Long, HnswIndex> indexes = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param directory 인덱스 파일 디렉터리 (임베딩 모델마다 따로 둡니다)
+     */
+    public MemoryIndexStore(Path directory, int dimension, int maxNeighbors, int efConstruction) {
+        this.directory = directory;
+        this.dimension = dimension;
+        this.maxNeighbors = maxNeighbors;
+        this.efConstruction = efConstruction;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("장기 기억 인덱스 디렉터리를 만들 수 없습니다: " + directory, e);
+        }
+    }
+
+    /**
+     * 디렉터리에 스냅샷이나 로그가 있는 캐릭터의 인덱스를 모두 불러옵니다.
+     * 검색이 트랜잭션이나 이벤트 루프 안에서 파일을 읽지 않도록 시작할 때 한 번 호출합니다.
+     *
+     * @return 불러온 인덱스 수
+     */
+    public int loadAll() {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(SNAPSHOT_SUFFIX) || name.endsWith(LOG_SUFFIX))
+                    .map(name -> name.substring(0, name.lastIndexOf('.')))
+                    .filter(id -> !id.isEmpty() && id.chars().allMatch(Character::isDigit))
+                    .map(Long::parseLong)
+                    .distinct()
+                    .forEach(this::get);
+        } catch (IOException e) {
+            throw new UncheckedIOException("장기 기억 인덱스 디렉터리를 읽을 수 없습니다: " + directory, e);
+        }
+        return indexes.size();
+    }
+
+    /**
+     * 캐릭터의 인덱스를 반환합니다. 아직 없으면 디스크에서 불러오거나 새로 만듭니다.
+     */
+    public HnswIndex get(long characterId) {
+        return indexes.computeIfAbsent(characterId, this::load);
+    }
+
+    /**
+     * 캐릭터 인덱스에 벡터를 추가하고 로그에 기록합니다.
+     *
+     * @return 새로 추가했으면 true, 이미 있는 ID면 false
+     */
+    public boolean add(long characterId, long id, String text, float[] vector) {
+        HnswIndex index = get(characterId);
+        synchronized (index) {
+            if (!index.add(id, text, vector)) {
+                return false;
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(
+                    logPath(characterId), StandardOpenOption.CREATE, StandardOpenOption.APPEND)))) {
+                out.writeLong(id);
+                HnswIndex.writeString(out, text);
+                HnswIndex.writeVector(out, vector);
+            } catch (IOException e) {
+                // 메모리 인덱스에는 반영됐으므로 다음 스냅샷에서 저장됨
+                logger.warn("장기 기억 로그 기록 실패 - CharacterId: {}, 원인: {}", characterId, e.getMessage());
+            }
+            dirty.add(characterId);
+        }
+        return true;
+    }
+
+    /**
+     * 마지막 스냅샷 이후 변경된 인덱스를 스냅샷으로 기록하고 로그를 비웁니다.
+     * 임시 파일에 쓴 뒤 교체하므로 기록 중에 종료되어도 이전 스냅샷과 로그가 남습니다.
+     */
+    public void snapshot() {
+        for (Long characterId : new ArrayList<>(dirty)) {
+            HnswIndex index = indexes.get(characterId);
+            if (index == null) {
+                dirty.remove(characterId);
+                continue;
+            }
+            synchronized (index) {
+                dirty.remove(characterId);
+                Path snapshotPath = snapshotPath(characterId);
+                Path tempPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+                try {
+                    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+                        index.writeTo(out);
+                    }
+                    Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    Files.deleteIfExists(logPath(characterId));
+                } catch (IOException e) {
+                    dirty.add(characterId);
+                    logger.warn("장기 기억 스냅샷 기록 실패 - CharacterId: {}, 원인: {}", characterId, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private HnswIndex load(long characterId) {
+        HnswIndex index = readSnapshot(characterId);
+        int replayed = replayLog(characterId, index);
+        if (replayed > 0) {
+            dirty.add(characterId);
+        }
+        logger.debug("장기 기억 인덱스 로드 - CharacterId: {}, 크기: {}, 로그 반영: {}",
+                characterId, index.size(), replayed);
+        return index;
+    }
+
+    private HnswIndex readSnapshot(long characterId) {
+        Path snapshotPath = snapshotPath(characterId);
+        if (Files.exists(snapshotPath)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+                HnswIndex index = HnswIndex.readFrom(in, characterId);
+                if (index.dimension() == dimension) {
+                    return index;
+                }
+                logger.warn("장기 기억 스냅샷 차원이 다릅니다 - CharacterId: {}, 무시하고 새로 만듭니다.", characterId);
+            } catch (IOException e) {
+                logger.warn("장기 기억 스냅샷 읽기 실패 - CharacterId: {}, 원인: {}", characterId, e.getMessage());
+            }
+        }
+        return new HnswIndex(dimension, maxNeighbors, efConstruction, characterId);
+    }
+
+    private int replayLog(long characterId, HnswIndex index) {
+        Path logPath = logPath(characterId);
+        if (!Files.exists(logPath)) {
+            return 0;
+        }
+        int replayed = 0;
+        long validBytes = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(logPath)))) {
+            while (true) {
+                long id = in.readLong();
+                String text = HnswIndex.readString(in);
+                float[] vector = HnswIndex.readVector(in, dimension);
+                validBytes += Long.BYTES + Integer.BYTES + text.getBytes(StandardCharsets.UTF_8).length
+                        + (long) Float.BYTES * dimension;
+                if (index.add(id, text, vector)) {
+                    replayed++;
+                }
+            }
+        } catch (EOFException e) {
+            // 로그 끝. 잘린 마지막 레코드는 잘라내야 이어서 덧붙이는 레코드를 읽을 수 있음
+            truncate(characterId, logPath, validBytes);
+        } catch (IOException e) {
+            logger.warn("장기 기억 로그 읽기 실패 - CharacterId: {}, 원인: {}", characterId, e.getMessage());
+            truncate(characterId, logPath, validBytes);
+        }
+        return replayed;
+    }
+
+    private void truncate(long characterId, Path logPath, long validBytes) {
+        try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.WRITE)) {
+            if (channel.size() > validBytes) {
+                channel.truncate(validBytes);
+                logger.warn("장기 기억 로그의 손상된 끝부분을 잘라냈습니다 - CharacterId: {}", characterId);
+            }
+        } catch (IOException e) {
+            logger.warn("장기 기억 로그 정리 실패 - CharacterId: {}, 원인: {}", characterId, e.getMessage());
+        }
+    }
+
+    private Path snapshotPath(long characterId) {
+        return directory.resolve(characterId + SNAPSHOT_SUFFIX);
+    }
+
+    private Path logPath(long characterId) {
+        return directory.resolve(characterId + LOG_SUFFIX);
+    }
+}
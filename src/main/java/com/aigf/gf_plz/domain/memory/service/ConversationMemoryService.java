@@ -0,0 +1,200 @@
+package com.aigf.gf_plz.domain.memory.service;
+
+import com.aigf.gf_plz.domain.memory.index.HnswIndex;
+import com.aigf.gf_plz.domain.memory.index.MemoryIndexStore;
+import com.aigf.gf_plz.domain.session.repository.SessionRepository;
+import com.aigf.gf_plz.global.embedding.Embedder;
+import com.aigf.gf_plz.global.groq.GroqMessage;
+import com.aigf.gf_plz.global.groq.prompt.PromptBudgeter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 장기 기억 서비스
+ * 저장된 메시지를 임베딩해 캐릭터별 HNSW 인덱스에 쌓아 두고,
+ * 턴마다 사용자 입력과 가까운 예전 대화를 찾아 히스토리 앞에 시스템 메시지로 붙입니다.
+ * 요약과 최근 윈도우에서 빠진 오래된 대화도 필요할 때만 프롬프트에 들어갑니다.
+ *
+ * - 인덱싱은 커밋 이후 전용 스레드에서 한 건씩 수행하므로 응답 경로를 막지 않습니다.
+ * - 인덱스 파일은 시작할 때 모두 읽어 두므로, 검색은 질의 임베딩 한 번과 메모리 그래프 탐색뿐이라 턴 준비 중에 바로 수행합니다.
+ *   (첫 검색이 턴 트랜잭션이나 Whisper/Netty 스레드에서 디스크를 읽지 않음)
+ * - 인덱스 파일은 임베딩 모델마다 다른 디렉터리에 두므로, 임베더를 바꾸면 새 인덱스가 쌓입니다.
+ */
+@Service
+public class ConversationMemoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConversationMemoryService.class);
+
+    private static final String MEMORY_HEADER = "[관련된 예전 대화] 아래는 지금 이야기와 관련해 기억나는 예전 대화야. 자연스럽게 참고만 해.";
+
+    private final Embedder embedder;
+    private final SessionRepository sessionRepository;
+    private final PromptBudgeter promptBudgeter;
+    private final boolean enabled;
+    private final int topK;
+    private final double minScore;
+    private final int minLength;
+    private final int efSearch;
+
+    private final MemoryIndexStore store;
+    private final Scheduler indexer = Schedulers.newSingle("memory-indexer", true);
+    private final Cache<Long, Long> characterIdBySession;
+
+    public ConversationMemoryService(
+            Embedder embedder,
+            SessionRepository sessionRepository,
+            PromptBudgeter promptBudgeter,
+            @Value("${conversation.memory.enabled:true}") boolean enabled,
+            @Value("${conversation.memory.path:./data/memory}") String path,
+            @Value("${conversation.memory.top-k:4}") int topK,
+            @Value("${conversation.memory.min-score:0.35}") double minScore,
+            @Value("${conversation.memory.min-length:8}") int minLength,
+            @Value("${conversation.memory.hnsw.max-neighbors:16}") int maxNeighbors,
+            @Value("${conversation.memory.hnsw.ef-construction:100}") int efConstruction,
+            @Value("${conversation.memory.hnsw.ef-search:50}") int efSearch,
+            @Value("${conversation.window.max-sessions:10000}") long maxSessions,
+            @Value("${conversation.window.ttl-minutes:30}") long ttlMinutes
+    ) {
+        this.embedder = embedder;
+        this.sessionRepository = sessionRepository;
+        this.promptBudgeter = promptBudgeter;
+        this.enabled = enabled;
+        this.topK = topK;
+        this.minScore = minScore;
+        this.minLength = minLength;
+        this.efSearch = efSearch;
+        this.store = enabled
+                ? new MemoryIndexStore(Path.of(path, embedder.modelId()), embedder.dimension(), maxNeighbors, efConstruction)
+                : null;
+        this.characterIdBySession = Caffeine.newBuilder()
+                .maximumSize(maxSessions)
+                .expireAfterAccess(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    /**
+     * 저장된 인덱스를 요청을 받기 전에 모두 불러옵니다.
+     */
+    @PostConstruct
+    public void loadIndexes() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        int loaded = store.loadAll();
+        logger.info("장기 기억 인덱스 로드 완료 - 캐릭터 수: {}, 소요: {}ms",
+                loaded, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 세션의 캐릭터 ID를 기억해 두어 인덱싱할 때 DB를 조회하지 않게 합니다.
+     */
+    public void registerSession(Long sessionId, Long characterId) {
+        if (enabled) {
+            characterIdBySession.put(sessionId, characterId);
+        }
+    }
+
+    /**
+     * 저장된 메시지를 비동기로 인덱스에 추가합니다.
+     * 트랜잭션 커밋 이후에 호출해야 합니다.
+     *
+     * @param message 역할과 원문 (user / assistant)
+     */
+    public void index(Long sessionId, Long messageId, GroqMessage message) {
+        if (!enabled || messageId == null || message.content() == null
+                || message.content().strip().length() < minLength) {
+            return;
+        }
+        indexer.schedule(() -> {
+            try {
+                Long characterId = characterIdBySession.get(sessionId,
+                        id -> sessionRepository.findCharacterIdBySessionId(id).orElse(null));
+                if (characterId == null) {
+                    return;
+                }
+                String text = ("user".equals(message.role()) ? "사용자: " : "캐릭터: ") + message.content();
+                store.add(characterId, messageId, text, embedder.embed(message.content()));
+            } catch (Exception e) {
+                logger.warn("장기 기억 인덱싱 실패 - SessionId: {}, MessageId: {}, 원인: {}",
+                        sessionId, messageId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 사용자 입력과 가까운 예전 대화를 찾아 시스템 메시지로 만듭니다.
+     * 이미 히스토리에 있는 메시지는 제외합니다.
+     *
+     * @param characterId 캐릭터 ID
+     * @param userText 이번 턴의 사용자 입력
+     * @param history 이번 턴에 전달할 히스토리
+     * @return 관련 기억이 없으면 빈 값
+     */
+    public Optional<GroqMessage> recall(Long characterId, String userText, List<GroqMessage> history) {
+        if (!enabled || userText == null || userText.isBlank()) {
+            return Optional.empty();
+        }
+
+        HnswIndex index = store.get(characterId);
+        if (index.size() == 0) {
+            return Optional.empty();
+        }
+
+        Set<String> inHistory = history.stream()
+                .map(GroqMessage::content)
+                .collect(Collectors.toCollection(HashSet::new));
+        inHistory.add(userText);
+
+        // 히스토리와 겹치는 결과를 걸러내도 top-k가 남도록 여유 있게 조회
+        List<String> memories = index.search(embedder.embed(userText), topK + history.size() + 1, efSearch).stream()
+                .filter(result -> result.score() >= minScore)
+                .map(HnswIndex.SearchResult::text)
+                .filter(text -> !inHistory.contains(text.substring(text.indexOf(": ") + 2)))
+                .limit(topK)
+                .toList();
+        if (memories.isEmpty()) {
+            return Optional.empty();
+        }
+
+        StringBuilder content = new StringBuilder(MEMORY_HEADER);
+        memories.forEach(memory -> content.append("\n- ").append(memory));
+        return Optional.of(promptBudgeter.message("system", content.toString()));
+    }
+
+    /**
+     * 변경된 인덱스를 주기적으로 스냅샷으로 기록합니다.
+     */
+    @Scheduled(fixedDelayString = "${conversation.memory.snapshot-interval:PT5M}")
+    public void snapshot() {
+        if (enabled) {
+            store.snapshot();
+        }
+    }
+
+    /**
+     * 대기 중인 인덱싱을 마친 뒤 마지막 스냅샷을 기록합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        indexer.disposeGracefully().timeout(Duration.ofSeconds(5)).onErrorComplete().block();
+        snapshot();
+    }
+}
@@ -1,10 +1,17 @@
 package com.aigf.gf_plz.domain.message.controller;
 
+import com.aigf.gf_plz.domain.message.dto.MessagePageDto;
 import com.aigf.gf_plz.domain.message.dto.MessageResponseDto;
 import com.aigf.gf_plz.domain.message.service.MessageService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -14,10 +21,14 @@ import java.util.List;
 @RequestMapping("/api/messages")
 public class MessageController {
 
+    private static final int FLUSH_EVERY = 100;
+
     private final MessageService messageService;
+    private final ObjectWriter messageWriter;
 
-    public MessageController(MessageService messageService) {
+    public MessageController(MessageService messageService, ObjectMapper objectMapper) {
         this.messageService = messageService;
+        this.messageWriter = objectMapper.writerFor(MessageResponseDto.class);
     }
 
     /**
@@ -30,18 +41,55 @@ public class MessageController {
     public List<MessageResponseDto> getMessagesBySessionId(@PathVariable Long sessionId) {
         return messageService.getMessagesBySessionId(sessionId);
     }
-}
-
-
-
-
-
-
-
-
-
-
-
-
 
+    /**
+     * 세션의 메시지를 최근부터 한 페이지씩 조회합니다.
+     * 응답의 nextBefore를 다음 요청의 before로 넘기면 더 이전 메시지를 조회합니다.
+     *
+     * @param sessionId 세션 ID
+     * @param before 이 메시지 ID보다 이전 메시지만 조회 (선택사항, 없으면 가장 최근부터)
+     * @param limit 페이지 크기 (선택사항)
+     * @return 메시지 페이지 (시간순 메시지 + 다음 커서)
+     */
+    @GetMapping(value = "/session/{sessionId}/page", produces = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8")
+    public MessagePageDto getMessagePage(
+            @PathVariable Long sessionId,
+            @RequestParam(value = "before", required = false) Long before,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return messageService.getMessagePage(sessionId, before, limit);
+    }
 
+    /**
+     * 세션의 모든 메시지를 NDJSON(한 줄에 메시지 하나)으로 스트리밍합니다.
+     * DB 커서에서 읽는 대로 응답에 쓰므로 세션이 길어도 메모리 사용량이 일정하고 첫 바이트가 빨리 나갑니다.
+     *
+     * @param sessionId 세션 ID
+     * @return 메시지 스트림 (시간순)
+     */
+    @GetMapping(value = "/session/{sessionId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMessagesBySessionId(@PathVariable Long sessionId) {
+        StreamingResponseBody body = out -> {
+            int[] written = {0};
+            try {
+                messageService.forEachMessage(sessionId, message -> {
+                    try {
+                        out.write(messageWriter.writeValueAsBytes(message));
+                        out.write('\n');
+                        if (++written[0] % FLUSH_EVERY == 0) {
+                            out.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                // 클라이언트 연결 종료 등 쓰기 실패는 원래 예외로 전달
+                throw e.getCause();
+            }
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
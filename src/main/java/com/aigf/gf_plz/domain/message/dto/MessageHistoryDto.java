@@ -0,0 +1,13 @@
+package com.aigf.gf_plz.domain.message.dto;
+
+import com.aigf.gf_plz.domain.message.entity.SenderRole;
+
+/**
+ * 대화 히스토리 조회용 경량 프로젝션
+ * Groq 전달에 필요한 발신자, 내용, 토큰 수만 조회하여 엔티티 로딩 비용을 줄입니다.
+ */
+public record MessageHistoryDto(
+        SenderRole senderRole,
+        String textContent,
+        Integer tokenCount
+) {}
@@ -0,0 +1,17 @@
+package com.aigf.gf_plz.domain.message.dto;
+
+import java.util.List;
+
+/**
+ * 메시지 페이지 응답 DTO
+ * 메시지는 시간순이며, 더 이전 메시지는 nextBefore를 before로 넘겨 조회합니다.
+ *
+ * @param messages 메시지 리스트 (시간순)
+ * @param nextBefore 다음 페이지 커서 (이 페이지에서 가장 오래된 메시지 ID, 더 없으면 null)
+ * @param hasMore 더 이전 메시지가 있는지 여부
+ */
+public record MessagePageDto(
+        List<MessageResponseDto> messages,
+        Long nextBefore,
+        boolean hasMore
+) {}
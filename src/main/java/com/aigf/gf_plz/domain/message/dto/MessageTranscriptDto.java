@@ -0,0 +1,17 @@
+package com.aigf.gf_plz.domain.message.dto;
+
+import com.aigf.gf_plz.domain.message.entity.SenderRole;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대화 평가용 경량 프로젝션
+ * 여러 세션의 메시지를 시간순으로 합치기 위한 ID/생성 시간과, 저장된 토큰 수를 함께 조회합니다.
+ */
+public record MessageTranscriptDto(
+        Long messageId,
+        SenderRole senderRole,
+        String textContent,
+        Integer tokenCount,
+        LocalDateTime createdAt
+) {}
@@ -1,6 +1,7 @@
 package com.aigf.gf_plz.domain.message.entity;
 
 import com.aigf.gf_plz.domain.session.entity.Session;
+import com.aigf.gf_plz.global.persistence.IdSequenceAligner;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -15,13 +16,21 @@ import java.time.LocalDateTime;
  * 채팅과 통화의 모든 메시지를 저장합니다.
  */
 @Entity
-@Table(name = "Message")
+@Table(
+        name = "Message",
+        indexes = {
+                @Index(name = "idx_message_session_created", columnList = "세션ID, 생성 시간"),
+                // 메시지 ID 커서 기반 조회 (히스토리 페이지, 요약 체크포인트)
+                @Index(name = "idx_message_session_id", columnList = "세션ID, 메시지ID")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Message {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "message_seq")
+    @SequenceGenerator(name = "message_seq", sequenceName = "message_seq", allocationSize = IdSequenceAligner.ALLOCATION_SIZE)
     @Column(name = "메시지ID")
     private Long messageId;
 
@@ -40,6 +49,12 @@ public class Message {
     @Column(name = "대화 내용", columnDefinition = "TEXT CHARACTER SET UTF8", nullable = false)
     private String textContent;
 
+    /**
+     * 대화 내용의 토큰 수 (저장 시점에 한 번 세어 프롬프트 예산 계산에 재사용, 이전 메시지는 null)
+     */
+    @Column(name = "토큰 수")
+    private Integer tokenCount;
+
     @CreationTimestamp
     @Column(name = "생성 시간", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -49,12 +64,14 @@ public class Message {
             Session session,
             SenderRole senderRole,
             MessageType messageType,
-            String textContent
+            String textContent,
+            Integer tokenCount
     ) {
         this.session = session;
         this.senderRole = senderRole;
         this.messageType = messageType;
         this.textContent = textContent;
+        this.tokenCount = tokenCount;
     }
 }
 
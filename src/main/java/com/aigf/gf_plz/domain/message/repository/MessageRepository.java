@@ -1,11 +1,19 @@
 package com.aigf.gf_plz.domain.message.repository;
 
+import com.aigf.gf_plz.domain.message.dto.MessageHistoryDto;
+import com.aigf.gf_plz.domain.message.dto.MessageResponseDto;
+import com.aigf.gf_plz.domain.message.dto.MessageTranscriptDto;
 import com.aigf.gf_plz.domain.message.entity.Message;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 메시지 리포지토리
@@ -20,9 +28,92 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
 
     /**
      * 세션 ID로 최근 메시지를 역순으로 조회합니다 (Groq 전달용).
-     * 최대 30개를 반환하도록 Java에서 제한합니다.
+     * Pageable 크기만큼만 DB에서 가져오며, (세션ID, 생성 시간) 인덱스를 사용하므로
+     * 세션의 전체 메시지 수와 관계없이 일정한 비용으로 조회됩니다.
+     *
+     * @param sessionId 세션 ID
+     * @param pageable 조회할 개수 (예: PageRequest.of(0, 30))
+     * @return 최근 메시지의 (발신자, 내용) 목록 (최신순)
      */
-    @Query("SELECT m FROM Message m WHERE m.session.sessionId = :sessionId ORDER BY m.createdAt DESC")
-    List<Message> findBySessionIdOrderByCreatedAtDesc(@Param("sessionId") Long sessionId);
-}
+    @Query("SELECT new com.aigf.gf_plz.domain.message.dto.MessageHistoryDto(m.senderRole, m.textContent, m.tokenCount) " +
+           "FROM Message m WHERE m.session.sessionId = :sessionId ORDER BY m.createdAt DESC, m.messageId DESC")
+    List<MessageHistoryDto> findRecentHistoryBySessionId(@Param("sessionId") Long sessionId, Pageable pageable);
+
+    /**
+     * 체크포인트(메시지 ID) 이후의 메시지를 오래된 순으로 조회합니다 (대화 요약용).
+     *
+     * @param sessionId 세션 ID
+     * @param afterMessageId 마지막으로 요약에 반영한 메시지 ID (없으면 0)
+     * @param pageable 조회할 최대 개수
+     * @return 체크포인트 이후 메시지 (오래된 순)
+     */
+    @Query("SELECT m FROM Message m WHERE m.session.sessionId = :sessionId AND m.messageId > :afterMessageId " +
+           "ORDER BY m.messageId ASC")
+    List<Message> findBySessionIdAfterMessageId(
+            @Param("sessionId") Long sessionId,
+            @Param("afterMessageId") Long afterMessageId,
+            Pageable pageable
+    );
+
+    /**
+     * 세션의 최근 메시지를 응답 DTO로 바로 조회합니다 (최신순, 엔티티 로딩 없음).
+     * (세션ID, 메시지ID) 인덱스 순서로 Pageable 크기만큼만 읽습니다.
+     *
+     * @param sessionId 세션 ID
+     * @param pageable 조회할 개수 (페이지 번호는 항상 0)
+     * @return 최근 메시지 (최신순)
+     */
+    @Query("SELECT new com.aigf.gf_plz.domain.message.dto.MessageResponseDto(" +
+           "m.messageId, m.session.sessionId, m.senderRole, m.messageType, m.textContent, m.createdAt) " +
+           "FROM Message m WHERE m.session.sessionId = :sessionId ORDER BY m.messageId DESC")
+    List<MessageResponseDto> findLatestResponsesBySessionId(@Param("sessionId") Long sessionId, Pageable pageable);
+
+    /**
+     * 세션의 최근 메시지를 저장된 토큰 수와 함께 조회합니다 (최신순, 관계 평가용).
+     * (세션ID, 메시지ID) 인덱스 순서로 Pageable 크기만큼만 읽습니다.
+     *
+     * @param sessionId 세션 ID
+     * @param pageable 조회할 개수 (페이지 번호는 항상 0)
+     * @return 최근 메시지 (최신순)
+     */
+    @Query("SELECT new com.aigf.gf_plz.domain.message.dto.MessageTranscriptDto(" +
+           "m.messageId, m.senderRole, m.textContent, m.tokenCount, m.createdAt) " +
+           "FROM Message m WHERE m.session.sessionId = :sessionId ORDER BY m.messageId DESC")
+    List<MessageTranscriptDto> findLatestTranscriptBySessionId(@Param("sessionId") Long sessionId, Pageable pageable);
 
+    /**
+     * 커서(메시지 ID)보다 이전 메시지를 응답 DTO로 바로 조회합니다 (최신순, 키셋 페이지네이션).
+     *
+     * @param sessionId 세션 ID
+     * @param beforeMessageId 이전 페이지에서 가장 오래된 메시지 ID (이 ID는 제외)
+     * @param pageable 조회할 개수 (페이지 번호는 항상 0)
+     * @return 커서 이전 메시지 (최신순)
+     */
+    @Query("SELECT new com.aigf.gf_plz.domain.message.dto.MessageResponseDto(" +
+           "m.messageId, m.session.sessionId, m.senderRole, m.messageType, m.textContent, m.createdAt) " +
+           "FROM Message m WHERE m.session.sessionId = :sessionId AND m.messageId < :beforeMessageId " +
+           "ORDER BY m.messageId DESC")
+    List<MessageResponseDto> findResponsesBySessionIdBefore(
+            @Param("sessionId") Long sessionId,
+            @Param("beforeMessageId") Long beforeMessageId,
+            Pageable pageable
+    );
+
+    /**
+     * 세션의 모든 메시지를 응답 DTO로 조회합니다 (시간순, 엔티티 로딩 없음).
+     */
+    @Query("SELECT new com.aigf.gf_plz.domain.message.dto.MessageResponseDto(" +
+           "m.messageId, m.session.sessionId, m.senderRole, m.messageType, m.textContent, m.createdAt) " +
+           "FROM Message m WHERE m.session.sessionId = :sessionId ORDER BY m.messageId ASC")
+    List<MessageResponseDto> findResponsesBySessionId(@Param("sessionId") Long sessionId);
+
+    /**
+     * 세션의 모든 메시지를 전방향 커서로 한 행씩 읽습니다 (시간순, 엔티티 로딩 없음).
+     * 전체 결과를 메모리에 올리지 않으며, 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    @Query("SELECT new com.aigf.gf_plz.domain.message.dto.MessageResponseDto(" +
+           "m.messageId, m.session.sessionId, m.senderRole, m.messageType, m.textContent, m.createdAt) " +
+           "FROM Message m WHERE m.session.sessionId = :sessionId ORDER BY m.messageId ASC")
+    Stream<MessageResponseDto> streamResponsesBySessionId(@Param("sessionId") Long sessionId);
+}
@@ -1,8 +1,10 @@
 package com.aigf.gf_plz.domain.message.service;
 
+import com.aigf.gf_plz.domain.message.dto.MessagePageDto;
 import com.aigf.gf_plz.domain.message.dto.MessageResponseDto;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 메시지 서비스 인터페이스
@@ -15,18 +17,21 @@ public interface MessageService {
      * @return 메시지 리스트 (시간순)
      */
     List<MessageResponseDto> getMessagesBySessionId(Long sessionId);
-}
-
-
-
-
-
-
-
-
-
-
-
-
 
+    /**
+     * 세션의 메시지를 최근부터 한 페이지씩 조회합니다 (메시지 ID 커서 기반).
+     * @param sessionId 세션 ID
+     * @param before 이 메시지 ID보다 이전 메시지만 조회 (null이면 가장 최근부터)
+     * @param limit 페이지 크기 (null이면 기본값, 최대값을 넘으면 최대값)
+     * @return 메시지 페이지 (시간순 메시지 + 다음 커서)
+     */
+    MessagePageDto getMessagePage(Long sessionId, Long before, Integer limit);
 
+    /**
+     * 세션의 모든 메시지를 메모리에 모으지 않고 한 건씩 전달합니다 (시간순).
+     * 전달이 끝날 때까지 DB 커서와 커넥션을 사용합니다.
+     * @param sessionId 세션 ID
+     * @param action 메시지마다 호출할 작업
+     */
+    void forEachMessage(Long sessionId, Consumer<MessageResponseDto> action);
+}
@@ -1,58 +1,70 @@
 package com.aigf.gf_plz.domain.message.service;
 
+import com.aigf.gf_plz.domain.message.dto.MessagePageDto;
 import com.aigf.gf_plz.domain.message.dto.MessageResponseDto;
-import com.aigf.gf_plz.domain.message.entity.Message;
 import com.aigf.gf_plz.domain.message.repository.MessageRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * 메시지 서비스 구현체
+ * 메시지 조회는 모두 응답 DTO 프로젝션으로 수행하므로 엔티티를 로딩하지 않습니다.
  */
 @Service
 public class MessageServiceImpl implements MessageService {
 
     private final MessageRepository messageRepository;
-
-    public MessageServiceImpl(MessageRepository messageRepository) {
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public MessageServiceImpl(
+            MessageRepository messageRepository,
+            @Value("${message.history.default-page-size:50}") int defaultPageSize,
+            @Value("${message.history.max-page-size:200}") int maxPageSize
+    ) {
         this.messageRepository = messageRepository;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<MessageResponseDto> getMessagesBySessionId(Long sessionId) {
-        List<Message> messages = messageRepository.findBySessionIdOrderByCreatedAtAsc(sessionId);
-        return messages.stream()
-                .map(this::toResponseDto)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Message 엔티티를 MessageResponseDto로 변환합니다.
-     */
-    private MessageResponseDto toResponseDto(Message message) {
-        return new MessageResponseDto(
-                message.getMessageId(),
-                message.getSession().getSessionId(),
-                message.getSenderRole(),
-                message.getMessageType(),
-                message.getTextContent(),
-                message.getCreatedAt()
-        );
+        return messageRepository.findResponsesBySessionId(sessionId);
     }
-}
-
-
-
-
-
-
-
 
+    @Override
+    @Transactional(readOnly = true)
+    public MessagePageDto getMessagePage(Long sessionId, Long before, Integer limit) {
+        int size = limit == null ? defaultPageSize : Math.min(Math.max(limit, 1), maxPageSize);
 
+        // 한 건 더 조회해서 이전 메시지가 남아 있는지 확인
+        PageRequest pageable = PageRequest.of(0, size + 1);
+        List<MessageResponseDto> newestFirst = before == null
+                ? messageRepository.findLatestResponsesBySessionId(sessionId, pageable)
+                : messageRepository.findResponsesBySessionIdBefore(sessionId, before, pageable);
 
+        boolean hasMore = newestFirst.size() > size;
+        List<MessageResponseDto> messages = new ArrayList<>(hasMore ? newestFirst.subList(0, size) : newestFirst);
+        Collections.reverse(messages);
 
+        Long nextBefore = hasMore ? messages.get(0).messageId() : null;
+        return new MessagePageDto(messages, nextBefore, hasMore);
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachMessage(Long sessionId, Consumer<MessageResponseDto> action) {
+        try (Stream<MessageResponseDto> messages = messageRepository.streamResponsesBySessionId(sessionId)) {
+            messages.forEach(action);
+        }
+    }
+}
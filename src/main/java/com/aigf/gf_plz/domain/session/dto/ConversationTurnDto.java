@@ -0,0 +1,18 @@
+package com.aigf.gf_plz.domain.session.dto;
+
+import com.aigf.gf_plz.domain.character.entity.VoiceType;
+import com.aigf.gf_plz.global.groq.GroqMessage;
+
+import java.util.List;
+
+/**
+ * 대화 한 턴을 처리하기 위해 준비된 정보
+ * 트랜잭션 밖에서 LLM/TTS 호출에 사용할 수 있도록 엔티티 대신 값만 담습니다.
+ */
+public record ConversationTurnDto(
+        Long sessionId,
+        Long characterId,
+        List<GroqMessage> history,
+        String systemPrompt,
+        VoiceType voiceType
+) {}
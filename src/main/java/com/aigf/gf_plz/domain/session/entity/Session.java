@@ -1,6 +1,7 @@
 package com.aigf.gf_plz.domain.session.entity;
 
 import com.aigf.gf_plz.domain.character.entity.Character;
+import com.aigf.gf_plz.global.persistence.IdSequenceAligner;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -15,13 +16,19 @@ import java.time.LocalDateTime;
  * 채팅과 통화 세션을 통합 관리합니다.
  */
 @Entity
-@Table(name = "Session")
+@Table(name = "Session", indexes = {
+        // 최근 대화한 활성 세션 목록 (활성화 = true ORDER BY 마지막 대화 DESC)
+        @Index(name = "idx_session_active_last_message", columnList = "활성화, 마지막 대화"),
+        // 캐릭터/대화 타입별 최근 세션 (캐릭터ID = ? AND 대화 타입 = ? ORDER BY 마지막 대화 DESC)
+        @Index(name = "idx_session_character_type_last_message", columnList = "캐릭터ID, 대화 타입, 마지막 대화")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Session {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "session_seq")
+    @SequenceGenerator(name = "session_seq", sequenceName = "session_seq", allocationSize = IdSequenceAligner.ALLOCATION_SIZE)
     @Column(name = "세션ID")
     private Long sessionId;
 
@@ -0,0 +1,49 @@
+package com.aigf.gf_plz.domain.session.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 세션 대화 요약 엔티티
+ * 최근 대화 윈도우 밖으로 밀려난 오래된 메시지를 누적 요약으로 보관합니다.
+ * 체크포인트(마지막으로 요약에 반영한 메시지 ID) 이후의 메시지만 다음 요약에 반영합니다.
+ */
+@Entity
+@Table(name = "SessionSummary")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SessionSummary {
+
+    @Id
+    @Column(name = "세션ID")
+    private Long sessionId;
+
+    @Column(name = "요약", columnDefinition = "TEXT CHARACTER SET UTF8", nullable = false)
+    private String summary;
+
+    @Column(name = "마지막 요약 메시지ID", nullable = false)
+    private Long lastMessageId;
+
+    @Column(name = "수정 시간", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public SessionSummary(Long sessionId, String summary, Long lastMessageId) {
+        this.sessionId = sessionId;
+        this.summary = summary;
+        this.lastMessageId = lastMessageId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 새 메시지를 반영한 요약으로 갱신하고 체크포인트를 옮깁니다.
+     */
+    public void update(String summary, Long lastMessageId) {
+        this.summary = summary;
+        this.lastMessageId = lastMessageId;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -1,16 +1,21 @@
 package com.aigf.gf_plz.domain.session.repository;
 
+import com.aigf.gf_plz.domain.character.entity.Gender;
 import com.aigf.gf_plz.domain.session.entity.Session;
 import com.aigf.gf_plz.domain.session.entity.SessionType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * 세션 리포지토리
+ * 목록 조회는 모두 Pageable 크기만큼만 가져옵니다. 가장 최근 한 건이 필요하면 PageRequest.of(0, 1)을 사용합니다.
  */
 public interface SessionRepository extends JpaRepository<Session, Long> {
 
@@ -25,55 +30,63 @@ public interface SessionRepository extends JpaRepository<Session, Long> {
     Optional<Session> findBySessionId(Long sessionId);
 
     /**
-     * 캐릭터 ID, 세션 타입, 활성화 상태로 세션을 조회합니다.
+     * 세션의 캐릭터 ID만 조회합니다.
      */
-    @Query("SELECT s FROM Session s WHERE s.character.characterId = :characterId AND s.sessionType = :sessionType AND s.isActive = true")
-    Optional<Session> findByCharacterIdAndSessionTypeAndIsActiveTrue(
-            @Param("characterId") Long characterId,
-            @Param("sessionType") SessionType sessionType
-    );
+    @Query("SELECT s.character.characterId FROM Session s WHERE s.sessionId = :sessionId")
+    Optional<Long> findCharacterIdBySessionId(@Param("sessionId") Long sessionId);
 
     /**
-     * 캐릭터 ID, 세션 타입, 활성화 상태로 가장 최근 세션을 조회합니다 (lastMessageAt 기준).
-     * 여러 활성 세션이 있을 경우 가장 최근에 메시지가 있는 세션을 반환합니다.
+     * 캐릭터 ID와 세션 타입으로 재사용할 세션을 조회합니다 (비활성 포함).
+     * 활성 세션을 우선하고, 그 안에서 최근에 메시지가 있는 세션부터 반환합니다.
+     * PageRequest.of(0, 1)로 한 건만 조회합니다.
      */
-    @Query("SELECT s FROM Session s WHERE s.character.characterId = :characterId AND s.sessionType = :sessionType AND s.isActive = true " +
-           "ORDER BY s.lastMessageAt DESC NULLS LAST, s.createdAt DESC")
-    List<Session> findByCharacterIdAndSessionTypeAndIsActiveTrueOrderByLastMessageAtDesc(
+    @Query("SELECT s FROM Session s WHERE s.character.characterId = :characterId AND s.sessionType = :sessionType " +
+           "ORDER BY s.isActive DESC, s.lastMessageAt DESC NULLS LAST, s.createdAt DESC")
+    List<Session> findLatestByCharacterIdAndSessionType(
             @Param("characterId") Long characterId,
-            @Param("sessionType") SessionType sessionType
+            @Param("sessionType") SessionType sessionType,
+            Pageable pageable
     );
 
     /**
-     * 캐릭터 ID와 세션 타입으로 최근 세션을 조회합니다 (비활성 포함).
+     * 세션을 불러오지 않고 마지막 대화 시간만 갱신합니다.
+     */
+    @Modifying
+    @Query("UPDATE Session s SET s.lastMessageAt = :lastMessageAt WHERE s.sessionId = :sessionId")
+    int updateLastMessageAt(@Param("sessionId") Long sessionId, @Param("lastMessageAt") LocalDateTime lastMessageAt);
+
+    /**
+     * 캐릭터 ID와 세션 타입으로 최근 세션 ID를 조회합니다 (비활성 포함, 마지막 대화 시간 기준).
+     * (캐릭터ID, 대화 타입, 마지막 대화) 인덱스를 사용합니다.
      */
-    @Query("SELECT s FROM Session s WHERE s.character.characterId = :characterId AND s.sessionType = :sessionType ORDER BY s.lastMessageAt DESC")
-    List<Session> findByCharacterIdAndSessionTypeOrderByLastMessageAtDesc(
+    @Query("SELECT s.sessionId FROM Session s WHERE s.character.characterId = :characterId AND s.sessionType = :sessionType " +
+           "ORDER BY s.lastMessageAt DESC NULLS LAST, s.createdAt DESC")
+    List<Long> findRecentSessionIdsByCharacterIdAndSessionType(
             @Param("characterId") Long characterId,
-            @Param("sessionType") SessionType sessionType
+            @Param("sessionType") SessionType sessionType,
+            Pageable pageable
     );
 
     /**
-     * 최근 활성 세션을 조회합니다 (중복 캐릭터 제거, 최근 대화 시간 기준).
-     * 각 캐릭터별로 가장 최근에 대화한 세션만 반환합니다.
+     * 캐릭터 ID로 최근 세션 ID를 조회합니다 (세션 타입 무관, 비활성 포함).
+     * lastMessageAt 기준으로 정렬하며, 없으면 createdAt 기준으로 정렬합니다.
      */
-    @Query("SELECT s FROM Session s WHERE s.isActive = true AND s.lastMessageAt IS NOT NULL " +
-           "ORDER BY s.lastMessageAt DESC")
-    List<Session> findRecentActiveSessions();
-    
+    @Query("SELECT s.sessionId FROM Session s WHERE s.character.characterId = :characterId " +
+           "ORDER BY s.lastMessageAt DESC NULLS LAST, s.createdAt DESC")
+    List<Long> findRecentSessionIdsByCharacterId(@Param("characterId") Long characterId, Pageable pageable);
+
     /**
-     * 성별로 필터링된 최근 활성 세션을 조회합니다.
-     * 각 캐릭터별로 가장 최근에 대화한 세션만 반환합니다.
+     * 최근에 대화한 활성 세션을 캐릭터와 함께 조회합니다.
+     * (활성화, 마지막 대화) 인덱스 순서로 Pageable 크기만큼만 읽습니다.
      */
-    @Query("SELECT s FROM Session s WHERE s.isActive = true AND s.lastMessageAt IS NOT NULL " +
-           "AND s.character.gender = :gender ORDER BY s.lastMessageAt DESC")
-    List<Session> findRecentActiveSessionsByGender(@Param("gender") com.aigf.gf_plz.domain.character.entity.Gender gender);
+    @Query("SELECT s FROM Session s JOIN FETCH s.character WHERE s.isActive = true AND s.lastMessageAt IS NOT NULL " +
+           "ORDER BY s.lastMessageAt DESC, s.sessionId DESC")
+    List<Session> findRecentActiveSessions(Pageable pageable);
 
     /**
-     * 캐릭터 ID로 가장 최근 세션을 조회합니다 (세션 타입 무관, 비활성 포함).
-     * lastMessageAt 기준으로 정렬하며, 없으면 createdAt 기준으로 정렬합니다.
+     * 성별로 필터링된 최근 활성 세션을 캐릭터와 함께 조회합니다.
      */
-    @Query("SELECT s FROM Session s WHERE s.character.characterId = :characterId " +
-           "ORDER BY s.lastMessageAt DESC NULLS LAST, s.createdAt DESC")
-    List<Session> findByCharacterIdOrderByLastMessageAtDesc(@Param("characterId") Long characterId);
+    @Query("SELECT s FROM Session s JOIN FETCH s.character c WHERE s.isActive = true AND s.lastMessageAt IS NOT NULL " +
+           "AND c.gender = :gender ORDER BY s.lastMessageAt DESC, s.sessionId DESC")
+    List<Session> findRecentActiveSessionsByGender(@Param("gender") Gender gender, Pageable pageable);
 }
@@ -0,0 +1,10 @@
+package com.aigf.gf_plz.domain.session.repository;
+
+import com.aigf.gf_plz.domain.session.entity.SessionSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 세션 대화 요약 리포지토리
+ */
+public interface SessionSummaryRepository extends JpaRepository<SessionSummary, Long> {
+}
@@ -0,0 +1,203 @@
+package com.aigf.gf_plz.domain.session.service;
+
+import com.aigf.gf_plz.domain.message.entity.Message;
+import com.aigf.gf_plz.domain.message.entity.SenderRole;
+import com.aigf.gf_plz.domain.message.repository.MessageRepository;
+import com.aigf.gf_plz.domain.session.entity.SessionSummary;
+import com.aigf.gf_plz.domain.session.repository.SessionSummaryRepository;
+import com.aigf.gf_plz.global.groq.GroqClient;
+import com.aigf.gf_plz.global.groq.GroqPriority;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대화 누적 요약 서비스
+ * 메시지가 저장된 세션을 표시해 두었다가 주기적으로, 최근 윈도우 밖으로 밀려난 메시지를
+ * 가벼운 Groq 모델로 기존 요약에 합쳐 저장합니다.
+ * 요약이 있는 세션은 요약을 시스템 프롬프트에 붙이고 짧은 최근 윈도우만 Groq에 전달합니다.
+ *
+ * - 체크포인트(마지막 요약 메시지 ID) 이후의 메시지만 읽으므로 요약 비용은 새 메시지 수에만 비례합니다.
+ * - 요약 대상 표시는 메모리에만 있으므로, 재시작 후에는 다음 메시지가 저장될 때 다시 표시됩니다.
+ */
+@Service
+public class ConversationSummaryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConversationSummaryService.class);
+
+    private static final String SUMMARY_SYSTEM_PROMPT = """
+            너는 사용자와 AI 여자친구 캐릭터의 대화를 기억용으로 요약하는 도우미야.
+            [기존 요약]과 [새 대화]를 합쳐 하나의 요약으로 다시 써줘.
+            - 사용자에 대해 알게 된 사실(이름, 취향, 일정, 약속, 고민)은 빠짐없이 남겨.
+            - 관계의 흐름과 감정 변화, 다음에 이어서 이야기할 만한 주제를 간결하게 정리해.
+            - 인사말이나 의미 없는 잡담은 생략해.
+            - 설명 없이 요약 본문만 한국어로 작성해.
+            """;
+
+    private final SessionSummaryRepository sessionSummaryRepository;
+    private final MessageRepository messageRepository;
+    private final GroqClient groqClient;
+    private final boolean enabled;
+    private final String model;
+    private final int recentWindow;
+    private final int keepRecent;
+    private final int maxBatch;
+    private final int maxSummaryTokens;
+
+    private final Set<Long> pendingSessions = ConcurrentHashMap.newKeySet();
+    private final Cache<Long, Optional<String>> summaries;
+
+    public ConversationSummaryService(
+            SessionSummaryRepository sessionSummaryRepository,
+            MessageRepository messageRepository,
+            GroqClient groqClient,
+            @Value("${conversation.summary.enabled:true}") boolean enabled,
+            @Value("${conversation.summary.model:llama-3.1-8b-instant}") String model,
+            @Value("${conversation.summary.recent-window:20}") int recentWindow,
+            @Value("${conversation.summary.keep-recent:10}") int keepRecent,
+            @Value("${conversation.summary.max-batch:100}") int maxBatch,
+            @Value("${conversation.summary.max-tokens:400}") int maxSummaryTokens,
+            @Value("${conversation.window.max-sessions:10000}") long maxSessions,
+            @Value("${conversation.window.ttl-minutes:30}") long ttlMinutes
+    ) {
+        if (keepRecent > recentWindow) {
+            throw new IllegalArgumentException("conversation.summary.keep-recent는 recent-window 이하여야 합니다.");
+        }
+        this.sessionSummaryRepository = sessionSummaryRepository;
+        this.messageRepository = messageRepository;
+        this.groqClient = groqClient;
+        this.enabled = enabled;
+        this.model = model;
+        this.recentWindow = recentWindow;
+        this.keepRecent = keepRecent;
+        this.maxBatch = maxBatch;
+        this.maxSummaryTokens = maxSummaryTokens;
+        this.summaries = Caffeine.newBuilder()
+                .maximumSize(maxSessions)
+                .expireAfterAccess(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    /**
+     * 메시지가 저장된 세션을 다음 요약 대상으로 표시합니다.
+     */
+    public void markPending(Long sessionId) {
+        if (enabled) {
+            pendingSessions.add(sessionId);
+        }
+    }
+
+    /**
+     * 세션의 누적 요약을 반환합니다 (캐시).
+     */
+    public Optional<String> findSummary(Long sessionId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return summaries.get(sessionId, id -> sessionSummaryRepository.findById(id).map(SessionSummary::getSummary));
+    }
+
+    /**
+     * 요약이 있는 세션에서 Groq에 전달할 최근 메시지 수
+     * 요약되지 않은 메시지는 항상 keep-recent 이상, recent-window 이하로 유지됩니다 (요약 주기 지연 제외).
+     */
+    public int recentWindow() {
+        return recentWindow;
+    }
+
+    /**
+     * 캐릭터 시스템 프롬프트 뒤에 누적 요약을 붙입니다.
+     */
+    public String appendSummary(String systemPrompt, String summary) {
+        return systemPrompt + "\n\n[지금까지의 대화 요약]\n" + summary;
+    }
+
+    /**
+     * 표시된 세션을 요약합니다.
+     * 실패한 세션은 다시 표시해 다음 주기에 재시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${conversation.summary.interval:PT1M}")
+    public void summarizePendingSessions() {
+        if (pendingSessions.isEmpty()) {
+            return;
+        }
+
+        List<Long> sessionIds = new ArrayList<>(pendingSessions);
+        pendingSessions.removeAll(sessionIds);
+        for (Long sessionId : sessionIds) {
+            try {
+                summarize(sessionId);
+            } catch (Exception e) {
+                logger.warn("대화 요약 실패 - SessionId: {}, 원인: {}", sessionId, e.getMessage());
+                pendingSessions.add(sessionId);
+            }
+        }
+    }
+
+    /**
+     * 체크포인트 이후 메시지 중 최근 keep-recent개를 제외한 메시지를 기존 요약에 합칩니다.
+     * 요약되지 않은 메시지가 recent-window개 이하이면 아직 프롬프트에 모두 들어가므로 건너뜁니다.
+     */
+    void summarize(Long sessionId) {
+        Optional<SessionSummary> existing = sessionSummaryRepository.findById(sessionId);
+        long checkpoint = existing.map(SessionSummary::getLastMessageId).orElse(0L);
+
+        int fetchSize = maxBatch + keepRecent;
+        List<Message> newer = messageRepository.findBySessionIdAfterMessageId(
+                sessionId, checkpoint, PageRequest.of(0, fetchSize));
+        if (newer.size() <= recentWindow) {
+            return;
+        }
+
+        List<Message> toSummarize = newer.subList(0, newer.size() - keepRecent);
+        String previousSummary = existing.map(SessionSummary::getSummary).orElse(null);
+        String summary = groqClient.complete(model, SUMMARY_SYSTEM_PROMPT,
+                buildSummaryInput(previousSummary, toSummarize), maxSummaryTokens, GroqPriority.BATCH);
+
+        Long lastMessageId = toSummarize.get(toSummarize.size() - 1).getMessageId();
+        SessionSummary sessionSummary = existing
+                .map(found -> {
+                    found.update(summary, lastMessageId);
+                    return found;
+                })
+                .orElseGet(() -> new SessionSummary(sessionId, summary, lastMessageId));
+        sessionSummaryRepository.save(sessionSummary);
+        summaries.put(sessionId, Optional.of(summary));
+
+        logger.debug("대화 요약 갱신 - SessionId: {}, 반영 메시지 수: {}, 체크포인트: {}",
+                sessionId, toSummarize.size(), lastMessageId);
+
+        // 한 번에 다 읽지 못했으면 남은 메시지는 다음 주기에 이어서 요약
+        if (newer.size() == fetchSize) {
+            pendingSessions.add(sessionId);
+        }
+    }
+
+    private String buildSummaryInput(String previousSummary, List<Message> messages) {
+        StringBuilder input = new StringBuilder();
+        input.append("[기존 요약]\n")
+                .append(previousSummary != null ? previousSummary : "(없음)")
+                .append("\n\n[새 대화]\n");
+        for (Message message : messages) {
+            if (message.getSenderRole() == SenderRole.SYSTEM) {
+                continue;
+            }
+            input.append(message.getSenderRole() == SenderRole.USER ? "사용자: " : "캐릭터: ")
+                    .append(message.getTextContent())
+                    .append('\n');
+        }
+        return input.toString();
+    }
+}
@@ -0,0 +1,277 @@
+package com.aigf.gf_plz.domain.session.service;
+
+import com.aigf.gf_plz.domain.character.cache.CharacterPromptCache;
+import com.aigf.gf_plz.domain.character.dto.CharacterPromptDto;
+import com.aigf.gf_plz.domain.memory.service.ConversationMemoryService;
+import com.aigf.gf_plz.domain.message.dto.MessageHistoryDto;
+import com.aigf.gf_plz.domain.message.entity.Message;
+import com.aigf.gf_plz.domain.message.entity.MessageType;
+import com.aigf.gf_plz.domain.message.entity.SenderRole;
+import com.aigf.gf_plz.domain.message.repository.MessageRepository;
+import com.aigf.gf_plz.domain.session.dto.ConversationTurnDto;
+import com.aigf.gf_plz.domain.session.entity.SessionType;
+import com.aigf.gf_plz.domain.session.repository.SessionRepository;
+import com.aigf.gf_plz.global.groq.GroqMessage;
+import com.aigf.gf_plz.global.groq.prompt.PromptBudgeter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅/통화 한 턴의 DB 작업을 담당하는 서비스
+ * LLM, STT, TTS 같은 외부 호출 동안 DB 커넥션과 락을 잡지 않도록
+ * 준비(조회 + 사용자 메시지 저장)와 응답 저장을 각각 짧은 트랜잭션으로 분리합니다.
+ */
+@Service
+public class ConversationTurnService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConversationTurnService.class);
+
+    private final SessionRepository sessionRepository;
+    private final MessageRepository messageRepository;
+    private final SessionResolver sessionResolver;
+    private final ConversationWindowCache conversationWindowCache;
+    private final CharacterPromptCache characterPromptCache;
+    private final PromptBudgeter promptBudgeter;
+    private final ConversationSummaryService conversationSummaryService;
+    private final ConversationMemoryService conversationMemoryService;
+
+    public ConversationTurnService(
+            SessionRepository sessionRepository,
+            MessageRepository messageRepository,
+            SessionResolver sessionResolver,
+            ConversationWindowCache conversationWindowCache,
+            CharacterPromptCache characterPromptCache,
+            PromptBudgeter promptBudgeter,
+            ConversationSummaryService conversationSummaryService,
+            ConversationMemoryService conversationMemoryService
+    ) {
+        this.sessionRepository = sessionRepository;
+        this.messageRepository = messageRepository;
+        this.sessionResolver = sessionResolver;
+        this.conversationWindowCache = conversationWindowCache;
+        this.characterPromptCache = characterPromptCache;
+        this.promptBudgeter = promptBudgeter;
+        this.conversationSummaryService = conversationSummaryService;
+        this.conversationMemoryService = conversationMemoryService;
+    }
+
+    /**
+     * 턴 준비 단계: 세션 조회/생성, 히스토리 조회, 사용자 메시지 저장, 캐릭터 프롬프트 생성을
+     * 하나의 짧은 트랜잭션에서 수행합니다. 커밋 이후에는 사용자 메시지가 보존됩니다.
+     *
+     * @param sessionId 클라이언트가 보낸 세션 ID (선택사항)
+     * @param characterId 캐릭터 ID
+     * @param sessionType 세션 타입 (CHAT / CALL)
+     * @param userText 사용자 입력 텍스트
+     * @param messageType 사용자 메시지 타입 (TEXT / TRANSCRIPT)
+     * @return LLM 호출에 필요한 세션 ID, 히스토리, 시스템 프롬프트, 목소리 정보
+     */
+    @Transactional
+    public ConversationTurnDto prepareTurn(
+            Optional<Long> sessionId,
+            Long characterId,
+            SessionType sessionType,
+            String userText,
+            MessageType messageType
+    ) {
+        // 1. 세션 결정 (대화 중인 세션은 메모리에서, 캐시 미스일 때만 DB 조회/생성)
+        Long resolvedSessionId = sessionResolver.resolve(sessionId, characterId, sessionType);
+
+        // 2. 히스토리 조회 (대화 중인 세션은 메모리 윈도우, 캐시 미스일 때만 DB 조회)
+        List<GroqMessage> history = conversationWindowCache.getOrLoad(resolvedSessionId, this::loadHistory);
+
+        // 3. 사용자 메시지 저장
+        saveUserMessage(resolvedSessionId, userText, messageType);
+
+        // 4. Character 및 프롬프트 조회 (캐시)
+        CharacterPromptDto character = characterPromptCache.get(characterId);
+
+        return toTurn(resolvedSessionId, characterId, history, character, userText);
+    }
+
+    /**
+     * 통화 연결 단계: 세션 조회/생성, 히스토리 조회, 캐릭터 프롬프트 생성만 수행합니다.
+     * WebSocket 통화처럼 연결 동안 세션/캐릭터 정보를 메모리에 들고 있는 경우,
+     * 연결 시 한 번만 호출하고 이후 발화마다 saveUserMessage만 호출합니다.
+     *
+     * @param sessionId 클라이언트가 보낸 세션 ID (선택사항)
+     * @param characterId 캐릭터 ID
+     * @param sessionType 세션 타입 (CHAT / CALL)
+     * @return 세션 ID, 히스토리, 시스템 프롬프트, 목소리 정보
+     */
+    @Transactional
+    public ConversationTurnDto openConversation(Optional<Long> sessionId, Long characterId, SessionType sessionType) {
+        Long resolvedSessionId = sessionResolver.resolve(sessionId, characterId, sessionType);
+        List<GroqMessage> history = conversationWindowCache.getOrLoad(resolvedSessionId, this::loadHistory);
+        CharacterPromptDto character = characterPromptCache.get(characterId);
+
+        return toTurn(resolvedSessionId, characterId, history, character, null);
+    }
+
+    /**
+     * 이미 열려 있는 세션에 사용자 메시지를 저장합니다.
+     *
+     * @param sessionId 세션 ID
+     * @param userText 사용자 입력 텍스트
+     * @param messageType 사용자 메시지 타입 (TEXT / TRANSCRIPT)
+     */
+    @Transactional
+    public void saveUserMessage(Long sessionId, String userText, MessageType messageType) {
+        GroqMessage historyMessage = promptBudgeter.message("user", userText);
+        Message userMessage = Message.builder()
+                .session(sessionRepository.getReferenceById(sessionId))
+                .senderRole(SenderRole.USER)
+                .messageType(messageType)
+                .textContent(userText)
+                .tokenCount(historyMessage.tokenCount())
+                .build();
+        messageRepository.save(userMessage);
+        sessionRepository.updateLastMessageAt(sessionId, LocalDateTime.now());
+        appendToWindowAfterCommit(sessionId, userMessage.getMessageId(), historyMessage);
+        logger.debug("사용자 메시지 저장 완료 - SessionId: {}, MessageId: {}", 
+                sessionId, userMessage.getMessageId());
+    }
+
+    /**
+     * 응답 저장 단계: AI 응답 메시지를 저장하고 세션의 마지막 대화 시간을 갱신합니다.
+     *
+     * @param sessionId 세션 ID
+     * @param reply AI 응답 텍스트
+     * @param messageType 응답 메시지 타입 (TEXT / TRANSCRIPT)
+     */
+    @Transactional
+    public void saveAssistantReply(Long sessionId, String reply, MessageType messageType) {
+        GroqMessage historyMessage = promptBudgeter.message("assistant", reply);
+        Message assistantMessage = Message.builder()
+                .session(sessionRepository.getReferenceById(sessionId))
+                .senderRole(SenderRole.ASSISTANT)
+                .messageType(messageType)
+                .textContent(reply)
+                .tokenCount(historyMessage.tokenCount())
+                .build();
+        messageRepository.save(assistantMessage);
+        sessionRepository.updateLastMessageAt(sessionId, LocalDateTime.now());
+        appendToWindowAfterCommit(sessionId, assistantMessage.getMessageId(), historyMessage);
+        logger.debug("AI 응답 메시지 저장 완료 - SessionId: {}, MessageId: {}", 
+                sessionId, assistantMessage.getMessageId());
+    }
+
+    /**
+     * LLM 호출에 필요한 턴 정보를 만듭니다.
+     * 누적 요약이 있으면 요약을 시스템 프롬프트에 붙이고, 히스토리는 요약되지 않은 최근 윈도우만 전달합니다.
+     * 사용자 입력이 있으면 관련된 예전 대화(장기 기억)를 히스토리 맨 앞에 붙입니다.
+     */
+    private ConversationTurnDto toTurn(Long sessionId, Long characterId, List<GroqMessage> history,
+                                       CharacterPromptDto character, String userText) {
+        conversationMemoryService.registerSession(sessionId, characterId);
+
+        String systemPrompt = character.systemPrompt();
+        List<GroqMessage> recentHistory = history;
+        Optional<String> summary = conversationSummaryService.findSummary(sessionId);
+        if (summary.isPresent()) {
+            int recentWindow = conversationSummaryService.recentWindow();
+            if (history.size() > recentWindow) {
+                recentHistory = history.subList(history.size() - recentWindow, history.size());
+            }
+            systemPrompt = conversationSummaryService.appendSummary(systemPrompt, summary.get());
+        }
+
+        return new ConversationTurnDto(sessionId, characterId, prependMemory(characterId, userText, recentHistory),
+                systemPrompt, character.voiceType());
+    }
+
+    /**
+     * 통화처럼 턴 정보를 메모리에 들고 있는 경우, 발화마다 장기 기억을 붙인 턴을 만듭니다.
+     *
+     * @param turn 연결 시 만든 턴 정보 (현재 히스토리 포함)
+     * @param userText 이번 발화
+     */
+    public ConversationTurnDto withMemory(ConversationTurnDto turn, String userText) {
+        List<GroqMessage> history = prependMemory(turn.characterId(), userText, turn.history());
+        if (history == turn.history()) {
+            return turn;
+        }
+        return new ConversationTurnDto(turn.sessionId(), turn.characterId(), history, turn.systemPrompt(), turn.voiceType());
+    }
+
+    private List<GroqMessage> prependMemory(Long characterId, String userText, List<GroqMessage> history) {
+        Optional<GroqMessage> memory = conversationMemoryService.recall(characterId, userText, history);
+        if (memory.isEmpty()) {
+            return history;
+        }
+        List<GroqMessage> withMemory = new ArrayList<>(history.size() + 1);
+        withMemory.add(memory.get());
+        withMemory.addAll(history);
+        return withMemory;
+    }
+
+    /**
+     * 캐시 미스 시 DB에서 최근 히스토리를 시간순으로 불러옵니다.
+     */
+    private List<GroqMessage> loadHistory(Long sessionId) {
+        List<MessageHistoryDto> messages = messageRepository.findRecentHistoryBySessionId(
+                sessionId, PageRequest.of(0, conversationWindowCache.windowSize()));
+        return convertToGroqMessages(messages);
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤에 대화 윈도우에 메시지를 추가하고, 세션을 요약 대상으로 표시하고, 장기 기억에 인덱싱합니다.
+     * 롤백된 메시지가 캐시에 남지 않도록 커밋 이후에만 반영합니다.
+     */
+    private void appendToWindowAfterCommit(Long sessionId, Long messageId, GroqMessage message) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterMessageSaved(sessionId, messageId, message);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                afterMessageSaved(sessionId, messageId, message);
+            }
+        });
+    }
+
+    private void afterMessageSaved(Long sessionId, Long messageId, GroqMessage message) {
+        conversationWindowCache.append(sessionId, message);
+        conversationSummaryService.markPending(sessionId);
+        conversationMemoryService.index(sessionId, messageId, message);
+    }
+
+    /**
+     * Message 리스트를 GroqMessage 리스트로 변환합니다.
+     * USER와 ASSISTANT 메시지만 변환하고, 시간순으로 정렬합니다.
+     * 토큰 수가 저장되지 않은 이전 메시지는 여기서 한 번 세어 윈도우에 보관합니다.
+     */
+    private List<GroqMessage> convertToGroqMessages(List<MessageHistoryDto> messages) {
+        if (messages == null || messages.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 역순으로 정렬된 메시지를 시간순으로 변환
+        List<MessageHistoryDto> sortedMessages = new java.util.ArrayList<>(messages);
+        Collections.reverse(sortedMessages);
+
+        return sortedMessages.stream()
+                .filter(msg -> msg.senderRole() == SenderRole.USER 
+                        || msg.senderRole() == SenderRole.ASSISTANT)
+                .map(msg -> {
+                    String role = msg.senderRole() == SenderRole.USER ? "user" : "assistant";
+                    return msg.tokenCount() != null
+                            ? new GroqMessage(role, msg.textContent(), msg.tokenCount())
+                            : promptBudgeter.message(role, msg.textContent());
+                })
+                .collect(Collectors.toList());
+    }
+}
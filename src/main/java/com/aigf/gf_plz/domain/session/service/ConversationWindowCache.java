@@ -0,0 +1,122 @@
+package com.aigf.gf_plz.domain.session.service;
+
+import com.aigf.gf_plz.global.groq.GroqMessage;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 세션별 최근 대화 윈도우 캐시
+ * 세션 ID마다 최근 N개의 GroqMessage를 고정 크기 링 버퍼로 보관하여,
+ * 대화 중인 세션은 매 턴마다 DB를 다시 조회하지 않고 메모리에서 히스토리를 읽습니다.
+ *
+ * - 캐시 미스일 때만 loader로 DB에서 채웁니다.
+ * - 메시지 저장 후에는 append로 윈도우에 추가합니다 (캐시에 없는 세션은 무시).
+ * - 세션 수 상한과 마지막 접근 후 TTL로 유휴 세션을 제거합니다.
+ */
+@Component
+public class ConversationWindowCache {
+
+    private final int windowSize;
+    private final Cache<Long, ConversationWindow> windows;
+
+    public ConversationWindowCache(
+            @Value("${conversation.window.size:30}") int windowSize,
+            @Value("${conversation.window.max-sessions:10000}") long maxSessions,
+            @Value("${conversation.window.ttl-minutes:30}") long ttlMinutes
+    ) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("conversation.window.size는 1 이상이어야 합니다.");
+        }
+        this.windowSize = windowSize;
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maxSessions)
+                .expireAfterAccess(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    /**
+     * 윈도우 크기 (세션별로 보관하는 최대 메시지 수)
+     */
+    public int windowSize() {
+        return windowSize;
+    }
+
+    /**
+     * 세션의 최근 대화를 시간순으로 반환합니다.
+     * 캐시에 없으면 loader로 불러와 윈도우를 채운 뒤 반환합니다.
+     *
+     * @param sessionId 세션 ID
+     * @param loader 캐시 미스 시 시간순 히스토리를 불러오는 함수
+     * @return 최근 대화 메시지 (시간순, 최대 windowSize개)
+     */
+    public List<GroqMessage> getOrLoad(Long sessionId, Function<Long, List<GroqMessage>> loader) {
+        ConversationWindow window = windows.get(sessionId, id -> {
+            ConversationWindow loaded = new ConversationWindow(windowSize);
+            loader.apply(id).forEach(loaded::append);
+            return loaded;
+        });
+        return window.snapshot();
+    }
+
+    /**
+     * 캐시된 세션 윈도우에 메시지를 추가합니다.
+     * 캐시에 없는 세션이면 아무것도 하지 않습니다 (다음 조회 시 DB에서 다시 채워짐).
+     */
+    public void append(Long sessionId, GroqMessage message) {
+        ConversationWindow window = windows.getIfPresent(sessionId);
+        if (window != null) {
+            window.append(message);
+        }
+    }
+
+    /**
+     * 세션 윈도우를 캐시에서 제거합니다.
+     */
+    public void evict(Long sessionId) {
+        windows.invalidate(sessionId);
+    }
+
+    /**
+     * 고정 크기 링 버퍼
+     * 가득 차면 가장 오래된 메시지를 덮어씁니다.
+     */
+    static final class ConversationWindow {
+
+        private final GroqMessage[] buffer;
+        private int head;   // 가장 오래된 메시지 위치
+        private int size;
+
+        ConversationWindow(int capacity) {
+            this.buffer = new GroqMessage[capacity];
+        }
+
+        synchronized void append(GroqMessage message) {
+            int tail = (head + size) % buffer.length;
+            buffer[tail] = message;
+            if (size < buffer.length) {
+                size++;
+            } else {
+                head = (head + 1) % buffer.length;
+            }
+        }
+
+        synchronized List<GroqMessage> snapshot() {
+            if (size == 0) {
+                return Collections.emptyList();
+            }
+            List<GroqMessage> messages = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                messages.add(buffer[(head + i) % buffer.length]);
+            }
+            return messages;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.aigf.gf_plz.domain.session.service;
+
+import com.aigf.gf_plz.domain.character.entity.Character;
+import com.aigf.gf_plz.domain.character.exception.CharacterNotFoundException;
+import com.aigf.gf_plz.domain.character.repository.CharacterRepository;
+import com.aigf.gf_plz.domain.session.entity.Session;
+import com.aigf.gf_plz.domain.session.entity.SessionType;
+import com.aigf.gf_plz.domain.session.repository.SessionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 대화 세션 결정 서비스
+ * (캐릭터 ID, 세션 타입)별로 사용할 세션 ID를 메모리에 보관해, 대화 중인 세션은 DB 조회 없이 결정합니다.
+ *
+ * - 캐시 미스일 때는 재사용할 세션을 한 건만 조회하고, 없으면 새로 만듭니다.
+ * - 같은 키를 동시에 결정하는 요청은 하나(리더)만 DB를 조회하고 나머지는 그 결과를 기다리므로
+ *   첫 메시지가 동시에 들어와도 세션이 중복 생성되지 않습니다.
+ * - 결과는 리더의 트랜잭션이 커밋된 뒤에 공유합니다 (커밋 전 세션 ID로 메시지를 저장하지 않도록).
+ *   리더가 롤백되면 기다리던 요청이 직접 다시 결정합니다.
+ */
+@Service
+public class SessionResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionResolver.class);
+
+    private static final int MAX_ATTEMPTS = 2;
+
+    private final SessionRepository sessionRepository;
+    private final CharacterRepository characterRepository;
+    private final Duration leaderWaitTimeout;
+
+    private final Cache<SessionKey, Long> sessionIds;
+    private final ConcurrentHashMap<SessionKey, CompletableFuture<Long>> inFlight = new ConcurrentHashMap<>();
+
+    public SessionResolver(
+            SessionRepository sessionRepository,
+            CharacterRepository characterRepository,
+            @Value("${conversation.session.leader-wait-timeout:5s}") Duration leaderWaitTimeout,
+            @Value("${conversation.window.max-sessions:10000}") long maxSessions,
+            @Value("${conversation.window.ttl-minutes:30}") long ttlMinutes
+    ) {
+        this.sessionRepository = sessionRepository;
+        this.characterRepository = characterRepository;
+        this.leaderWaitTimeout = leaderWaitTimeout;
+        this.sessionIds = Caffeine.newBuilder()
+                .maximumSize(maxSessions)
+                .expireAfterAccess(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    /**
+     * 대화에 사용할 세션 ID를 결정합니다.
+     * 클라이언트가 보낸 세션이 캐릭터/세션 타입과 일치하면 그 세션을, 아니면 가장 최근 세션(활성 우선)을 재사용하고,
+     * 세션이 하나도 없을 때만 새로 만듭니다. 비활성 세션은 재활성화합니다.
+     * 트랜잭션 안에서 호출해야 하며, 새로 만든 세션은 그 트랜잭션이 커밋된 뒤에 공유됩니다.
+     *
+     * @param requestedSessionId 클라이언트가 보낸 세션 ID (선택사항)
+     * @param characterId 캐릭터 ID
+     * @param sessionType 세션 타입 (CHAT / CALL)
+     * @return 세션 ID
+     * @throws CharacterNotFoundException 세션을 만들어야 하는데 캐릭터가 없는 경우
+     */
+    public Long resolve(Optional<Long> requestedSessionId, Long characterId, SessionType sessionType) {
+        SessionKey key = new SessionKey(characterId, sessionType);
+        Long cached = sessionIds.getIfPresent(key);
+        if (cached != null && (requestedSessionId.isEmpty() || requestedSessionId.get().equals(cached))) {
+            return cached;
+        }
+
+        if (requestedSessionId.isPresent()) {
+            Optional<Long> requested = findRequested(requestedSessionId.get(), characterId, sessionType);
+            if (requested.isPresent()) {
+                publishAfterCommit(key, requested.get(), null);
+                return requested.get();
+            }
+        }
+        return resolveSingleFlight(key);
+    }
+
+    /**
+     * 같은 키의 결정은 리더 하나만 DB에서 수행하고, 나머지는 리더의 커밋을 기다립니다.
+     */
+    private Long resolveSingleFlight(SessionKey key) {
+        for (int attempt = 1; ; attempt++) {
+            CompletableFuture<Long> leader = new CompletableFuture<>();
+            CompletableFuture<Long> existing = inFlight.putIfAbsent(key, leader);
+            if (existing == null) {
+                try {
+                    Long sessionId = findOrCreate(key);
+                    publishAfterCommit(key, sessionId, leader);
+                    return sessionId;
+                } catch (RuntimeException e) {
+                    inFlight.remove(key, leader);
+                    leader.completeExceptionally(e);
+                    throw e;
+                }
+            }
+
+            try {
+                return existing.get(leaderWaitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                // 리더가 실패/롤백하면 직접 다시 결정
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e.getCause() instanceof RuntimeException runtime
+                            ? runtime
+                            : new IllegalStateException("세션을 결정하지 못했습니다.", e.getCause());
+                }
+            } catch (TimeoutException e) {
+                logger.warn("세션 결정 대기 시간 초과 - CharacterId: {}, SessionType: {}, 직접 조회합니다.",
+                        key.characterId(), key.sessionType());
+                return findOrCreate(key);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("세션 결정 대기 중 인터럽트되었습니다.", e);
+            }
+        }
+    }
+
+    /**
+     * 클라이언트가 보낸 세션이 캐릭터와 세션 타입에 맞으면 (필요하면 재활성화해) 사용합니다.
+     */
+    private Optional<Long> findRequested(Long sessionId, Long characterId, SessionType sessionType) {
+        Optional<Session> existingSession = sessionRepository.findBySessionId(sessionId);
+        if (existingSession.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Session session = existingSession.get();
+        if (!session.getCharacter().getCharacterId().equals(characterId) || session.getSessionType() != sessionType) {
+            logger.warn("제공된 세션 ID가 캐릭터 또는 세션 타입과 일치하지 않음 - SessionId: {}, CharacterId: {}, SessionType: {}",
+                    sessionId, characterId, sessionType);
+            return Optional.empty();
+        }
+        if (!session.getIsActive()) {
+            session.activate();
+            logger.debug("비활성 세션 재활성화 - SessionId: {}, CharacterId: {}", sessionId, characterId);
+        }
+        return Optional.of(session.getSessionId());
+    }
+
+    /**
+     * 가장 최근 세션(활성 우선)을 한 건만 조회해 재사용하고, 없을 때만 새로 만듭니다.
+     */
+    private Long findOrCreate(SessionKey key) {
+        List<Session> latest = sessionRepository.findLatestByCharacterIdAndSessionType(
+                key.characterId(), key.sessionType(), PageRequest.of(0, 1));
+        if (!latest.isEmpty()) {
+            Session session = latest.get(0);
+            if (!session.getIsActive()) {
+                session.activate();
+                logger.debug("비활성 세션 재활성화하여 사용 - SessionId: {}, CharacterId: {}",
+                        session.getSessionId(), key.characterId());
+            }
+            return session.getSessionId();
+        }
+
+        Character character = characterRepository.findById(key.characterId())
+                .orElseThrow(() -> new CharacterNotFoundException(key.characterId()));
+        Session session = sessionRepository.save(Session.builder()
+                .character(character)
+                .sessionType(key.sessionType())
+                .build());
+        logger.debug("새 세션 생성 - SessionId: {}, CharacterId: {}, SessionType: {}",
+                session.getSessionId(), key.characterId(), key.sessionType());
+        return session.getSessionId();
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤에 세션 ID를 캐시에 넣고 기다리던 요청에 전달합니다.
+     * 롤백되면 기다리던 요청을 실패시켜 직접 다시 결정하게 합니다.
+     */
+    private void publishAfterCommit(SessionKey key, Long sessionId, CompletableFuture<Long> leader) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(key, sessionId, leader);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(key, sessionId, leader);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED && leader != null) {
+                    inFlight.remove(key, leader);
+                    leader.completeExceptionally(new IllegalStateException("세션 결정 트랜잭션이 롤백되었습니다."));
+                }
+            }
+        });
+    }
+
+    private void publish(SessionKey key, Long sessionId, CompletableFuture<Long> leader) {
+        sessionIds.put(key, sessionId);
+        if (leader != null) {
+            inFlight.remove(key, leader);
+            leader.complete(sessionId);
+        }
+    }
+
+    private record SessionKey(Long characterId, SessionType sessionType) {
+    }
+}
@@ -0,0 +1,116 @@
+package com.aigf.gf_plz.global.cancellation;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 취소 토큰
+ * 통화 중 사용자가 다시 말하거나(barge-in) 연결이 끊겼을 때,
+ * 진행 중인 Groq 스트리밍과 TTS 합성을 중단하기 위해 호출 경로 전체에 전달합니다.
+ */
+public final class CancellationToken {
+
+    private static final CancellationToken NONE = new CancellationToken(false);
+
+    private final boolean cancellable;
+    private final AtomicBoolean cancelled = new AtomicBoolean(false);
+    private final Sinks.One<Boolean> cancelSignal = Sinks.one();
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+
+    public CancellationToken() {
+        this(true);
+    }
+
+    private CancellationToken(boolean cancellable) {
+        this.cancellable = cancellable;
+    }
+
+    /**
+     * 취소되지 않는 토큰을 반환합니다. 취소가 필요 없는 호출 경로에서 사용합니다.
+     */
+    public static CancellationToken none() {
+        return NONE;
+    }
+
+    /**
+     * 취소합니다. 등록된 콜백을 실행하고 whenCancelled() 구독자에게 알립니다.
+     * 여러 번 호출해도 한 번만 처리됩니다.
+     */
+    public void cancel() {
+        if (!cancellable || !cancelled.compareAndSet(false, true)) {
+            return;
+        }
+        registrations.forEach(Registration::run);
+        registrations.clear();
+        cancelSignal.tryEmitValue(Boolean.TRUE);
+    }
+
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    /**
+     * 취소되면 실행할 콜백을 등록합니다. 이미 취소된 상태면 바로 실행합니다.
+     *
+     * @return 작업이 끝나 콜백이 더 이상 필요 없을 때 해제하기 위한 Disposable
+     */
+    public Disposable onCancel(Runnable callback) {
+        if (!cancellable) {
+            return () -> { };
+        }
+        Registration registration = new Registration(callback);
+        registrations.add(registration);
+        if (cancelled.get()) {
+            registration.run();
+        }
+        return () -> {
+            registration.dispose();
+            registrations.remove(registration);
+        };
+    }
+
+    /**
+     * 취소될 때 값을 방출하는 Mono를 반환합니다. Flux.takeUntilOther와 함께 사용합니다.
+     */
+    public Mono<Boolean> whenCancelled() {
+        return cancellable ? cancelSignal.asMono() : Mono.never();
+    }
+
+    /**
+     * 취소된 상태면 CancellationException을 던집니다.
+     */
+    public void throwIfCancelled() {
+        if (isCancelled()) {
+            throw new CancellationException("요청이 취소되었습니다.");
+        }
+    }
+
+    /**
+     * 콜백이 한 번만 실행되도록 보장하는 등록 정보
+     */
+    private static final class Registration {
+
+        private final Runnable callback;
+        private final AtomicBoolean done = new AtomicBoolean(false);
+
+        private Registration(Runnable callback) {
+            this.callback = callback;
+        }
+
+        private void run() {
+            if (done.compareAndSet(false, true)) {
+                callback.run();
+            }
+        }
+
+        private void dispose() {
+            done.set(true);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.aigf.gf_plz.global.concurrency;
+
+/**
+ * 외부 API 동시 호출 한도에 걸려 대기 시간 안에 호출 권한을 얻지 못했을 때 발생하는 예외
+ */
+public class UpstreamBusyException extends RuntimeException {
+
+    public UpstreamBusyException(UpstreamLimiter.Upstream upstream) {
+        super(upstream.name() + " 동시 호출 한도 초과");
+    }
+}
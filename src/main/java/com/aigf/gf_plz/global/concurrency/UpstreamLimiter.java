@@ -0,0 +1,107 @@
+package com.aigf.gf_plz.global.concurrency;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 API별 동시 호출 제한
+ * 가상 스레드 모드에서는 요청마다 스레드가 거의 공짜로 생기므로, 스레드 수가 아니라
+ * 외부 API(Groq, Whisper, TTS)별 세마포어로 동시에 나가는 호출 수를 제한합니다.
+ * 블로킹 호출은 acquire, 리액티브 호출은 acquireAsync로 권한을 얻습니다.
+ */
+@Component
+public class UpstreamLimiter {
+
+    public enum Upstream {
+        GROQ, WHISPER, TTS
+    }
+
+    /**
+     * 호출 권한. try-with-resources로 사용하면 호출이 끝날 때 반환됩니다.
+     */
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * 리액티브 호출이 권한을 다시 확인하는 간격
+     */
+    private static final Duration ASYNC_RETRY_INTERVAL = Duration.ofMillis(10);
+
+    private final Map<Upstream, Semaphore> semaphores = new EnumMap<>(Upstream.class);
+    private final Map<Upstream, Integer> limits = new EnumMap<>(Upstream.class);
+    private final long acquireTimeoutMs;
+
+    public UpstreamLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${upstream.limits.groq:32}") int groqLimit,
+            @Value("${upstream.limits.whisper:16}") int whisperLimit,
+            @Value("${upstream.limits.tts:16}") int ttsLimit,
+            @Value("${upstream.limits.acquire-timeout-ms:10000}") long acquireTimeoutMs
+    ) {
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        register(meterRegistry, Upstream.GROQ, groqLimit);
+        register(meterRegistry, Upstream.WHISPER, whisperLimit);
+        register(meterRegistry, Upstream.TTS, ttsLimit);
+    }
+
+    /**
+     * 호출 권한을 얻습니다. 한도가 차 있으면 대기 시간만큼 기다립니다.
+     *
+     * @throws UpstreamBusyException 대기 시간 안에 권한을 얻지 못한 경우
+     */
+    public Permit acquire(Upstream upstream) {
+        Semaphore semaphore = semaphores.get(upstream);
+        try {
+            if (!semaphore.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new UpstreamBusyException(upstream);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UpstreamBusyException(upstream);
+        }
+        return semaphore::release;
+    }
+
+    /**
+     * 호출 권한을 논블로킹으로 얻습니다. 한도가 차 있으면 스레드를 붙잡지 않고 잠시 뒤 다시 확인하며,
+     * 대기 시간 안에 얻지 못하면 UpstreamBusyException으로 실패합니다.
+     * Mono.usingWhen의 자원으로 사용하면 호출이 끝나거나 취소될 때 반환됩니다.
+     */
+    public Mono<Permit> acquireAsync(Upstream upstream) {
+        Semaphore semaphore = semaphores.get(upstream);
+        return Mono.fromCallable(() -> semaphore.tryAcquire() ? (Permit) semaphore::release : null)
+                .repeatWhenEmpty(attempts -> attempts.delayElements(ASYNC_RETRY_INTERVAL))
+                .timeout(Duration.ofMillis(acquireTimeoutMs), Mono.error(() -> new UpstreamBusyException(upstream)))
+                // 권한을 얻는 순간 취소되거나 시간이 초과되면 버려지는 권한을 반환
+                .doOnDiscard(Permit.class, Permit::close);
+    }
+
+    /**
+     * 현재 진행 중인 호출 수를 반환합니다.
+     */
+    public int inFlight(Upstream upstream) {
+        return limits.get(upstream) - semaphores.get(upstream).availablePermits();
+    }
+
+    private void register(MeterRegistry meterRegistry, Upstream upstream, int limit) {
+        semaphores.put(upstream, new Semaphore(limit, true));
+        limits.put(upstream, limit);
+        Gauge.builder("upstream.inflight", this, limiter -> limiter.inFlight(upstream))
+                .description("외부 API 동시 호출 수")
+                .tag("upstream", upstream.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+    }
+}
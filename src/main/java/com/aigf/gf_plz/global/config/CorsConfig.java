@@ -26,6 +26,7 @@ public class CorsConfig implements WebMvcConfigurer {
                 )
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH")
                 .allowedHeaders("*")
+                .exposedHeaders("X-Session-Id")
                 .allowCredentials(true)
                 .maxAge(3600);
     }
@@ -47,6 +48,7 @@ public class CorsConfig implements WebMvcConfigurer {
         config.addAllowedOrigin("http://gf-plz.s3-website.ap-northeast-2.amazonaws.com");
         config.addAllowedOrigin("http://gf-plz.s3-website.ap-northeast-2.amazonaws.com/");
         config.addAllowedHeader("*");
+        config.addExposedHeader("X-Session-Id");  // 스트리밍 통화 응답의 세션 ID
         config.addAllowedMethod("GET");
         config.addAllowedMethod("POST");
         config.addAllowedMethod("PUT");
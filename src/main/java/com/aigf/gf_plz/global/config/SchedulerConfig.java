@@ -0,0 +1,24 @@
+package com.aigf.gf_plz.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactor 스케줄러 설정
+ * 리액티브 파이프라인 안에서 블로킹 JPA 작업을 실행할 전용 스케줄러를 제공합니다.
+ * 스레드 수를 DB 커넥션 풀 크기에 맞춰, DB 작업이 몰려도 커넥션 대기 스레드가 무한히 늘지 않게 합니다.
+ */
+@Configuration
+public class SchedulerConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler dbScheduler(
+            @Value("${reactive.db-scheduler.threads:10}") int threads,
+            @Value("${reactive.db-scheduler.queue-size:1000}") int queueSize
+    ) {
+        return Schedulers.newBoundedElastic(threads, queueSize, "db");
+    }
+}
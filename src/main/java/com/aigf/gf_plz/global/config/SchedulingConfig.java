@@ -0,0 +1,15 @@
+package com.aigf.gf_plz.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 대화 요약처럼 요청 처리와 분리된 주기 작업을 @Scheduled로 실행합니다.
+ * 작업마다 스레드를 하나씩 쓸 수 있도록 spring.task.scheduling.pool.size를 주기 작업 수에 맞춥니다
+ * (기본값 1이면 Groq을 기다리는 요약 작업이 다른 주기 작업을 모두 막음).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,19 +1,92 @@
 package com.aigf.gf_plz.global.config;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.function.Function;
 
 /**
  * WebClient 설정
- * Groq API 호출을 위한 WebClient Bean을 생성합니다.
+ * Groq API(채팅, Whisper, TTS) 호출에 공통으로 쓰는 Reactor Netty HttpClient와 WebClient.Builder를 생성합니다.
+ * 모든 클라이언트가 같은 호스트로 요청하므로 커넥션 풀을 하나로 공유해 TLS 핸드셰이크를 재사용합니다.
  */
 @Configuration
 public class WebClientConfig {
 
+    /**
+     * 외부 API 공용 커넥션 풀
+     * 풀 크기와 대기열을 명시하고, 오래 쉬는 커넥션은 백그라운드에서 정리합니다.
+     * 풀 지표는 reactor.netty.connection.provider.* 로 노출됩니다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider upstreamConnectionProvider(
+            @Value("${upstream.http.pool.max-connections:100}") int maxConnections,
+            @Value("${upstream.http.pool.pending-acquire-max-count:500}") int pendingAcquireMaxCount,
+            @Value("${upstream.http.pool.pending-acquire-timeout:5s}") Duration pendingAcquireTimeout,
+            @Value("${upstream.http.pool.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${upstream.http.pool.max-life-time:5m}") Duration maxLifeTime,
+            @Value("${upstream.http.pool.evict-interval:30s}") Duration evictInterval
+    ) {
+        return ConnectionProvider.builder("upstream")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInterval)
+                // 가장 최근에 반납된(따뜻한) 커넥션부터 재사용
+                .lifo()
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public HttpClient upstreamHttpClient(
+            ConnectionProvider upstreamConnectionProvider,
+            @Value("${upstream.http.connect-timeout:3s}") Duration connectTimeout,
+            @Value("${upstream.http.response-timeout:60s}") Duration responseTimeout,
+            @Value("${upstream.http.http2-enabled:true}") boolean http2Enabled
+    ) {
+        // HTTP/2는 TLS(ALPN) 협상으로 서버가 지원할 때만 사용하고, 아니면 HTTP/1.1로 동작
+        HttpProtocol[] protocols = http2Enabled
+                ? new HttpProtocol[]{HttpProtocol.H2, HttpProtocol.HTTP11}
+                : new HttpProtocol[]{HttpProtocol.HTTP11};
+
+        return HttpClient.create(upstreamConnectionProvider)
+                .protocol(protocols)
+                .secure()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(responseTimeout)
+                // 엔드포인트가 고정 경로뿐이므로 URI를 그대로 태그로 사용 (http.client.requests.* 지표)
+                .metrics(true, Function.identity());
+    }
+
+    /**
+     * 클라이언트마다 baseUrl, 기본 헤더를 따로 지정하므로 주입될 때마다 새 Builder를 만듭니다.
+     * 커넥터(커넥션 풀)는 모든 Builder가 공유합니다.
+     */
     @Bean
-    public WebClient.Builder webClientBuilder() {
-        return WebClient.builder();
+    @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+    public WebClient.Builder webClientBuilder(
+            HttpClient upstreamHttpClient,
+            @Value("${upstream.http.max-in-memory-size:10MB}") DataSize maxInMemorySize
+    ) {
+        // TTS 오디오, Whisper 업로드 응답은 기본 한도(256KB)를 넘을 수 있음
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(upstreamHttpClient))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize((int) maxInMemorySize.toBytes()));
     }
 }
-
@@ -0,0 +1,49 @@
+package com.aigf.gf_plz.global.config;
+
+import com.aigf.gf_plz.domain.call.controller.CallWebSocketHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
+
+/**
+ * WebSocket 설정
+ * 실시간 음성 통화 채널(/ws/call)을 등록합니다.
+ */
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private static final int MAX_MESSAGE_BUFFER_SIZE = 512 * 1024;
+    private static final long MAX_SESSION_IDLE_TIMEOUT_MS = 5 * 60 * 1000L;
+
+    private final CallWebSocketHandler callWebSocketHandler;
+
+    public WebSocketConfig(CallWebSocketHandler callWebSocketHandler) {
+        this.callWebSocketHandler = callWebSocketHandler;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        // CorsConfig와 동일한 Origin만 허용
+        registry.addHandler(callWebSocketHandler, "/ws/call")
+                .setAllowedOriginPatterns(
+                        "http://localhost:*",
+                        "http://gf-plz.s3-website.ap-northeast-2.amazonaws.com"
+                );
+    }
+
+    /**
+     * 음성 조각(바이너리 프레임)을 받을 수 있도록 메시지 버퍼 크기를 늘립니다.
+     */
+    @Bean
+    public ServletServerContainerFactoryBean createWebSocketContainer() {
+        ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+        container.setMaxBinaryMessageBufferSize(MAX_MESSAGE_BUFFER_SIZE);
+        container.setMaxTextMessageBufferSize(MAX_MESSAGE_BUFFER_SIZE);
+        container.setMaxSessionIdleTimeout(MAX_SESSION_IDLE_TIMEOUT_MS);
+        return container;
+    }
+}
@@ -0,0 +1,28 @@
+package com.aigf.gf_plz.global.embedding;
+
+/**
+ * 텍스트 임베딩 인터페이스
+ * 장기 기억 검색에 사용하며, 반환하는 벡터는 L2 정규화되어 있어야 합니다 (내적 = 코사인 유사도).
+ * 다른 구현(로컬 ONNX 모델, 외부 임베딩 API)은 @Primary 빈으로 등록해 교체합니다.
+ */
+public interface Embedder {
+
+    /**
+     * 텍스트를 임베딩합니다.
+     *
+     * @param text 임베딩할 텍스트
+     * @return 길이가 dimension()인 정규화된 벡터 (내용이 없으면 영벡터)
+     */
+    float[] embed(String text);
+
+    /**
+     * 벡터 차원 수
+     */
+    int dimension();
+
+    /**
+     * 모델 식별자
+     * 저장된 인덱스가 같은 임베더로 만든 것인지 확인하는 데 사용합니다.
+     */
+    String modelId();
+}
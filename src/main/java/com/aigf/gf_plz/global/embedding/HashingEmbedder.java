@@ -0,0 +1,94 @@
+package com.aigf.gf_plz.global.embedding;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 해싱 임베더 (기본 구현)
+ * 글자 2-gram, 3-gram과 어절을 해시해 고정 차원에 누적하는 결정적인 임베딩입니다.
+ * 모델 파일이나 외부 호출 없이 동작하고 같은 입력에는 항상 같은 벡터를 돌려주므로,
+ * 의미 임베딩 모델을 붙이기 전까지 어휘가 겹치는 예전 대화를 찾는 용도로 사용합니다.
+ *
+ * - 한국어는 조사/어미가 붙어 어절이 달라지므로 글자 n-gram으로 어간이 겹치는 부분을 잡습니다.
+ * - 해시 부호로 +1/-1을 더해 충돌끼리 상쇄되게 합니다 (feature hashing).
+ */
+@Component
+public class HashingEmbedder implements Embedder {
+
+    private static final float WORD_WEIGHT = 1.5f;
+
+    private final int dimension;
+
+    public HashingEmbedder(@Value("${conversation.memory.embedding-dimension:256}") int dimension) {
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("conversation.memory.embedding-dimension은 0보다 커야 합니다.");
+        }
+        this.dimension = dimension;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        float[] vector = new float[dimension];
+        if (text == null || text.isBlank()) {
+            return vector;
+        }
+
+        String normalized = text.toLowerCase().replaceAll("[^\\p{L}\\p{N}\\s]", " ").trim();
+        for (String word : normalized.split("\\s+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            add(vector, "w:" + word, WORD_WEIGHT);
+            String padded = " " + word + " ";
+            for (int n = 2; n <= 3; n++) {
+                for (int i = 0; i + n <= padded.length(); i++) {
+                    add(vector, padded.substring(i, i + n), 1f);
+                }
+            }
+        }
+        normalize(vector);
+        return vector;
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public String modelId() {
+        return "hashing-ngram-" + dimension;
+    }
+
+    private void add(float[] vector, String feature, float weight) {
+        int hash = mix(feature.hashCode());
+        int index = Math.floorMod(hash, dimension);
+        vector[index] += (hash >>> 31) == 0 ? weight : -weight;
+    }
+
+    /**
+     * String.hashCode의 하위 비트 편향을 줄이기 위한 비트 섞기 (murmur3 finalizer)
+     */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static void normalize(float[] vector) {
+        double sum = 0;
+        for (float v : vector) {
+            sum += v * v;
+        }
+        if (sum == 0) {
+            return;
+        }
+        float norm = (float) Math.sqrt(sum);
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] /= norm;
+        }
+    }
+}
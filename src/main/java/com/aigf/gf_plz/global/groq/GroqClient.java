@@ -1,6 +1,9 @@
 package com.aigf.gf_plz.global.groq;
 
+import com.aigf.gf_plz.global.cancellation.CancellationToken;
 import com.aigf.gf_plz.global.groq.exception.GroqApiException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -41,5 +44,130 @@ public interface GroqClient {
      * @throws GroqApiException Groq API 호출 실패 시
      */
     String generateReply(String mode, String userText, List<GroqMessage> history, String systemPrompt);
-}
 
+    /**
+     * 우선순위를 지정하여 답변을 생성합니다.
+     * 요청 한도가 부족하면 우선순위가 높은 요청부터 처리되며, 배치 작업은 더 오래 대기할 수 있습니다.
+     *
+     * @param mode "chat" 또는 "call" 모드
+     * @param userText 사용자의 최종 입력 텍스트
+     * @param history 이전 대화 메시지 리스트
+     * @param systemPrompt 캐릭터별 시스템 프롬프트
+     * @param priority 요청 우선순위
+     * @return Groq가 생성한 답변 텍스트
+     * @throws GroqApiException Groq API 호출 실패 또는 대기 시간 안에 요청 한도를 확보하지 못한 경우
+     */
+    String generateReply(String mode, String userText, List<GroqMessage> history, String systemPrompt,
+                         GroqPriority priority);
+
+    /**
+     * Groq API를 논블로킹으로 호출하여 캐릭터 정보를 기반으로 한 답변을 생성합니다.
+     * 호출하는 스레드를 점유하지 않으므로 응답을 기다리는 동안 서블릿 스레드가 반환됩니다.
+     *
+     * @param mode "chat" 또는 "call" 모드
+     * @param userText 사용자의 최종 입력 텍스트
+     * @param history 이전 대화 메시지 리스트
+     * @param systemPrompt 캐릭터별 시스템 프롬프트
+     * @return Groq가 생성한 답변 텍스트
+     * @throws GroqApiException 입력이 비어있거나 Groq API 호출 실패 시 (Mono 에러로 전달)
+     */
+    Mono<String> generateReplyAsync(String mode, String userText, List<GroqMessage> history, String systemPrompt);
+
+    /**
+     * 우선순위를 지정하여 논블로킹으로 답변을 생성합니다.
+     *
+     * @param mode "chat" 또는 "call" 모드
+     * @param userText 사용자의 최종 입력 텍스트
+     * @param history 이전 대화 메시지 리스트
+     * @param systemPrompt 캐릭터별 시스템 프롬프트
+     * @param priority 요청 우선순위
+     * @return Groq가 생성한 답변 텍스트
+     * @throws GroqApiException Groq API 호출 실패 또는 대기 시간 안에 요청 한도를 확보하지 못한 경우 (Mono 에러로 전달)
+     */
+    Mono<String> generateReplyAsync(String mode, String userText, List<GroqMessage> history, String systemPrompt,
+                                    GroqPriority priority);
+
+    /**
+     * 대화 히스토리 없이 단발성 지시를 지정한 모델로 처리합니다.
+     * 대화 요약처럼 캐릭터 답변이 아닌 보조 작업에 가벼운 모델을 쓰기 위해 사용합니다.
+     *
+     * @param model Groq 모델 ID
+     * @param systemPrompt 작업 지시 시스템 프롬프트
+     * @param userText 처리할 입력 텍스트
+     * @param maxTokens 최대 생성 토큰 수
+     * @param priority 요청 우선순위
+     * @return 생성된 텍스트
+     * @throws GroqApiException Groq API 호출 실패 시
+     */
+    String complete(String model, String systemPrompt, String userText, int maxTokens, GroqPriority priority);
+
+    /**
+     * 단발성 지시를 논블로킹으로 처리합니다.
+     *
+     * @param model Groq 모델 ID
+     * @param systemPrompt 작업 지시 시스템 프롬프트
+     * @param userText 처리할 입력 텍스트
+     * @param maxTokens 최대 생성 토큰 수
+     * @param priority 요청 우선순위
+     * @return 생성된 텍스트
+     * @throws GroqApiException Groq API 호출 실패 시 (Mono 에러로 전달)
+     */
+    Mono<String> completeAsync(String model, String systemPrompt, String userText, int maxTokens, GroqPriority priority);
+
+    /**
+     * JSON 모드로 호출하여 응답을 지정한 타입으로 변환합니다.
+     * 여러 항목(요약, 점수 등)을 한 번의 요청으로 받을 때 사용하며, 시스템 프롬프트에 JSON 형식을 명시해야 합니다.
+     *
+     * @param userText 작업 지시
+     * @param history 분석할 대화 메시지 리스트 (입력 토큰 예산 안에서 최신 메시지부터 전달)
+     * @param systemPrompt JSON 필드를 설명하는 시스템 프롬프트
+     * @param responseType 응답 JSON을 변환할 타입 (record)
+     * @param priority 요청 우선순위
+     * @return 변환된 응답
+     * @throws GroqApiException Groq API 호출 실패 또는 응답이 지정한 타입으로 변환되지 않는 경우
+     */
+    <T> T generateJson(String userText, List<GroqMessage> history, String systemPrompt, Class<T> responseType,
+                       GroqPriority priority);
+
+    /**
+     * JSON 모드 호출을 논블로킹으로 수행합니다.
+     *
+     * @param userText 작업 지시
+     * @param history 분석할 대화 메시지 리스트
+     * @param systemPrompt JSON 필드를 설명하는 시스템 프롬프트
+     * @param responseType 응답 JSON을 변환할 타입 (record)
+     * @param priority 요청 우선순위
+     * @return 변환된 응답
+     * @throws GroqApiException Groq API 호출 실패 또는 변환 실패 시 (Mono 에러로 전달)
+     */
+    <T> Mono<T> generateJsonAsync(String userText, List<GroqMessage> history, String systemPrompt,
+                                  Class<T> responseType, GroqPriority priority);
+
+    /**
+     * Groq API를 스트리밍 모드로 호출하여 답변 토큰을 생성되는 대로 전달합니다.
+     * Groq SSE 응답의 data: 청크에서 delta 텍스트만 추출하여 방출합니다.
+     *
+     * @param mode "chat" 또는 "call" 모드
+     * @param userText 사용자의 최종 입력 텍스트
+     * @param history 이전 대화 메시지 리스트
+     * @param systemPrompt 캐릭터별 시스템 프롬프트
+     * @return 답변 텍스트 조각(delta) 스트림
+     * @throws GroqApiException 입력이 비어있거나 Groq API 호출 실패 시 (스트림 에러로 전달)
+     */
+    Flux<String> streamReply(String mode, String userText, List<GroqMessage> history, String systemPrompt);
+
+    /**
+     * 취소 가능한 스트리밍 답변을 생성합니다.
+     * 토큰이 취소되면 Groq와의 HTTP 교환을 끊고, 그때까지 받은 토큰까지만 방출한 뒤 정상 완료합니다.
+     *
+     * @param mode "chat" 또는 "call" 모드
+     * @param userText 사용자의 최종 입력 텍스트
+     * @param history 이전 대화 메시지 리스트
+     * @param systemPrompt 캐릭터별 시스템 프롬프트
+     * @param cancellationToken 취소 토큰 (barge-in, 연결 종료 시 취소)
+     * @return 답변 텍스트 조각(delta) 스트림
+     * @throws GroqApiException 입력이 비어있거나 Groq API 호출 실패 시 (스트림 에러로 전달)
+     */
+    Flux<String> streamReply(String mode, String userText, List<GroqMessage> history, String systemPrompt,
+                             CancellationToken cancellationToken);
+}
@@ -1,41 +1,75 @@
 package com.aigf.gf_plz.global.groq;
 
+import com.aigf.gf_plz.global.cancellation.CancellationToken;
 import com.aigf.gf_plz.global.groq.dto.GroqChatRequest;
 import com.aigf.gf_plz.global.groq.dto.GroqChatResponse;
+import com.aigf.gf_plz.global.groq.dto.GroqChatStreamResponse;
 import com.aigf.gf_plz.global.groq.exception.GroqApiException;
+import com.aigf.gf_plz.global.groq.exception.GroqRateLimitException;
+import com.aigf.gf_plz.global.groq.exception.GroqUnavailableException;
+import com.aigf.gf_plz.global.groq.prompt.PromptBudgeter;
+import com.aigf.gf_plz.global.groq.ratelimit.GroqRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 import java.util.List;
 
 /**
  * Groq API 클라이언트 구현체
  * WebClient를 사용하여 Groq Chat Completions API를 호출합니다.
+ * 모든 호출은 GroqRateLimiter의 요청 한도 대기열을 거치며, 429 응답은 한도가 풀린 뒤 다시 시도합니다.
  */
 @Service
 public class GroqClientImpl implements GroqClient {
 
-    private static final String BASE_SYSTEM_PROMPT = """
+    /**
+     * 캐릭터 프롬프트 없이 호출하는 테스트용 기본 시스템 프롬프트
+     */
+    public static final String BASE_SYSTEM_PROMPT = """
     [여기에 내가 따로 붙여넣을 AI 여자친구 캐릭터 프롬프트 내용]
     """;
 
     private static final String MODEL = "llama-3.3-70b-versatile";
     private static final String CHAT_COMPLETIONS_ENDPOINT = "/chat/completions";
+    private static final String STREAM_DONE_MARKER = "[DONE]";
+    private static final String JSON_MODE = "json";
+    private static final int JSON_MAX_TOKENS = 512;
 
     private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final GroqRateLimiter rateLimiter;
+    private final PromptBudgeter promptBudgeter;
 
     @Value("${groq.api-key}")
     private String apiKey;
 
-    public GroqClientImpl(WebClient.Builder builder) {
+    @Value("${groq.rate-limit.max-retries:2}")
+    private int maxRateLimitRetries;
+
+    public GroqClientImpl(
+            WebClient.Builder builder,
+            ObjectMapper objectMapper,
+            GroqRateLimiter rateLimiter,
+            PromptBudgeter promptBudgeter
+    ) {
         this.webClient = builder
                 .baseUrl("https://api.groq.com/openai/v1")
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
+        this.objectMapper = objectMapper;
+        this.rateLimiter = rateLimiter;
+        this.promptBudgeter = promptBudgeter;
     }
 
     @Override
@@ -50,59 +84,282 @@ public class GroqClientImpl implements GroqClient {
 
     @Override
     public String generateReply(String mode, String userText, List<GroqMessage> history, String systemPrompt) {
+        return generateReply(mode, userText, history, systemPrompt, GroqPriority.INTERACTIVE);
+    }
+
+    /**
+     * 블로킹 호출은 그대로 기다리기만 합니다.
+     * 동시 호출 권한, 재시도, 오류 변환은 ResilientGroqClient(@Primary)가 시도마다 처리합니다.
+     */
+    @Override
+    public String generateReply(String mode, String userText, List<GroqMessage> history, String systemPrompt,
+                                GroqPriority priority) {
+        return generateReplyAsync(mode, userText, history, systemPrompt, priority).block();
+    }
+
+    @Override
+    public Mono<String> generateReplyAsync(String mode, String userText, List<GroqMessage> history, String systemPrompt) {
+        return generateReplyAsync(mode, userText, history, systemPrompt, GroqPriority.INTERACTIVE);
+    }
+
+    @Override
+    public Mono<String> generateReplyAsync(String mode, String userText, List<GroqMessage> history, String systemPrompt,
+                                           GroqPriority priority) {
+        Prompt prompt;
+        try {
+            prompt = buildPrompt(mode, userText, history, systemPrompt);
+        } catch (GroqApiException e) {
+            return Mono.error(e);
+        }
+
+        GroqChatRequest request = new GroqChatRequest(
+                MODEL,
+                prompt.messages(),
+                1024,
+                0.7
+        );
+        return requestCompletion(request, prompt.tokens(), priority);
+    }
+
+    @Override
+    public String complete(String model, String systemPrompt, String userText, int maxTokens, GroqPriority priority) {
+        return completeAsync(model, systemPrompt, userText, maxTokens, priority).block();
+    }
+
+    @Override
+    public Mono<String> completeAsync(String model, String systemPrompt, String userText, int maxTokens,
+                                      GroqPriority priority) {
         if (userText == null || userText.isBlank()) {
-            throw new GroqApiException("사용자 입력 텍스트가 비어있습니다.");
+            return Mono.error(new GroqApiException("사용자 입력 텍스트가 비어있습니다."));
         }
         if (systemPrompt == null || systemPrompt.isBlank()) {
-            throw new GroqApiException("시스템 프롬프트가 비어있습니다.");
+            return Mono.error(new GroqApiException("시스템 프롬프트가 비어있습니다."));
         }
 
-        String modePrompt = "mode: " + mode;
+        GroqMessage systemMessage = promptBudgeter.message("system", systemPrompt);
+        GroqMessage userMessage = promptBudgeter.message("user", userText);
+        GroqChatRequest request = new GroqChatRequest(
+                model,
+                List.of(systemMessage, userMessage),
+                maxTokens,
+                0.3
+        );
+        return requestCompletion(request,
+                promptBudgeter.countTokens(systemMessage) + promptBudgeter.countTokens(userMessage), priority);
+    }
 
-        List<GroqMessage> messages = new java.util.ArrayList<>();
-        messages.add(new GroqMessage("system", systemPrompt));
-        messages.add(new GroqMessage("system", modePrompt));
-        if (history != null && !history.isEmpty()) {
-            messages.addAll(history);
+    @Override
+    public <T> T generateJson(String userText, List<GroqMessage> history, String systemPrompt, Class<T> responseType,
+                              GroqPriority priority) {
+        return generateJsonAsync(userText, history, systemPrompt, responseType, priority).block();
+    }
+
+    @Override
+    public <T> Mono<T> generateJsonAsync(String userText, List<GroqMessage> history, String systemPrompt,
+                                         Class<T> responseType, GroqPriority priority) {
+        Prompt prompt;
+        try {
+            prompt = buildPrompt(JSON_MODE, userText, history, systemPrompt);
+        } catch (GroqApiException e) {
+            return Mono.error(e);
         }
-        messages.add(new GroqMessage("user", userText));
 
         GroqChatRequest request = new GroqChatRequest(
                 MODEL,
-                messages,
+                prompt.messages(),
+                JSON_MAX_TOKENS,
+                0.3,
+                null,
+                GroqChatRequest.ResponseFormat.JSON_OBJECT
+        );
+        return requestCompletion(request, prompt.tokens(), priority)
+                .map(reply -> parseJson(reply, responseType));
+    }
+
+    /**
+     * 요청 한도 대기열을 거쳐 Chat Completions API를 호출하고 첫 번째 답변을 반환합니다.
+     */
+    private Mono<String> requestCompletion(GroqChatRequest request, int promptTokens, GroqPriority priority) {
+        // 마감 시각은 첫 시도 기준으로 정하고, 429 재시도도 같은 마감 시각 안에서만 대기
+        int estimatedTokens = rateLimiter.estimateTokens(promptTokens);
+        long deadlineNanos = rateLimiter.deadlineFor(priority);
+
+        return Mono.defer(() -> rateLimiter.admit(priority, estimatedTokens, deadlineNanos)
+                        .then(webClient.post()
+                                .uri(CHAT_COMPLETIONS_ENDPOINT)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                                .bodyValue(request)
+                                .retrieve()
+                                .toEntity(GroqChatResponse.class)))
+                .doOnNext(entity -> rateLimiter.onResponse(entity.getHeaders()))
+                .onErrorMap(WebClientResponseException.class, this::toGroqApiException)
+                .retryWhen(rateLimitRetry())
+                .mapNotNull(ResponseEntity::getBody)
+                .switchIfEmpty(Mono.error(() -> new GroqApiException("Groq API 응답이 비어있습니다.")))
+                .map(this::extractReply)
+                .onErrorMap(WebClientRequestException.class, e -> new GroqUnavailableException(
+                        "Groq API 연결 실패: " + e.getMessage(), e))
+                .onErrorMap(GroqApiException::from);
+    }
+
+    @Override
+    public Flux<String> streamReply(String mode, String userText, List<GroqMessage> history, String systemPrompt) {
+        return streamReply(mode, userText, history, systemPrompt, CancellationToken.none());
+    }
+
+    @Override
+    public Flux<String> streamReply(String mode, String userText, List<GroqMessage> history, String systemPrompt,
+                                    CancellationToken cancellationToken) {
+        if (cancellationToken.isCancelled()) {
+            return Flux.empty();
+        }
+
+        Prompt prompt;
+        try {
+            prompt = buildPrompt(mode, userText, history, systemPrompt);
+        } catch (GroqApiException e) {
+            return Flux.error(e);
+        }
+
+        GroqChatRequest request = new GroqChatRequest(
+                MODEL,
+                prompt.messages(),
                 1024,
-                0.7
+                0.7,
+                true
         );
 
+        // 스트리밍은 항상 사용자가 기다리는 요청 (429는 본문 전에 오므로 재시도해도 토큰이 중복되지 않음)
+        int estimatedTokens = rateLimiter.estimateTokens(prompt.tokens());
+        long deadlineNanos = rateLimiter.deadlineFor(GroqPriority.INTERACTIVE);
+
+        return Mono.defer(() -> rateLimiter.admit(GroqPriority.INTERACTIVE, estimatedTokens, deadlineNanos)
+                        .then(webClient.post()
+                                .uri(CHAT_COMPLETIONS_ENDPOINT)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                                .accept(MediaType.TEXT_EVENT_STREAM)
+                                .bodyValue(request)
+                                .retrieve()
+                                .onStatus(HttpStatusCode::isError, response -> response.bodyToMono(String.class)
+                                        .defaultIfEmpty("")
+                                        .map(body -> toGroqApiException(response.statusCode().value(),
+                                                response.headers().asHttpHeaders(), body)))
+                                // text/event-stream 응답을 String으로 읽으면 각 이벤트의 data: 값만 전달됩니다.
+                                .toEntityFlux(String.class)))
+                .retryWhen(rateLimitRetry())
+                .flatMapMany(entity -> {
+                    rateLimiter.onResponse(entity.getHeaders());
+                    return entity.getBody() != null ? entity.getBody() : Flux.<String>empty();
+                })
+                .takeWhile(data -> !STREAM_DONE_MARKER.equals(data.trim()))
+                .map(this::parseStreamDelta)
+                .filter(delta -> !delta.isEmpty())
+                .onErrorMap(WebClientRequestException.class, e -> new GroqUnavailableException(
+                        "Groq API 연결 실패: " + e.getMessage(), e))
+                .onErrorMap(e -> !(e instanceof GroqApiException),
+                        e -> new GroqApiException("Groq API 스트리밍 호출 중 예상치 못한 오류가 발생했습니다.", e))
+                // 취소되면 응답 구독을 끊어 Groq 커넥션을 닫고 (토큰 생성 중단), 스트림은 정상 완료
+                .takeUntilOther(cancellationToken.whenCancelled());
+    }
+
+    /**
+     * 시스템 프롬프트, 모드 프롬프트, 히스토리, 사용자 입력을 Groq 메시지 리스트로 조합합니다.
+     * 히스토리는 입력 토큰 예산 안에서 최신 메시지부터 채웁니다.
+     */
+    private Prompt buildPrompt(String mode, String userText, List<GroqMessage> history, String systemPrompt) {
+        if (userText == null || userText.isBlank()) {
+            throw new GroqApiException("사용자 입력 텍스트가 비어있습니다.");
+        }
+        if (systemPrompt == null || systemPrompt.isBlank()) {
+            throw new GroqApiException("시스템 프롬프트가 비어있습니다.");
+        }
+
+        GroqMessage modeMessage = promptBudgeter.message("system", "mode: " + mode);
+        GroqMessage userMessage = promptBudgeter.message("user", userText);
+        int fixedTokens = promptBudgeter.countSystemPromptTokens(systemPrompt)
+                + promptBudgeter.countTokens(modeMessage)
+                + promptBudgeter.countTokens(userMessage);
+        PromptBudgeter.BudgetedHistory budgetedHistory = promptBudgeter.fitHistory(fixedTokens, history);
+
+        List<GroqMessage> messages = new java.util.ArrayList<>();
+        messages.add(new GroqMessage("system", systemPrompt));
+        messages.add(modeMessage);
+        messages.addAll(budgetedHistory.messages());
+        messages.add(userMessage);
+        return new Prompt(messages, fixedTokens + budgetedHistory.tokens());
+    }
+
+    /**
+     * 응답에서 첫 번째 답변 텍스트를 추출합니다.
+     */
+    private String extractReply(GroqChatResponse response) {
+        if (response.choices() == null || response.choices().isEmpty()) {
+            throw new GroqApiException("Groq API 응답이 비어있습니다.");
+        }
+
+        String reply = response.choices().get(0).message().content();
+        
+        if (reply == null || reply.isBlank()) {
+            throw new GroqApiException("Groq API 응답의 답변 내용이 비어있습니다.");
+        }
+
+        return reply;
+    }
+
+    /**
+     * JSON 모드 응답을 지정한 타입으로 변환합니다.
+     */
+    private <T> T parseJson(String reply, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(reply, responseType);
+        } catch (Exception e) {
+            throw new GroqApiException("Groq API JSON 응답 파싱 실패: " + reply, e);
+        }
+    }
+
+    /**
+     * SSE data: 청크(JSON)에서 delta 텍스트를 추출합니다.
+     */
+    private String parseStreamDelta(String data) {
         try {
-            GroqChatResponse response = webClient.post()
-                    .uri(CHAT_COMPLETIONS_ENDPOINT)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(GroqChatResponse.class)
-                    .block();
-
-            if (response == null || response.choices() == null || response.choices().isEmpty()) {
-                throw new GroqApiException("Groq API 응답이 비어있습니다.");
-            }
-
-            String reply = response.choices().get(0).message().content();
-            
-            if (reply == null || reply.isBlank()) {
-                throw new GroqApiException("Groq API 응답의 답변 내용이 비어있습니다.");
-            }
-
-            return reply;
-        } catch (WebClientResponseException e) {
-            String errorMessage = getErrorMessageByStatusCode(e.getStatusCode().value(), e.getResponseBodyAsString());
-            throw new GroqApiException(errorMessage, e);
+            return objectMapper.readValue(data, GroqChatStreamResponse.class).deltaContent();
         } catch (Exception e) {
-            if (e instanceof GroqApiException) {
-                throw e;
-            }
-            throw new GroqApiException("Groq API 호출 중 예상치 못한 오류가 발생했습니다.", e);
+            throw new GroqApiException("Groq API 스트리밍 응답 파싱 실패: " + data, e);
+        }
+    }
+
+    /**
+     * 429 응답은 대기 후 다시 시도하되, 대기열 마감 시각을 넘기면 admit에서 실패합니다.
+     */
+    private Retry rateLimitRetry() {
+        return Retry.max(maxRateLimitRetries)
+                .filter(GroqRateLimitException.class::isInstance)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    private GroqApiException toGroqApiException(WebClientResponseException e) {
+        return toGroqApiException(e.getStatusCode().value(), e.getHeaders(), e.getResponseBodyAsString(), e);
+    }
+
+    private GroqApiException toGroqApiException(int statusCode, HttpHeaders headers, String responseBody) {
+        return toGroqApiException(statusCode, headers, responseBody, null);
+    }
+
+    /**
+     * 429 응답이면 요청 한도 스케줄러에 알려 대기열을 멈추고, 재시도 가능한 예외로 변환합니다.
+     * 5xx 응답은 일시적인 장애로 보고 GroqUnavailableException으로 변환합니다.
+     */
+    private GroqApiException toGroqApiException(int statusCode, HttpHeaders headers, String responseBody, Throwable cause) {
+        String message = getErrorMessageByStatusCode(statusCode, responseBody);
+        if (statusCode == 429) {
+            rateLimiter.onRateLimited(headers);
+            return new GroqRateLimitException(message, cause);
+        }
+        rateLimiter.onResponse(headers);
+        if (statusCode >= 500) {
+            return new GroqUnavailableException(message, cause);
         }
+        return new GroqApiException(message, cause);
     }
 
     /**
@@ -117,5 +374,10 @@ public class GroqClientImpl implements GroqClient {
             default -> String.format("Groq API 호출 실패 (%d): %s", statusCode, responseBody);
         };
     }
-}
 
+    /**
+     * Groq에 보낼 메시지와 입력 토큰 수
+     */
+    private record Prompt(List<GroqMessage> messages, int tokens) {
+    }
+}
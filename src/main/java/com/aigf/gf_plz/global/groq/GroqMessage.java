@@ -1,9 +1,16 @@
 package com.aigf.gf_plz.global.groq;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * Groq API 메시지 모델
  * role: "system", "user", "assistant" 중 하나
  * content: 메시지 내용
+ * tokenCount: 미리 센 content 토큰 수 (프롬프트 예산 계산용, Groq로는 전송하지 않음, 없으면 null)
  */
-public record GroqMessage(String role, String content) {}
+public record GroqMessage(String role, String content, @JsonIgnore Integer tokenCount) {
 
+    public GroqMessage(String role, String content) {
+        this(role, content, null);
+    }
+}
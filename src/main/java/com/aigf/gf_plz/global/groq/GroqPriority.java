@@ -0,0 +1,14 @@
+package com.aigf.gf_plz.global.groq;
+
+/**
+ * Groq 요청 우선순위
+ * 요청 한도가 부족할 때 대기열에서 먼저 처리할 요청을 정합니다.
+ */
+public enum GroqPriority {
+
+    /** 사용자가 응답을 기다리는 채팅/통화 요청 */
+    INTERACTIVE,
+
+    /** 리뷰, 애정도 평가 등 사용자가 기다리지 않는 배치 작업 */
+    BATCH
+}
@@ -1,6 +1,7 @@
 package com.aigf.gf_plz.global.groq.dto;
 
 import com.aigf.gf_plz.global.groq.GroqMessage;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.List;
@@ -8,11 +9,14 @@ import java.util.List;
 /**
  * Groq Chat Completions API 요청 DTO
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record GroqChatRequest(
         String model,
         List<GroqMessage> messages,
         @JsonProperty("max_tokens") Integer maxTokens,
-        Double temperature
+        Double temperature,
+        Boolean stream,
+        @JsonProperty("response_format") ResponseFormat responseFormat
 ) {
     public GroqChatRequest {
         if (maxTokens == null) {
@@ -22,5 +26,27 @@ public record GroqChatRequest(
             temperature = 0.7;
         }
     }
-}
 
+    /**
+     * 스트리밍을 사용하지 않는 일반 요청을 생성합니다.
+     */
+    public GroqChatRequest(String model, List<GroqMessage> messages, Integer maxTokens, Double temperature) {
+        this(model, messages, maxTokens, temperature, null, null);
+    }
+
+    /**
+     * 스트리밍 여부를 지정한 텍스트 응답 요청을 생성합니다.
+     */
+    public GroqChatRequest(String model, List<GroqMessage> messages, Integer maxTokens, Double temperature,
+                           Boolean stream) {
+        this(model, messages, maxTokens, temperature, stream, null);
+    }
+
+    /**
+     * 응답 형식 (JSON 모드: {"type": "json_object"})
+     * JSON 모드에서는 프롬프트에 JSON으로 답하라는 지시가 있어야 합니다.
+     */
+    public record ResponseFormat(String type) {
+        public static final ResponseFormat JSON_OBJECT = new ResponseFormat("json_object");
+    }
+}
@@ -0,0 +1,44 @@
+package com.aigf.gf_plz.global.groq.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Groq Chat Completions 스트리밍 응답 청크 DTO
+ * SSE의 data: 라인 하나가 이 형식의 JSON 입니다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record GroqChatStreamResponse(
+        String id,
+        String model,
+        List<Choice> choices
+) {
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Choice(
+            Integer index,
+            Delta delta,
+            @JsonProperty("finish_reason") String finishReason
+    ) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Delta(
+            String role,
+            String content
+    ) {}
+
+    /**
+     * 첫 번째 choice의 delta 텍스트를 반환합니다. 없으면 빈 문자열을 반환합니다.
+     */
+    public String deltaContent() {
+        if (choices == null || choices.isEmpty()) {
+            return "";
+        }
+        Delta delta = choices.get(0).delta();
+        if (delta == null || delta.content() == null) {
+            return "";
+        }
+        return delta.content();
+    }
+}
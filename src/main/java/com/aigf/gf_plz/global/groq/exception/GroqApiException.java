@@ -1,5 +1,7 @@
 package com.aigf.gf_plz.global.groq.exception;
 
+import com.aigf.gf_plz.global.concurrency.UpstreamBusyException;
+
 /**
  * Groq API 호출 중 발생하는 예외
  */
@@ -12,5 +14,18 @@ public class GroqApiException extends RuntimeException {
     public GroqApiException(String message, Throwable cause) {
         super(message, cause);
     }
-}
 
+    /**
+     * Groq 호출 중 발생한 예외를 GroqApiException으로 변환합니다.
+     * 이미 GroqApiException이면 그대로, 동시 호출 한도 초과는 429 메시지로, 그 외는 예상치 못한 오류로 감쌉니다.
+     */
+    public static GroqApiException from(Throwable e) {
+        if (e instanceof GroqApiException groqApiException) {
+            return groqApiException;
+        }
+        if (e instanceof UpstreamBusyException) {
+            return new GroqApiException("Groq API 호출 제한 초과 (429): 서버의 동시 요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+        return new GroqApiException("Groq API 호출 중 예상치 못한 오류가 발생했습니다.", e);
+    }
+}
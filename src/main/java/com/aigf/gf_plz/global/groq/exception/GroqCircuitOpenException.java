@@ -0,0 +1,11 @@
+package com.aigf.gf_plz.global.groq.exception;
+
+/**
+ * 서킷 브레이커가 열려 Groq 호출을 보내지 않고 바로 실패한 경우의 예외
+ */
+public class GroqCircuitOpenException extends GroqApiException {
+
+    public GroqCircuitOpenException() {
+        super("Groq API 서버 오류 (503): Groq 서버 장애가 감지되어 잠시 호출을 중단했습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
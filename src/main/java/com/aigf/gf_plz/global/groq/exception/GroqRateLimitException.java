@@ -0,0 +1,16 @@
+package com.aigf.gf_plz.global.groq.exception;
+
+/**
+ * Groq 서버가 요청 한도 초과(429)로 응답한 경우의 예외
+ * 요청 한도 스케줄러가 대기 후 다시 시도할 수 있는 오류입니다.
+ */
+public class GroqRateLimitException extends GroqApiException {
+
+    public GroqRateLimitException(String message) {
+        super(message);
+    }
+
+    public GroqRateLimitException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,16 @@
+package com.aigf.gf_plz.global.groq.exception;
+
+/**
+ * Groq 서버 오류(5xx), 연결 실패, 응답 시간 초과처럼 일시적인 장애로 인한 예외
+ * 같은 요청을 다시 보내면 성공할 수 있으며, 서킷 브레이커의 실패로 집계됩니다.
+ */
+public class GroqUnavailableException extends GroqApiException {
+
+    public GroqUnavailableException(String message) {
+        super(message);
+    }
+
+    public GroqUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
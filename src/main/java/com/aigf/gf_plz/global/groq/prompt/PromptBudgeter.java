@@ -0,0 +1,125 @@
+package com.aigf.gf_plz.global.groq.prompt;
+
+import com.aigf.gf_plz.global.groq.GroqMessage;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 프롬프트 토큰 예산 관리
+ * 로컬 토크나이저로 시스템 프롬프트, 모드 프롬프트, 사용자 입력, 히스토리의 토큰 수를 세고,
+ * 히스토리는 최신 메시지부터 예산이 허락하는 만큼만 Groq에 전달합니다.
+ *
+ * - 토크나이저는 cl100k_base입니다. Llama 3 토크나이저가 같은 BPE 어휘를 확장한 것이라 근사치로 충분합니다.
+ * - 저장된 메시지는 저장 시점에 센 토큰 수(GroqMessage.tokenCount)를 그대로 사용하므로 다시 세지 않습니다.
+ * - 캐릭터 시스템 프롬프트는 캐릭터마다 같은 문자열이 반복되므로 토큰 수를 캐시합니다.
+ */
+@Component
+public class PromptBudgeter {
+
+    /** 메시지마다 붙는 역할 헤더/종료 토큰 (Llama 3 채팅 템플릿 기준) */
+    static final int MESSAGE_OVERHEAD_TOKENS = 4;
+
+    private final Encoding encoding = Encodings.newLazyEncodingRegistry().getEncoding(EncodingType.CL100K_BASE);
+    private final Cache<String, Integer> systemPromptTokens = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .build();
+    private final int maxInputTokens;
+
+    public PromptBudgeter(@Value("${groq.prompt.max-input-tokens:4000}") int maxInputTokens) {
+        this.maxInputTokens = maxInputTokens;
+    }
+
+    /**
+     * 텍스트의 토큰 수를 셉니다.
+     */
+    public int countTokens(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        return encoding.countTokens(text);
+    }
+
+    /**
+     * 토큰 수를 미리 세어 둔 메시지를 만듭니다.
+     * 히스토리에 보관할 메시지는 이 메서드로 만들어 턴마다 다시 세지 않게 합니다.
+     */
+    public GroqMessage message(String role, String content) {
+        return new GroqMessage(role, content, countTokens(content));
+    }
+
+    /**
+     * 메시지 하나가 차지하는 토큰 수 (메시지 오버헤드 포함)
+     */
+    public int countTokens(GroqMessage message) {
+        int contentTokens = message.tokenCount() != null ? message.tokenCount() : countTokens(message.content());
+        return contentTokens + MESSAGE_OVERHEAD_TOKENS;
+    }
+
+    /**
+     * 시스템 프롬프트의 토큰 수를 셉니다 (캐시).
+     */
+    public int countSystemPromptTokens(String systemPrompt) {
+        return systemPromptTokens.get(systemPrompt, this::countTokens) + MESSAGE_OVERHEAD_TOKENS;
+    }
+
+    /**
+     * 고정 메시지(시스템/모드 프롬프트, 사용자 입력)를 제외한 예산 안에서 히스토리를 최신순으로 채웁니다.
+     * 예산을 넘는 첫 메시지에서 멈추므로, 전달되는 히스토리는 항상 최근 대화의 연속된 구간입니다.
+     * 히스토리 맨 앞의 system 메시지(장기 기억)는 오래된 메시지보다 먼저 예산을 배정해 유지합니다.
+     *
+     * @param fixedTokens 고정 메시지 토큰 수
+     * @param history 시간순 히스토리
+     * @return 예산에 맞춘 시간순 히스토리
+     */
+    public BudgetedHistory fitHistory(int fixedTokens, List<GroqMessage> history) {
+        if (history == null || history.isEmpty()) {
+            return new BudgetedHistory(List.of(), 0);
+        }
+
+        int remaining = maxInputTokens - fixedTokens;
+        int used = 0;
+        List<GroqMessage> pinned = new ArrayList<>();
+        int start = 0;
+        for (; start < history.size() && "system".equals(history.get(start).role()); start++) {
+            GroqMessage message = history.get(start);
+            int tokens = countTokens(message);
+            if (used + tokens <= remaining) {
+                pinned.add(message);
+                used += tokens;
+            }
+        }
+
+        Deque<GroqMessage> fitted = new ArrayDeque<>();
+        for (int i = history.size() - 1; i >= start; i--) {
+            GroqMessage message = history.get(i);
+            int tokens = countTokens(message);
+            if (used + tokens > remaining) {
+                break;
+            }
+            fitted.addFirst(message);
+            used += tokens;
+        }
+        pinned.addAll(fitted);
+        return new BudgetedHistory(List.copyOf(pinned), used);
+    }
+
+    public int maxInputTokens() {
+        return maxInputTokens;
+    }
+
+    /**
+     * 예산에 맞춘 히스토리와 그 토큰 수
+     */
+    public record BudgetedHistory(List<GroqMessage> messages, int tokens) {
+    }
+}
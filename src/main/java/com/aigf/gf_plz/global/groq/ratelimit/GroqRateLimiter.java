@@ -0,0 +1,292 @@
+package com.aigf.gf_plz.global.groq.ratelimit;
+
+import com.aigf.gf_plz.global.groq.GroqPriority;
+import com.aigf.gf_plz.global.groq.exception.GroqApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Groq 요청 한도 스케줄러
+ * 분당 요청 수(RPM)와 분당 토큰 수(TPM)를 토큰 버킷으로 추정하고,
+ * 한도가 부족하면 요청을 실패시키지 않고 우선순위 대기열에서 기다리게 합니다.
+ * 응답의 x-ratelimit-* 헤더로 추정치를 보정하고, 429 응답의 retry-after 동안은 모든 요청을 멈춥니다.
+ *
+ * 대기열은 우선순위(채팅/통화 → 배치) 순, 같은 우선순위 안에서는 마감 시각이 빠른 순으로 처리합니다.
+ * 마감 시각까지 한도를 확보하지 못한 요청만 429 메시지로 실패합니다.
+ */
+@Component
+public class GroqRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroqRateLimiter.class);
+
+    static final String REMAINING_REQUESTS = "x-ratelimit-remaining-requests";
+    static final String RESET_REQUESTS = "x-ratelimit-reset-requests";
+    static final String LIMIT_TOKENS = "x-ratelimit-limit-tokens";
+    static final String REMAINING_TOKENS = "x-ratelimit-remaining-tokens";
+    static final String RESET_TOKENS = "x-ratelimit-reset-tokens";
+
+    private static final Pattern DURATION_PART = Pattern.compile("(\\d+(?:\\.\\d+)?)(ms|h|m|s)");
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final TokenBucket requestBucket;
+    private final TokenBucket tokenBucket;
+    private final int expectedCompletionTokens;
+    private final Duration interactiveMaxWait;
+    private final Duration batchMaxWait;
+
+    private final PriorityQueue<Waiter> queue = new PriorityQueue<>(
+            Comparator.comparing(Waiter::priority)
+                    .thenComparingLong(Waiter::deadlineNanos)
+                    .thenComparingLong(Waiter::sequence));
+    private final AtomicLong sequence = new AtomicLong();
+    private final Scheduler scheduler = Schedulers.newSingle("groq-rate-limit", true);
+    private final Counter expiredCounter;
+
+    private long pausedUntilNanos;
+    private Disposable scheduledDrain;
+
+    public GroqRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${groq.rate-limit.requests-per-minute:30}") long requestsPerMinute,
+            @Value("${groq.rate-limit.tokens-per-minute:12000}") long tokensPerMinute,
+            @Value("${groq.rate-limit.expected-completion-tokens:256}") int expectedCompletionTokens,
+            @Value("${groq.rate-limit.interactive-max-wait:10s}") Duration interactiveMaxWait,
+            @Value("${groq.rate-limit.batch-max-wait:2m}") Duration batchMaxWait
+    ) {
+        long now = System.nanoTime();
+        this.requestBucket = new TokenBucket(requestsPerMinute, now);
+        this.tokenBucket = new TokenBucket(tokensPerMinute, now);
+        this.pausedUntilNanos = now;
+        this.expectedCompletionTokens = expectedCompletionTokens;
+        this.interactiveMaxWait = interactiveMaxWait;
+        this.batchMaxWait = batchMaxWait;
+
+        Gauge.builder("groq.ratelimit.queue.size", this, GroqRateLimiter::queueSize)
+                .description("Groq 요청 한도 대기열 길이")
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("groq.ratelimit.expired")
+                .description("대기 마감 시각까지 한도를 확보하지 못한 Groq 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 우선순위별 최대 대기 시간으로 마감 시각을 계산합니다.
+     */
+    public long deadlineFor(GroqPriority priority) {
+        Duration maxWait = priority == GroqPriority.BATCH ? batchMaxWait : interactiveMaxWait;
+        return System.nanoTime() + maxWait.toNanos();
+    }
+
+    /**
+     * 요청에 필요한 토큰 수를 추정합니다.
+     * 입력 토큰 수(PromptBudgeter로 센 값)에 예상 답변 길이를 더합니다.
+     * 실제 사용량은 응답 헤더로 보정됩니다.
+     */
+    public int estimateTokens(int promptTokens) {
+        return promptTokens + expectedCompletionTokens;
+    }
+
+    /**
+     * 한도가 확보될 때까지 기다렸다가 완료되는 Mono를 반환합니다.
+     * 구독을 취소하면 대기열에서 빠집니다.
+     *
+     * @param deadlineNanos System.nanoTime() 기준 마감 시각
+     * @throws GroqApiException 마감 시각까지 한도를 확보하지 못한 경우 (Mono 에러로 전달)
+     */
+    public Mono<Void> admit(GroqPriority priority, int estimatedTokens, long deadlineNanos) {
+        return Mono.create(sink -> {
+            Waiter waiter = new Waiter(priority, deadlineNanos, sequence.incrementAndGet(), estimatedTokens, sink);
+            synchronized (this) {
+                queue.add(waiter);
+            }
+            sink.onCancel(() -> {
+                synchronized (this) {
+                    queue.remove(waiter);
+                }
+            });
+            drain();
+        });
+    }
+
+    /**
+     * 응답 헤더의 남은 한도로 추정치를 보정합니다.
+     * Groq의 요청 수 헤더는 일일 한도이므로, 모두 소진된 경우에만 초기화 시각까지 멈춥니다.
+     */
+    public void onResponse(HttpHeaders headers) {
+        long now = System.nanoTime();
+        synchronized (this) {
+            tokenBucket.sync(parseLong(headers, LIMIT_TOKENS), parseLong(headers, REMAINING_TOKENS), now);
+
+            Long remainingRequests = parseLong(headers, REMAINING_REQUESTS);
+            if (remainingRequests != null && remainingRequests <= 0) {
+                pauseFor(parseDuration(headers.getFirst(RESET_REQUESTS)), now);
+            }
+        }
+        drain();
+    }
+
+    /**
+     * 429 응답을 받으면 retry-after(없으면 토큰 초기화 시각) 동안 모든 요청을 멈춥니다.
+     */
+    public void onRateLimited(HttpHeaders headers) {
+        long now = System.nanoTime();
+        Duration retryAfter = parseRetryAfter(headers);
+        synchronized (this) {
+            tokenBucket.sync(parseLong(headers, LIMIT_TOKENS), parseLong(headers, REMAINING_TOKENS), now);
+            pauseFor(retryAfter, now);
+        }
+        logger.warn("Groq 요청 한도 초과(429) - {}ms 동안 요청을 멈춥니다.", retryAfter.toMillis());
+        drain();
+    }
+
+    public synchronized int queueSize() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.dispose();
+    }
+
+    /**
+     * 대기열 앞에서부터 한도가 허락하는 만큼 요청을 통과시키고,
+     * 남은 요청이 있으면 한도가 채워지거나 마감 시각이 되는 시점에 다시 실행되도록 예약합니다.
+     */
+    private void drain() {
+        List<Waiter> granted = new ArrayList<>();
+        List<Waiter> expired = new ArrayList<>();
+
+        synchronized (this) {
+            long now = System.nanoTime();
+            requestBucket.refill(now);
+            tokenBucket.refill(now);
+
+            queue.removeIf(waiter -> {
+                if (waiter.deadlineNanos() - now <= 0) {
+                    expired.add(waiter);
+                    return true;
+                }
+                return false;
+            });
+
+            long waitNanos = Long.MAX_VALUE;
+            while (!queue.isEmpty()) {
+                if (pausedUntilNanos - now > 0) {
+                    waitNanos = pausedUntilNanos - now;
+                    break;
+                }
+                // 우선순위가 높은 요청을 건너뛰고 뒤의 작은 요청을 먼저 보내지 않음 (배치 작업이 채팅 한도를 잠식하지 않도록)
+                Waiter head = queue.peek();
+                if (!requestBucket.hasAvailable(1) || !tokenBucket.hasAvailable(head.tokens())) {
+                    waitNanos = Math.max(requestBucket.nanosUntilAvailable(1), tokenBucket.nanosUntilAvailable(head.tokens()));
+                    break;
+                }
+                requestBucket.take(1);
+                tokenBucket.take(head.tokens());
+                granted.add(queue.poll());
+            }
+
+            for (Waiter waiter : queue) {
+                waitNanos = Math.min(waitNanos, waiter.deadlineNanos() - now);
+            }
+            scheduleDrain(waitNanos);
+        }
+
+        granted.forEach(waiter -> waiter.sink().success());
+        if (!expired.isEmpty()) {
+            expiredCounter.increment(expired.size());
+            expired.forEach(waiter -> waiter.sink().error(new GroqApiException(
+                    "Groq API 호출 제한 초과 (429): 대기 시간 안에 요청 한도를 확보하지 못했습니다. 잠시 후 다시 시도해주세요.")));
+        }
+    }
+
+    private void scheduleDrain(long delayNanos) {
+        if (scheduledDrain != null) {
+            scheduledDrain.dispose();
+            scheduledDrain = null;
+        }
+        if (delayNanos == Long.MAX_VALUE) {
+            return;
+        }
+        scheduledDrain = scheduler.schedule(this::drain, Math.max(delayNanos, 0), TimeUnit.NANOSECONDS);
+    }
+
+    private void pauseFor(Duration duration, long now) {
+        long until = now + duration.toNanos();
+        if (until - pausedUntilNanos > 0) {
+            pausedUntilNanos = until;
+        }
+    }
+
+    private Duration parseRetryAfter(HttpHeaders headers) {
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter != null) {
+            try {
+                return Duration.ofMillis((long) (Double.parseDouble(retryAfter.trim()) * 1000));
+            } catch (NumberFormatException ignored) {
+                // HTTP 날짜 형식은 Groq가 사용하지 않으므로 토큰 초기화 시각으로 대체
+            }
+        }
+        Duration resetTokens = parseDuration(headers.getFirst(RESET_TOKENS));
+        return resetTokens.isZero() ? DEFAULT_RETRY_AFTER : resetTokens;
+    }
+
+    private static Long parseLong(HttpHeaders headers, String name) {
+        String value = headers.getFirst(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Groq 초기화 시각 헤더("2m59.56s", "7.66s", "120ms")를 Duration으로 변환합니다.
+     * 해석할 수 없으면 0을 반환합니다.
+     */
+    static Duration parseDuration(String value) {
+        if (value == null || value.isBlank()) {
+            return Duration.ZERO;
+        }
+        double millis = 0;
+        Matcher matcher = DURATION_PART.matcher(value.trim());
+        while (matcher.find()) {
+            double amount = Double.parseDouble(matcher.group(1));
+            millis += switch (matcher.group(2)) {
+                case "h" -> amount * 3_600_000;
+                case "m" -> amount * 60_000;
+                case "s" -> amount * 1_000;
+                default -> amount;
+            };
+        }
+        return Duration.ofMillis((long) Math.ceil(millis));
+    }
+
+    private record Waiter(GroqPriority priority, long deadlineNanos, long sequence, int tokens, MonoSink<Void> sink) {
+    }
+}
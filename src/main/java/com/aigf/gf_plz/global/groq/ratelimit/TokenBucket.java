@@ -0,0 +1,75 @@
+package com.aigf.gf_plz.global.groq.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 분당 한도를 추정하는 토큰 버킷
+ * 용량만큼 채워진 상태에서 시작하고, 1분에 용량만큼 선형으로 다시 채워집니다.
+ * 동기화는 GroqRateLimiter가 담당합니다.
+ */
+class TokenBucket {
+
+    private static final double NANOS_PER_MINUTE = Duration.ofMinutes(1).toNanos();
+
+    private double capacity;
+    private double available;
+    private long lastRefillNanos;
+
+    TokenBucket(long capacity, long nowNanos) {
+        this.capacity = capacity;
+        this.available = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    void refill(long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            available = Math.min(capacity, available + elapsed * capacity / NANOS_PER_MINUTE);
+            lastRefillNanos = nowNanos;
+        }
+    }
+
+    /**
+     * 한 번의 요청이 용량보다 많이 필요하면 가득 찰 때까지만 기다리도록 용량으로 자릅니다.
+     */
+    boolean hasAvailable(long amount) {
+        return available >= Math.min(amount, capacity);
+    }
+
+    void take(long amount) {
+        available -= Math.min(amount, capacity);
+    }
+
+    /**
+     * amount만큼 채워지기까지 남은 시간(나노초)을 반환합니다.
+     */
+    long nanosUntilAvailable(long amount) {
+        double missing = Math.min(amount, capacity) - available;
+        if (missing <= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(missing * NANOS_PER_MINUTE / capacity);
+    }
+
+    /**
+     * 서버가 알려준 한도와 남은 양으로 추정치를 맞춥니다.
+     * 서버 값이 기준이므로, 추정치보다 많이 남았어도 그대로 따릅니다.
+     */
+    void sync(Long limit, Long remaining, long nowNanos) {
+        refill(nowNanos);
+        if (limit != null && limit > 0) {
+            capacity = limit;
+        }
+        if (remaining != null) {
+            available = Math.min(capacity, remaining);
+        }
+    }
+
+    double available() {
+        return available;
+    }
+
+    double capacity() {
+        return capacity;
+    }
+}
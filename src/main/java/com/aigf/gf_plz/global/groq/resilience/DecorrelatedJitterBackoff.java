@@ -0,0 +1,30 @@
+package com.aigf.gf_plz.global.groq.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decorrelated jitter 재시도 간격
+ * 다음 대기 시간 = min(cap, random(base, 이전 대기 시간 * 3))
+ * 여러 요청이 동시에 실패해도 재시도 시점이 흩어져 Groq가 회복되는 순간에 요청이 몰리지 않습니다.
+ */
+class DecorrelatedJitterBackoff {
+
+    private final long baseMillis;
+    private final long capMillis;
+
+    DecorrelatedJitterBackoff(Duration base, Duration cap) {
+        this.baseMillis = Math.max(1, base.toMillis());
+        this.capMillis = Math.max(baseMillis, cap.toMillis());
+    }
+
+    Duration first() {
+        return Duration.ofMillis(baseMillis);
+    }
+
+    Duration next(Duration previous) {
+        long upper = Math.min(capMillis, Math.max(baseMillis, previous.toMillis()) * 3);
+        long millis = upper <= baseMillis ? baseMillis : ThreadLocalRandom.current().nextLong(baseMillis, upper + 1);
+        return Duration.ofMillis(millis);
+    }
+}
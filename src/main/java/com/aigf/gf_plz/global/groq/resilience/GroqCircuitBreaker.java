@@ -0,0 +1,167 @@
+package com.aigf.gf_plz.global.groq.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Groq 서킷 브레이커
+ * 최근 호출 결과(슬라이딩 윈도우)의 실패율이 기준을 넘으면 열림(OPEN) 상태가 되어
+ * 일정 시간 동안 Groq로 요청을 보내지 않고 바로 실패시킵니다.
+ * 대기 시간이 지나면 반열림(HALF_OPEN) 상태에서 시험 호출을 보내 성공하면 닫히고, 실패하면 다시 열립니다.
+ *
+ * 실패로 집계하는 것은 GroqUnavailableException(5xx, 연결 실패, 응답 시간 초과)뿐이며,
+ * 4xx/429처럼 서버가 응답한 오류는 성공으로 봅니다.
+ *
+ * 메트릭: groq.circuit.state (0=CLOSED, 1=OPEN, 2=HALF_OPEN), groq.circuit.transitions{from,to}
+ */
+@Component
+public class GroqCircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroqCircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final boolean[] window;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final Map<State, Map<State, Counter>> transitionCounters = new EnumMap<>(State.class);
+
+    private State state = State.CLOSED;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private long openedAtNanos;
+    private int halfOpenInFlight;
+
+    public GroqCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${groq.resilience.circuit.window-size:20}") int windowSize,
+            @Value("${groq.resilience.circuit.minimum-calls:10}") int minimumCalls,
+            @Value("${groq.resilience.circuit.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${groq.resilience.circuit.open-duration:30s}") Duration openDuration,
+            @Value("${groq.resilience.circuit.half-open-calls:1}") int halfOpenCalls
+    ) {
+        this.window = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+
+        Gauge.builder("groq.circuit.state", this, breaker -> breaker.state().ordinal())
+                .description("Groq 서킷 브레이커 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                .register(meterRegistry);
+        for (State from : State.values()) {
+            Map<State, Counter> counters = new EnumMap<>(State.class);
+            for (State to : State.values()) {
+                if (from != to) {
+                    counters.put(to, Counter.builder("groq.circuit.transitions")
+                            .description("Groq 서킷 브레이커 상태 전이 수")
+                            .tag("from", from.name().toLowerCase(Locale.ROOT))
+                            .tag("to", to.name().toLowerCase(Locale.ROOT))
+                            .register(meterRegistry));
+                }
+            }
+            transitionCounters.put(from, counters);
+        }
+    }
+
+    /**
+     * 호출을 보내도 되는지 확인합니다.
+     * true를 받은 호출은 끝날 때 onSuccess, onFailure, onIgnored 중 하나를 반드시 호출해야 합니다.
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+                // 반열림 상태로 넘어갔으므로 아래에서 시험 호출 권한을 확인
+            case HALF_OPEN:
+            default:
+                if (halfOpenInFlight >= halfOpenCalls) {
+                    return false;
+                }
+                halfOpenInFlight++;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.CLOSED);
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCount) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    /**
+     * 결과를 판단할 수 없이 끝난 호출(구독 취소 등)의 권한을 반환합니다.
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenInFlight > 0) {
+            halfOpenInFlight--;
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        logger.warn("Groq 서킷 브레이커 상태 변경: {} -> {} (최근 {}건 중 실패 {}건)", state, next, windowCount, windowFailures);
+        transitionCounters.get(state).get(next).increment();
+        state = next;
+        halfOpenInFlight = 0;
+        if (next == State.OPEN) {
+            openedAtNanos = System.nanoTime();
+        }
+        if (next == State.CLOSED) {
+            windowIndex = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.aigf.gf_plz.global.groq.resilience;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 최근 성공한 호출의 응답 시간을 보관하고 p95를 계산합니다.
+ * 헤징 요청을 보낼 시점을 정하는 데 사용합니다.
+ */
+class LatencyTracker {
+
+    private final long[] samples;
+    private int index;
+    private int count;
+
+    LatencyTracker(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    synchronized void record(Duration latency) {
+        samples[index] = latency.toNanos();
+        index = (index + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+    }
+
+    /**
+     * 표본이 minSamples보다 적으면 null을 반환합니다.
+     */
+    synchronized Duration p95(int minSamples) {
+        if (count == 0 || count < minSamples) {
+            return null;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(count * 0.95) - 1;
+        return Duration.ofNanos(sorted[Math.max(rank, 0)]);
+    }
+}
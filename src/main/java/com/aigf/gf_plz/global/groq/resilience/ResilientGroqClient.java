@@ -0,0 +1,315 @@
+package com.aigf.gf_plz.global.groq.resilience;
+
+import com.aigf.gf_plz.global.cancellation.CancellationToken;
+import com.aigf.gf_plz.global.concurrency.UpstreamLimiter;
+import com.aigf.gf_plz.global.groq.GroqClient;
+import com.aigf.gf_plz.global.groq.GroqClientImpl;
+import com.aigf.gf_plz.global.groq.GroqMessage;
+import com.aigf.gf_plz.global.groq.GroqPriority;
+import com.aigf.gf_plz.global.groq.exception.GroqApiException;
+import com.aigf.gf_plz.global.groq.exception.GroqCircuitOpenException;
+import com.aigf.gf_plz.global.groq.exception.GroqUnavailableException;
+import com.aigf.gf_plz.global.groq.ratelimit.GroqRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Groq 장애 대응 데코레이터
+ * 일시적인 장애(5xx, 연결 실패, 응답 시간 초과)는 decorrelated jitter 간격으로 몇 번 다시 시도하고,
+ * 장애가 이어지면 서킷 브레이커가 열려 타임아웃을 기다리지 않고 바로 실패합니다.
+ * 헤징을 켜면 채팅/통화 요청이 최근 p95 응답 시간을 넘길 때 같은 요청을 하나 더 보내 먼저 온 응답을 사용합니다.
+ * 원래 요청이 그 전에 실패하면 헤징하지 않고 그 오류를 바로 전달합니다.
+ * 스트리밍은 첫 토큰을 받기 전까지만 다시 시도하며 헤징하지 않습니다.
+ * 블로킹/리액티브 호출 모두 시도(재시도, 헤징 포함)마다 Groq 동시 호출 권한을 논블로킹으로 얻어,
+ * 요청이 실제로 나가 있는 동안만 붙잡습니다. 스트리밍은 스트림이 끝날 때까지 붙잡습니다.
+ *
+ * 메트릭: groq.resilience.retries, groq.resilience.hedges{result=fired|won} (서킷 메트릭은 GroqCircuitBreaker)
+ */
+@Service
+@Primary
+public class ResilientGroqClient implements GroqClient {
+
+    private final GroqClientImpl delegate;
+    private final GroqCircuitBreaker circuitBreaker;
+    private final GroqRateLimiter rateLimiter;
+    private final UpstreamLimiter upstreamLimiter;
+    private final DecorrelatedJitterBackoff backoff;
+    private final LatencyTracker latencyTracker = new LatencyTracker(200);
+    private final int maxRetries;
+    private final boolean hedgeEnabled;
+    private final Duration hedgeMinDelay;
+    private final int hedgeMinSamples;
+
+    private final Counter retries;
+    private final Counter hedgesFired;
+    private final Counter hedgesWon;
+
+    public ResilientGroqClient(
+            GroqClientImpl delegate,
+            GroqCircuitBreaker circuitBreaker,
+            GroqRateLimiter rateLimiter,
+            UpstreamLimiter upstreamLimiter,
+            MeterRegistry meterRegistry,
+            @Value("${groq.resilience.retry.max-attempts:2}") int maxRetries,
+            @Value("${groq.resilience.retry.base-delay:200ms}") Duration baseDelay,
+            @Value("${groq.resilience.retry.max-delay:2s}") Duration maxDelay,
+            @Value("${groq.resilience.hedge.enabled:false}") boolean hedgeEnabled,
+            @Value("${groq.resilience.hedge.min-delay:500ms}") Duration hedgeMinDelay,
+            @Value("${groq.resilience.hedge.min-samples:20}") int hedgeMinSamples
+    ) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.rateLimiter = rateLimiter;
+        this.upstreamLimiter = upstreamLimiter;
+        this.backoff = new DecorrelatedJitterBackoff(baseDelay, maxDelay);
+        this.maxRetries = maxRetries;
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgeMinDelay = hedgeMinDelay;
+        this.hedgeMinSamples = hedgeMinSamples;
+
+        this.retries = Counter.builder("groq.resilience.retries")
+                .description("일시적인 장애로 다시 보낸 Groq 요청 수")
+                .register(meterRegistry);
+        this.hedgesFired = Counter.builder("groq.resilience.hedges")
+                .description("헤징 요청 수")
+                .tag("result", "fired")
+                .register(meterRegistry);
+        this.hedgesWon = Counter.builder("groq.resilience.hedges")
+                .description("헤징 요청 수")
+                .tag("result", "won")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기본 프롬프트를 사용하는 테스트용 호출도 서킷 브레이커, 재시도, 동시 호출 한도를 거칩니다.
+     */
+    @Override
+    public String generateReply(String mode, String userText) {
+        return generateReply(mode, userText, null);
+    }
+
+    @Override
+    public String generateReply(String mode, String userText, List<GroqMessage> history) {
+        return generateReply(mode, userText, history, GroqClientImpl.BASE_SYSTEM_PROMPT);
+    }
+
+    @Override
+    public String generateReply(String mode, String userText, List<GroqMessage> history, String systemPrompt) {
+        return generateReply(mode, userText, history, systemPrompt, GroqPriority.INTERACTIVE);
+    }
+
+    @Override
+    public String generateReply(String mode, String userText, List<GroqMessage> history, String systemPrompt,
+                                GroqPriority priority) {
+        return block(reply(mode, userText, history, systemPrompt, priority));
+    }
+
+    @Override
+    public String complete(String model, String systemPrompt, String userText, int maxTokens, GroqPriority priority) {
+        return block(completeAsync(model, systemPrompt, userText, maxTokens, priority));
+    }
+
+    @Override
+    public Mono<String> completeAsync(String model, String systemPrompt, String userText, int maxTokens,
+                                      GroqPriority priority) {
+        return guarded(() -> delegate.completeAsync(model, systemPrompt, userText, maxTokens, priority))
+                .retryWhen(transientRetry(() -> true));
+    }
+
+    @Override
+    public <T> T generateJson(String userText, List<GroqMessage> history, String systemPrompt, Class<T> responseType,
+                              GroqPriority priority) {
+        return block(generateJsonAsync(userText, history, systemPrompt, responseType, priority));
+    }
+
+    @Override
+    public <T> Mono<T> generateJsonAsync(String userText, List<GroqMessage> history, String systemPrompt,
+                                         Class<T> responseType, GroqPriority priority) {
+        return guarded(() -> delegate.generateJsonAsync(userText, history, systemPrompt, responseType, priority))
+                .retryWhen(transientRetry(() -> true));
+    }
+
+    /**
+     * 블로킹 호출의 결과를 기다립니다. 동시 호출 권한은 시도마다 guarded에서 얻고 반환합니다.
+     */
+    private <T> T block(Mono<T> reply) {
+        try {
+            return reply.block();
+        } catch (RuntimeException e) {
+            throw GroqApiException.from(Exceptions.unwrap(e));
+        }
+    }
+
+    @Override
+    public Mono<String> generateReplyAsync(String mode, String userText, List<GroqMessage> history, String systemPrompt) {
+        return generateReplyAsync(mode, userText, history, systemPrompt, GroqPriority.INTERACTIVE);
+    }
+
+    @Override
+    public Mono<String> generateReplyAsync(String mode, String userText, List<GroqMessage> history, String systemPrompt,
+                                           GroqPriority priority) {
+        return reply(mode, userText, history, systemPrompt, priority);
+    }
+
+    /**
+     * 재시도와 헤징을 적용한 답변 생성
+     */
+    private Mono<String> reply(String mode, String userText, List<GroqMessage> history, String systemPrompt,
+                               GroqPriority priority) {
+        Mono<String> attempt = guarded(() -> delegate.generateReplyAsync(mode, userText, history, systemPrompt, priority));
+        Mono<String> primary = attempt.retryWhen(transientRetry(() -> true));
+
+        Duration hedgeDelay = priority == GroqPriority.INTERACTIVE ? hedgeDelay() : null;
+        if (hedgeDelay == null) {
+            return primary;
+        }
+
+        return Mono.defer(() -> {
+            // 원래 요청이 먼저 실패하면(4xx, 서킷 열림, 재시도 소진) 헤징하지 않고 그 오류를 바로 전달
+            Sinks.One<Boolean> primaryFailed = Sinks.one();
+            Mono<String> tracked = primary.doOnError(e -> primaryFailed.tryEmitValue(true));
+
+            // 지연 후에도 응답이 없고 요청 한도 대기열이 비어 있을 때만 (한도 부족으로 느린 경우는 헤징해도 소용없음)
+            Mono<String> hedge = Mono.delay(hedgeDelay)
+                    .takeUntilOther(primaryFailed.asMono())
+                    .filter(ignored -> rateLimiter.queueSize() == 0)
+                    .flatMap(ignored -> {
+                        hedgesFired.increment();
+                        return attempt.doOnNext(reply -> hedgesWon.increment());
+                    });
+            return Mono.firstWithValue(tracked, hedge)
+                    // 둘 다 값 없이 끝나면 firstWithValue가 오류를 suppressed로 묶으므로, 원래 요청의 오류를 꺼내 전달
+                    .onErrorMap(e -> !(e instanceof GroqApiException) && e.getSuppressed().length > 0,
+                            e -> e.getSuppressed()[0]);
+        });
+    }
+
+    @Override
+    public Flux<String> streamReply(String mode, String userText, List<GroqMessage> history, String systemPrompt) {
+        return streamReply(mode, userText, history, systemPrompt, CancellationToken.none());
+    }
+
+    @Override
+    public Flux<String> streamReply(String mode, String userText, List<GroqMessage> history, String systemPrompt,
+                                    CancellationToken cancellationToken) {
+        return Flux.defer(() -> {
+            // 토큰을 하나라도 보낸 뒤에는 다시 시도하면 답변이 중복되므로 그대로 실패 (구독마다 따로 판단)
+            AtomicBoolean emitted = new AtomicBoolean();
+            Flux<String> attempt = Flux.defer(() -> {
+                if (!circuitBreaker.tryAcquire()) {
+                    return Flux.<String>error(new GroqCircuitOpenException());
+                }
+                // 결과는 스트림이 끝날 때 기록 (첫 토큰 이후의 5xx/연결 끊김도 장애로 집계)
+                AtomicBoolean settled = new AtomicBoolean();
+                return delegate.streamReply(mode, userText, history, systemPrompt, cancellationToken)
+                        .doOnNext(delta -> emitted.set(true))
+                        .doOnComplete(() -> {
+                            if (settled.compareAndSet(false, true)) {
+                                circuitBreaker.onSuccess();
+                            }
+                        })
+                        .doOnError(e -> {
+                            if (settled.compareAndSet(false, true)) {
+                                recordFailure(e);
+                            }
+                        })
+                        .doOnCancel(() -> {
+                            if (settled.compareAndSet(false, true)) {
+                                // 토큰을 받은 뒤 클라이언트가 끊은 경우는 Groq가 정상 응답한 것
+                                if (emitted.get()) {
+                                    circuitBreaker.onSuccess();
+                                } else {
+                                    circuitBreaker.onIgnored();
+                                }
+                            }
+                        });
+            });
+            // 동시 호출 권한은 시도마다 얻어 스트림이 끝나거나 취소될 때까지 붙잡음
+            return Flux.usingWhen(
+                            upstreamLimiter.acquireAsync(UpstreamLimiter.Upstream.GROQ),
+                            permit -> attempt,
+                            permit -> Mono.fromRunnable(permit::close))
+                    .retryWhen(transientRetry(() -> !emitted.get()));
+        });
+    }
+
+    /**
+     * 서킷 브레이커를 거쳐 한 번 호출하고, 결과를 서킷 브레이커와 응답 시간 표본에 기록합니다.
+     * Groq 동시 호출 권한은 이 시도 동안만 붙잡습니다 (재시도 대기, 헤징 지연 중에는 반환된 상태).
+     */
+    private <T> Mono<T> guarded(Supplier<Mono<T>> call) {
+        Mono<T> attempt = Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                return Mono.error(new GroqCircuitOpenException());
+            }
+            long startNanos = System.nanoTime();
+            return call.get()
+                    .doOnNext(reply -> {
+                        circuitBreaker.onSuccess();
+                        latencyTracker.record(Duration.ofNanos(System.nanoTime() - startNanos));
+                    })
+                    .doOnError(this::recordFailure)
+                    .doOnCancel(circuitBreaker::onIgnored);
+        });
+        return Mono.usingWhen(
+                upstreamLimiter.acquireAsync(UpstreamLimiter.Upstream.GROQ),
+                permit -> attempt,
+                permit -> Mono.fromRunnable(permit::close));
+    }
+
+    private void recordFailure(Throwable e) {
+        if (e instanceof GroqUnavailableException) {
+            circuitBreaker.onFailure();
+        } else {
+            // 4xx, 429처럼 서버가 응답한 오류는 장애가 아님
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    /**
+     * 일시적인 장애만 다시 시도합니다. 서킷이 열린 경우(GroqCircuitOpenException)는 바로 실패합니다.
+     */
+    private Retry transientRetry(BooleanSupplier retryable) {
+        return Retry.from(signals -> {
+            AtomicReference<Duration> previousDelay = new AtomicReference<>(backoff.first());
+            return signals.concatMap(signal -> {
+                Throwable failure = signal.failure();
+                if (!(failure instanceof GroqUnavailableException)
+                        || signal.totalRetries() >= maxRetries
+                        || !retryable.getAsBoolean()) {
+                    return Mono.error(failure);
+                }
+                Duration delay = backoff.next(previousDelay.get());
+                previousDelay.set(delay);
+                retries.increment();
+                return Mono.delay(delay);
+            });
+        });
+    }
+
+    private Duration hedgeDelay() {
+        if (!hedgeEnabled) {
+            return null;
+        }
+        Duration p95 = latencyTracker.p95(hedgeMinSamples);
+        if (p95 == null) {
+            return null;
+        }
+        return p95.compareTo(hedgeMinDelay) < 0 ? hedgeMinDelay : p95;
+    }
+}
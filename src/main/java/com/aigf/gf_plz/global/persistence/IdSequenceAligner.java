@@ -0,0 +1,73 @@
+package com.aigf.gf_plz.global.persistence;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * ID 시퀀스 정렬
+ * 엔티티 ID를 IDENTITY에서 풀링 시퀀스로 바꾸면서, 기존 테이블의 최대 ID보다 뒤에서 시퀀스가 시작하도록 맞춥니다.
+ * 스키마 갱신(ddl-auto) 직후, 요청과 스케줄 작업이 시작되기 전에 한 번 실행됩니다.
+ *
+ * - 풀링 옵티마이저는 시퀀스 값 v를 받으면 (v - 할당 크기 + 1) ~ v 구간의 ID를 메모리에서 나눠 줍니다.
+ *   그래서 시퀀스를 (최대 ID + 할당 크기)로 맞추면 다음 ID는 최대 ID + 1부터 시작합니다.
+ * - 시퀀스가 이미 충분히 앞서 있으면 건드리지 않으므로 재시작해도 안전합니다 (확인하느라 한 구간은 건너뜀).
+ * - H2 문법(NEXT VALUE FOR, ALTER SEQUENCE ... RESTART WITH)을 사용합니다.
+ */
+@Component
+public class IdSequenceAligner {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceAligner.class);
+
+    /**
+     * 시퀀스 한 번 조회로 할당하는 ID 수 (hibernate.jdbc.batch_size와 같게 유지)
+     */
+    public static final int ALLOCATION_SIZE = 50;
+
+    private static final List<SequenceTarget> TARGETS = List.of(
+            new SequenceTarget("character_seq", "SELECT MAX(c.characterId) FROM Character c"),
+            new SequenceTarget("session_seq", "SELECT MAX(s.sessionId) FROM Session s"),
+            new SequenceTarget("message_seq", "SELECT MAX(m.messageId) FROM Message m"),
+            new SequenceTarget("relationship_history_seq", "SELECT MAX(h.historyEntryId) FROM RelationshipHistory h")
+    );
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceAligner(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void align() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            for (SequenceTarget target : TARGETS) {
+                Long maxId = entityManager.createQuery(target.maxIdQuery(), Long.class).getSingleResult();
+                align(target.sequenceName(), maxId != null ? maxId : 0L);
+            }
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private void align(String sequenceName, long maxId) {
+        Long next = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + sequenceName, Long.class);
+        long required = maxId + ALLOCATION_SIZE;
+        if (next != null && next >= required) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequenceName + " RESTART WITH " + required);
+        logger.info("ID 시퀀스 정렬 - Sequence: {}, 기존 최대 ID: {}, 다음 시퀀스 값: {}", sequenceName, maxId, required);
+    }
+
+    private record SequenceTarget(String sequenceName, String maxIdQuery) {
+    }
+}
@@ -1,6 +1,13 @@
 package com.aigf.gf_plz.global.tts;
 
+import com.aigf.gf_plz.global.cancellation.CancellationToken;
+import com.aigf.gf_plz.global.concurrency.UpstreamBusyException;
+import com.aigf.gf_plz.global.concurrency.UpstreamLimiter;
 import com.aigf.gf_plz.global.tts.exception.TtsException;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.cloud.texttospeech.v1.AudioConfig;
 import com.google.cloud.texttospeech.v1.AudioEncoding;
 import com.google.cloud.texttospeech.v1.SynthesisInput;
@@ -10,11 +17,16 @@ import com.google.cloud.texttospeech.v1.TextToSpeechClient;
 import com.google.cloud.texttospeech.v1.TextToSpeechSettings;
 import com.google.cloud.texttospeech.v1.VoiceSelectionParams;
 import com.google.protobuf.ByteString;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Primary;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -22,6 +34,8 @@ import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.auth.oauth2.ServiceAccountCredentials;
 import com.google.api.gax.core.FixedCredentialsProvider;
@@ -31,23 +45,106 @@ import com.fasterxml.jackson.databind.JsonNode;
 /**
  * Google Cloud TTS 클라이언트 구현체
  * 한국어를 지원하는 TTS 서비스를 제공합니다.
+ * 서비스에서는 CachingTtsClient가 이 클라이언트를 감싸서 주입됩니다.
  */
 @Service
-@Primary
 public class GoogleCloudTtsClient implements TtsClient {
 
     private static final Logger logger = LoggerFactory.getLogger(GoogleCloudTtsClient.class);
 
+    /**
+     * 워밍업 상태
+     * PENDING: 시작 전, WARMING: 클라이언트 생성 및 워밍업 합성 중, READY: 합성 성공, FAILED: 초기화/워밍업 실패,
+     * DISABLED: 워밍업을 끔 (첫 요청에서 초기화)
+     */
+    public enum WarmUpStatus {
+        PENDING, WARMING, READY, FAILED, DISABLED
+    }
+
     @Value("${google.cloud.tts.credentials-path:}")
     private String credentialsPath;
 
-    private TextToSpeechClient textToSpeechClient;
+    @Value("${google.cloud.tts.warm-up.enabled:true}")
+    private boolean warmUpEnabled;
+
+    @Value("${google.cloud.tts.warm-up.text:안녕}")
+    private String warmUpText;
+
+    private volatile TextToSpeechClient textToSpeechClient;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UpstreamLimiter upstreamLimiter;
+
+    private volatile WarmUpStatus warmUpStatus = WarmUpStatus.PENDING;
+    private volatile String warmUpError;
+
+    public GoogleCloudTtsClient(UpstreamLimiter upstreamLimiter) {
+        this.upstreamLimiter = upstreamLimiter;
+    }
 
     /**
-     * TextToSpeechClient를 초기화합니다.
+     * 애플리케이션 시작 후 백그라운드에서 클라이언트를 만들고 워밍업 합성을 한 번 수행합니다.
+     * 인증 파일 파싱, gRPC 채널 생성, TLS 핸드셰이크가 첫 사용자 요청에 걸리지 않도록 합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (!warmUpEnabled) {
+            warmUpStatus = WarmUpStatus.DISABLED;
+            logger.info("Google Cloud TTS 워밍업 비활성화 - 첫 요청에서 초기화합니다.");
+            return;
+        }
+        Thread.ofPlatform()
+                .name("tts-warm-up")
+                .daemon(true)
+                .start(this::warmUp);
+    }
+
+    /**
+     * 클라이언트를 초기화하고 짧은 문장을 합성해 채널을 미리 연결합니다.
+     */
+    void warmUp() {
+        warmUpStatus = WarmUpStatus.WARMING;
+        long startedAt = System.nanoTime();
+        try {
+            synthesize(warmUpText, "TYPE1");
+            logger.info("Google Cloud TTS 워밍업 완료 - {}ms", (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (Exception e) {
+            warmUpStatus = WarmUpStatus.FAILED;
+            warmUpError = e.getMessage();
+            logger.warn("Google Cloud TTS 워밍업 실패 (첫 요청에서 다시 시도합니다): {}", e.getMessage());
+        }
+    }
+
+    public WarmUpStatus getWarmUpStatus() {
+        return warmUpStatus;
+    }
+
+    public String getWarmUpError() {
+        return warmUpError;
+    }
+
+    @PreDestroy
+    public void close() {
+        TextToSpeechClient client = textToSpeechClient;
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    /**
+     * TextToSpeechClient가 없으면 초기화합니다.
+     * 이미 초기화된 경우에는 락 없이 바로 반환합니다.
      */
     private void initializeClient() {
+        if (textToSpeechClient == null) {
+            createClient();
+        }
+    }
+
+    /**
+     * TextToSpeechClient를 초기화합니다.
+     * 동시에 여러 요청이 들어와도 클라이언트는 한 번만 생성되도록 동기화합니다.
+     */
+    private synchronized void createClient() {
         if (textToSpeechClient == null) {
             try {
                 TextToSpeechSettings.Builder settingsBuilder = TextToSpeechSettings.newBuilder();
@@ -330,69 +427,193 @@ public class GoogleCloudTtsClient implements TtsClient {
             throw new TtsException("변환할 텍스트가 비어있습니다.");
         }
 
-        try {
+        // 블로킹 호출은 TTS 동시 호출 한도 안에서만 수행
+        try (UpstreamLimiter.Permit permit = upstreamLimiter.acquire(UpstreamLimiter.Upstream.TTS)) {
             initializeClient();
-
-            // 음성 설정
-            String voiceName = mapVoiceType(voiceType);
-            VoiceSelectionParams voice = VoiceSelectionParams.newBuilder()
-                    .setLanguageCode("ko-KR")  // 한국어
-                    .setName(voiceName)  // 목소리 선택 (voice name에 성별이 포함됨)
-                    .build();
-
-            // 오디오 설정 (더 자연스러운 음성을 위해 파라미터 조절)
-            // speakingRate를 약간 낮추면(0.9~0.95) 더 자연스럽고 감정이 있는 목소리가 됩니다
-            // voiceType에 따라 pitch를 조절 (여성: 높게, 남성: 낮게)
-            boolean isMaleVoice = voiceType != null && 
-                    (voiceType.toUpperCase().equals("TYPE4") || 
-                     voiceType.toUpperCase().equals("TYPE5") || 
-                     voiceType.toUpperCase().equals("TYPE6"));
-            double pitch = isMaleVoice ? -2.0 : 2.0;  // 남성: 낮게, 여성: 높게
-            
-            AudioConfig audioConfig = AudioConfig.newBuilder()
-                    .setAudioEncoding(AudioEncoding.MP3)  // MP3 형식
-                    .setSpeakingRate(0.95)  // 말하기 속도 (0.9~0.95가 더 자연스러움)
-                    .setPitch(pitch)  // 음높이 조절 (여성: +2.0, 남성: -2.0)
-                    .setVolumeGainDb(0.0)  // 볼륨 조절 (-96.0 ~ 16.0, 0.0이 정상)
-                    .build();
-
-            // SSML을 사용하여 더 자연스러운 음성 생성
-            // 감정 표현을 위해 텍스트를 SSML로 감싸기
-            String ssmlText = wrapWithSsml(text);
-            
-            // TTS 요청 생성
-            logger.debug("TTS 요청 생성 중 - 텍스트 길이: {}, VoiceType: {}, VoiceName: {}", 
-                        text.length(), voiceType, voiceName);
-            SynthesizeSpeechRequest request = SynthesizeSpeechRequest.newBuilder()
-                    .setInput(SynthesisInput.newBuilder().setSsml(ssmlText).build())
-                    .setVoice(voice)
-                    .setAudioConfig(audioConfig)
-                    .build();
+            SynthesizeSpeechRequest request = buildRequest(text, voiceType);
 
             // TTS API 호출
             logger.info("Google Cloud TTS API 호출 중...");
             SynthesizeSpeechResponse response = textToSpeechClient.synthesizeSpeech(request);
             logger.info("Google Cloud TTS API 호출 성공");
 
-            // 오디오 데이터 추출
-            ByteString audioContents = response.getAudioContent();
-            if (audioContents == null || audioContents.isEmpty()) {
-                logger.error("TTS API 응답이 비어있습니다.");
-                throw new TtsException("TTS API 응답이 비어있습니다.");
+            byte[] audio = extractAudio(response);
+            warmUpStatus = WarmUpStatus.READY;
+            return audio;
+
+        } catch (UpstreamBusyException e) {
+            throw new TtsException("TTS 동시 요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요.", e);
+        } catch (Exception e) {
+            if (e instanceof TtsException) {
+                throw e;
             }
-            
-            logger.debug("오디오 데이터 추출 완료 - 크기: {} bytes", audioContents.size());
-            return audioContents.toByteArray();
+            logger.error("Google Cloud TTS API 호출 실패: {}", e.getMessage(), e);
+            throw new TtsException("Google Cloud TTS API 호출 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 취소 가능한 TTS 변환을 수행합니다.
+     * gRPC 호출을 비동기로 시작하고, 토큰이 취소되면 진행 중인 gRPC 호출을 취소합니다.
+     */
+    @Override
+    public byte[] synthesize(String text, String voiceType, CancellationToken cancellationToken) {
+        if (text == null || text.isBlank()) {
+            throw new TtsException("변환할 텍스트가 비어있습니다.");
+        }
+        cancellationToken.throwIfCancelled();
+
+        Disposable cancelRegistration = null;
+        try (UpstreamLimiter.Permit permit = upstreamLimiter.acquire(UpstreamLimiter.Upstream.TTS)) {
+            initializeClient();
+            SynthesizeSpeechRequest request = buildRequest(text, voiceType);
+
+            ApiFuture<SynthesizeSpeechResponse> future =
+                    textToSpeechClient.synthesizeSpeechCallable().futureCall(request);
+            cancelRegistration = cancellationToken.onCancel(() -> future.cancel(true));
+
+            byte[] audio = extractAudio(future.get());
+            warmUpStatus = WarmUpStatus.READY;
+            return audio;
 
+        } catch (UpstreamBusyException e) {
+            throw new TtsException("TTS 동시 요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요.", e);
+        } catch (CancellationException e) {
+            logger.debug("Google Cloud TTS 요청 취소됨 - 텍스트 길이: {}", text.length());
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("TTS 요청이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            logger.error("Google Cloud TTS API 호출 실패: {}", cause.getMessage(), cause);
+            throw new TtsException("Google Cloud TTS API 호출 실패: " + cause.getMessage(), cause);
         } catch (Exception e) {
             if (e instanceof TtsException) {
                 throw e;
             }
             logger.error("Google Cloud TTS API 호출 실패: {}", e.getMessage(), e);
             throw new TtsException("Google Cloud TTS API 호출 실패: " + e.getMessage(), e);
+        } finally {
+            if (cancelRegistration != null) {
+                cancelRegistration.dispose();
+            }
         }
     }
 
+    /**
+     * 논블로킹 TTS 변환을 수행합니다.
+     * gRPC 비동기 호출 결과를 콜백으로 받아 전달하므로 응답을 기다리는 동안 스레드를 점유하지 않습니다.
+     * 클라이언트가 아직 없으면 생성만 boundedElastic에서 수행합니다.
+     * 구독이 취소되면 진행 중인 gRPC 호출도 취소합니다.
+     */
+    @Override
+    public Mono<byte[]> synthesizeAsync(String text, String voiceType) {
+        if (text == null || text.isBlank()) {
+            return Mono.error(new TtsException("변환할 텍스트가 비어있습니다."));
+        }
+
+        Mono<SynthesizeSpeechRequest> request = Mono.fromCallable(() -> {
+            initializeClient();
+            return buildRequest(text, voiceType);
+        });
+        if (textToSpeechClient == null) {
+            // 클라이언트 생성(인증 파일 파싱, gRPC 채널 생성)은 블로킹이므로 호출한 스레드(Netty 이벤트 루프 등)가 아닌 boundedElastic에서 수행
+            request = request.subscribeOn(Schedulers.boundedElastic());
+        }
+
+        return request
+                .flatMap(built -> Mono.<SynthesizeSpeechResponse>create(sink -> {
+                    ApiFuture<SynthesizeSpeechResponse> future =
+                            textToSpeechClient.synthesizeSpeechCallable().futureCall(built);
+                    ApiFutures.addCallback(future, new ApiFutureCallback<>() {
+                        @Override
+                        public void onFailure(Throwable t) {
+                            sink.error(t);
+                        }
+
+                        @Override
+                        public void onSuccess(SynthesizeSpeechResponse response) {
+                            sink.success(response);
+                        }
+                    }, MoreExecutors.directExecutor());
+                    sink.onCancel(() -> future.cancel(true));
+                }))
+                .map(response -> {
+                    byte[] audio = extractAudio(response);
+                    warmUpStatus = WarmUpStatus.READY;
+                    return audio;
+                })
+                .onErrorMap(e -> !(e instanceof TtsException), e -> {
+                    logger.error("Google Cloud TTS API 호출 실패: {}", e.getMessage(), e);
+                    return new TtsException("Google Cloud TTS API 호출 실패: " + e.getMessage(), e);
+                });
+    }
+
+    /**
+     * TTS 요청(목소리, 오디오 설정, SSML)을 생성합니다.
+     */
+    private SynthesizeSpeechRequest buildRequest(String text, String voiceType) {
+        // 음성 설정
+        TtsVoiceProfile profile = voiceProfile(voiceType);
+        VoiceSelectionParams voice = VoiceSelectionParams.newBuilder()
+                .setLanguageCode("ko-KR")  // 한국어
+                .setName(profile.voiceName())  // 목소리 선택 (voice name에 성별이 포함됨)
+                .build();
+
+        AudioConfig audioConfig = AudioConfig.newBuilder()
+                .setAudioEncoding(AudioEncoding.MP3)  // MP3 형식
+                .setSpeakingRate(profile.speakingRate())
+                .setPitch(profile.pitch())
+                .setVolumeGainDb(0.0)  // 볼륨 조절 (-96.0 ~ 16.0, 0.0이 정상)
+                .build();
+
+        // SSML을 사용하여 더 자연스러운 음성 생성
+        // 감정 표현을 위해 텍스트를 SSML로 감싸기
+        String ssmlText = wrapWithSsml(text);
+        
+        // TTS 요청 생성
+        logger.debug("TTS 요청 생성 중 - 텍스트 길이: {}, VoiceType: {}, VoiceName: {}", 
+                    text.length(), voiceType, profile.voiceName());
+        return SynthesizeSpeechRequest.newBuilder()
+                .setInput(SynthesisInput.newBuilder().setSsml(ssmlText).build())
+                .setVoice(voice)
+                .setAudioConfig(audioConfig)
+                .build();
+    }
+
+    /**
+     * TTS 응답에서 오디오 데이터를 추출합니다.
+     */
+    private byte[] extractAudio(SynthesizeSpeechResponse response) {
+        // 오디오 데이터 추출
+        ByteString audioContents = response.getAudioContent();
+        if (audioContents == null || audioContents.isEmpty()) {
+            logger.error("TTS API 응답이 비어있습니다.");
+            throw new TtsException("TTS API 응답이 비어있습니다.");
+        }
+        
+        logger.debug("오디오 데이터 추출 완료 - 크기: {} bytes", audioContents.size());
+        return audioContents.toByteArray();
+    }
+
+    /**
+     * 목소리 타입에 해당하는 목소리 이름, 음높이, 말하기 속도를 반환합니다.
+     */
+    @Override
+    public TtsVoiceProfile voiceProfile(String voiceType) {
+        // 오디오 설정 (더 자연스러운 음성을 위해 파라미터 조절)
+        // speakingRate를 약간 낮추면(0.9~0.95) 더 자연스럽고 감정이 있는 목소리가 됩니다
+        // voiceType에 따라 pitch를 조절 (여성: 높게, 남성: 낮게)
+        boolean isMaleVoice = voiceType != null && 
+                (voiceType.toUpperCase().equals("TYPE4") || 
+                 voiceType.toUpperCase().equals("TYPE5") || 
+                 voiceType.toUpperCase().equals("TYPE6"));
+        double pitch = isMaleVoice ? -2.0 : 2.0;  // 남성: 낮게, 여성: 높게
+
+        return new TtsVoiceProfile(mapVoiceType(voiceType), pitch, 0.95);
+    }
+
     /**
      * 캐릭터의 VoiceType을 Google Cloud TTS voice로 매핑합니다.
      * 무료 모델만 사용합니다:
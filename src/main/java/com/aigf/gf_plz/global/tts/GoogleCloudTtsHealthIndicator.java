@@ -0,0 +1,34 @@
+package com.aigf.gf_plz.global.tts;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Google Cloud TTS 준비 상태
+ * 워밍업 합성이 끝나 TTS가 바로 응답할 수 있거나 워밍업을 끈 경우 UP을 보고합니다.
+ * 채팅은 TTS 없이도 동작하므로 워밍업 중이거나 실패한 경우에도 UNKNOWN으로만 보고하고,
+ * readiness 그룹에는 포함하지 않습니다 (실패 원인은 상세 정보로 확인).
+ */
+@Component("tts")
+public class GoogleCloudTtsHealthIndicator implements HealthIndicator {
+
+    private final GoogleCloudTtsClient googleCloudTtsClient;
+
+    public GoogleCloudTtsHealthIndicator(GoogleCloudTtsClient googleCloudTtsClient) {
+        this.googleCloudTtsClient = googleCloudTtsClient;
+    }
+
+    @Override
+    public Health health() {
+        GoogleCloudTtsClient.WarmUpStatus status = googleCloudTtsClient.getWarmUpStatus();
+        return switch (status) {
+            case READY, DISABLED -> Health.up().withDetail("warmUp", status).build();
+            case PENDING, WARMING -> Health.unknown().withDetail("warmUp", status).build();
+            case FAILED -> Health.unknown()
+                    .withDetail("warmUp", status)
+                    .withDetail("error", String.valueOf(googleCloudTtsClient.getWarmUpError()))
+                    .build();
+        };
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -41,6 +42,28 @@ public class OpenAITtsClient implements TtsClient {
             throw new TtsException("변환할 텍스트가 비어있습니다.");
         }
 
+        try {
+            return requestSpeech(text, voiceType).block();
+        } catch (Exception e) {
+            if (e instanceof TtsException) {
+                throw e;
+            }
+            throw new TtsException("TTS API 호출 중 예상치 못한 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public Mono<byte[]> synthesizeAsync(String text, String voiceType) {
+        if (text == null || text.isBlank()) {
+            return Mono.error(new TtsException("변환할 텍스트가 비어있습니다."));
+        }
+        return requestSpeech(text, voiceType);
+    }
+
+    /**
+     * TTS API를 논블로킹으로 호출합니다.
+     */
+    private Mono<byte[]> requestSpeech(String text, String voiceType) {
         // Groq TTS 모델 및 음성 선택
         String model = "playai-tts";
         String voice = mapVoiceType(voiceType);
@@ -51,31 +74,20 @@ public class OpenAITtsClient implements TtsClient {
         requestBody.put("voice", voice);
         requestBody.put("response_format", "mp3");
 
-        try {
-            byte[] audioBytes = webClient.post()
-                    .uri(TTS_ENDPOINT)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(byte[].class)
-                    .block();
-
-            if (audioBytes == null || audioBytes.length == 0) {
-                throw new TtsException("TTS API 응답이 비어있습니다.");
-            }
-
-            return audioBytes;
-        } catch (WebClientResponseException e) {
-            throw new TtsException(
-                    String.format("TTS API 호출 실패: %s - %s", e.getStatusCode(), e.getResponseBodyAsString()),
-                    e
-            );
-        } catch (Exception e) {
-            if (e instanceof TtsException) {
-                throw e;
-            }
-            throw new TtsException("TTS API 호출 중 예상치 못한 오류가 발생했습니다.", e);
-        }
+        return webClient.post()
+                .uri(TTS_ENDPOINT)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .filter(audioBytes -> audioBytes.length > 0)
+                .switchIfEmpty(Mono.error(() -> new TtsException("TTS API 응답이 비어있습니다.")))
+                .onErrorMap(WebClientResponseException.class, e -> new TtsException(
+                        String.format("TTS API 호출 실패: %s - %s", e.getStatusCode(), e.getResponseBodyAsString()),
+                        e
+                ))
+                .onErrorMap(e -> !(e instanceof TtsException),
+                        e -> new TtsException("TTS API 호출 중 예상치 못한 오류가 발생했습니다.", e));
     }
 
     /**
@@ -1,6 +1,9 @@
 package com.aigf.gf_plz.global.tts;
 
+import com.aigf.gf_plz.global.cancellation.CancellationToken;
 import com.aigf.gf_plz.global.tts.exception.TtsException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * TTS(Text-to-Speech) 클라이언트 인터페이스
@@ -17,6 +20,47 @@ public interface TtsClient {
      * @throws TtsException TTS API 호출 실패 시
      */
     byte[] synthesize(String text, String voiceType);
+
+    /**
+     * 취소 가능한 TTS 변환을 수행합니다.
+     * 기본 구현은 호출 전에만 취소 여부를 확인하며, 구현체가 진행 중인 요청 자체를 취소할 수 있으면 재정의합니다.
+     *
+     * @param text 변환할 텍스트
+     * @param voiceType 목소리 타입 (캐릭터별)
+     * @param cancellationToken 취소 토큰
+     * @return 음성 파일의 바이트 배열 (MP3 형식)
+     * @throws TtsException TTS API 호출 실패 시
+     * @throws java.util.concurrent.CancellationException 토큰이 취소된 경우
+     */
+    default byte[] synthesize(String text, String voiceType, CancellationToken cancellationToken) {
+        cancellationToken.throwIfCancelled();
+        return synthesize(text, voiceType);
+    }
+
+    /**
+     * 텍스트를 논블로킹으로 음성 파일로 변환합니다.
+     * 기본 구현은 블로킹 호출을 boundedElastic 스케줄러로 넘기며, 구현체가 비동기 API를 제공하면 재정의합니다.
+     *
+     * @param text 변환할 텍스트
+     * @param voiceType 목소리 타입 (캐릭터별)
+     * @return 음성 파일의 바이트 배열 (MP3 형식)
+     * @throws TtsException TTS API 호출 실패 시 (Mono 에러로 전달)
+     */
+    default Mono<byte[]> synthesizeAsync(String text, String voiceType) {
+        return Mono.fromCallable(() -> synthesize(text, voiceType))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 캐릭터의 목소리 타입이 실제로 어떤 목소리 설정으로 합성되는지 반환합니다.
+     * 기본 구현은 목소리 타입을 그대로 목소리 이름으로 사용합니다.
+     *
+     * @param voiceType 목소리 타입 (캐릭터별)
+     * @return 목소리 이름, 음높이, 말하기 속도
+     */
+    default TtsVoiceProfile voiceProfile(String voiceType) {
+        return new TtsVoiceProfile(voiceType, 0.0, 1.0);
+    }
 }
 
 
@@ -0,0 +1,16 @@
+package com.aigf.gf_plz.global.tts;
+
+/**
+ * TTS 목소리 설정
+ * 같은 텍스트라도 목소리, 음높이, 말하기 속도가 다르면 다른 음성이 생성되므로 캐시 키에 함께 사용합니다.
+ *
+ * @param voiceName TTS 서비스의 목소리 이름 (예: ko-KR-Wavenet-A)
+ * @param pitch 음높이
+ * @param speakingRate 말하기 속도
+ */
+public record TtsVoiceProfile(
+        String voiceName,
+        double pitch,
+        double speakingRate
+) {
+}
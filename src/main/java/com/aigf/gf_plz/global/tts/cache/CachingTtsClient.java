@@ -0,0 +1,218 @@
+package com.aigf.gf_plz.global.tts.cache;
+
+import com.aigf.gf_plz.global.cancellation.CancellationToken;
+import com.aigf.gf_plz.global.tts.GoogleCloudTtsClient;
+import com.aigf.gf_plz.global.tts.TtsClient;
+import com.aigf.gf_plz.global.tts.TtsVoiceProfile;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * TTS 캐시 데코레이터
+ * 같은 텍스트와 같은 목소리 설정(목소리 이름, 음높이, 말하기 속도)이면 같은 음성이 나오므로,
+ * SHA-256(text, voiceName, pitch, speakingRate)를 키로 합성 결과를 재사용합니다.
+ * 1차는 크기 제한 힙 LRU, 2차는 재시작 후에도 유지되는 메모리 맵 디스크 세그먼트입니다.
+ * byte[]는 변경 가능하므로 힙 캐시에는 복사본을 넣고 꺼낼 때도 복사본을 반환합니다 (호출자가 바꿔도 캐시는 그대로).
+ *
+ * 메트릭: tts.cache.requests{result=memory_hit|disk_hit|miss}, tts.cache.memory.bytes, tts.cache.disk.entries
+ */
+@Service
+@Primary
+public class CachingTtsClient implements TtsClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingTtsClient.class);
+
+    private final GoogleCloudTtsClient delegate;
+    private final boolean enabled;
+    private final Cache<String, byte[]> memoryCache;
+    private final TtsAudioDiskStore diskStore;
+
+    private final Counter memoryHits;
+    private final Counter diskHits;
+    private final Counter misses;
+
+    public CachingTtsClient(
+            GoogleCloudTtsClient delegate,
+            MeterRegistry meterRegistry,
+            @Value("${tts.cache.enabled:true}") boolean enabled,
+            @Value("${tts.cache.memory-max-bytes:67108864}") long memoryMaxBytes,
+            @Value("${tts.cache.disk.path:./data/tts-cache}") String diskPath,
+            @Value("${tts.cache.disk.segment-bytes:67108864}") int segmentBytes,
+            @Value("${tts.cache.disk.max-segments:8}") int maxSegments
+    ) {
+        this.delegate = delegate;
+        this.enabled = enabled;
+        this.memoryCache = Caffeine.newBuilder()
+                .maximumWeight(memoryMaxBytes)
+                .weigher((String key, byte[] audio) -> audio.length)
+                .build();
+        this.diskStore = enabled ? openDiskStore(diskPath, segmentBytes, maxSegments) : null;
+
+        this.memoryHits = requestCounter(meterRegistry, "memory_hit");
+        this.diskHits = requestCounter(meterRegistry, "disk_hit");
+        this.misses = requestCounter(meterRegistry, "miss");
+        Gauge.builder("tts.cache.memory.bytes", memoryCache,
+                        cache -> cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .description("힙 캐시에 보관 중인 음성 크기")
+                .register(meterRegistry);
+        if (diskStore != null) {
+            Gauge.builder("tts.cache.disk.entries", diskStore, TtsAudioDiskStore::size)
+                    .description("디스크 캐시에 보관 중인 음성 수")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public byte[] synthesize(String text, String voiceType) {
+        return getOrSynthesize(text, voiceType, () -> delegate.synthesize(text, voiceType));
+    }
+
+    @Override
+    public byte[] synthesize(String text, String voiceType, CancellationToken cancellationToken) {
+        return getOrSynthesize(text, voiceType, () -> delegate.synthesize(text, voiceType, cancellationToken));
+    }
+
+    @Override
+    public Mono<byte[]> synthesizeAsync(String text, String voiceType) {
+        if (!enabled || text == null || text.isBlank()) {
+            return delegate.synthesizeAsync(text, voiceType);
+        }
+
+        byte[] key = cacheKey(text, delegate.voiceProfile(voiceType));
+        byte[] cached = lookup(key);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        misses.increment();
+        return delegate.synthesizeAsync(text, voiceType)
+                .doOnNext(audio -> store(key, audio));
+    }
+
+    @Override
+    public TtsVoiceProfile voiceProfile(String voiceType) {
+        return delegate.voiceProfile(voiceType);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (diskStore == null) {
+            return;
+        }
+        try {
+            diskStore.close();
+        } catch (IOException e) {
+            logger.warn("TTS 디스크 캐시 닫기 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 힙 캐시 → 디스크 캐시 → TTS API 순서로 음성을 찾고, API 결과는 양쪽 캐시에 저장합니다.
+     */
+    private byte[] getOrSynthesize(String text, String voiceType, Supplier<byte[]> synthesizer) {
+        if (!enabled || text == null || text.isBlank()) {
+            return synthesizer.get();
+        }
+
+        byte[] key = cacheKey(text, delegate.voiceProfile(voiceType));
+        byte[] audio = lookup(key);
+        if (audio != null) {
+            return audio;
+        }
+
+        misses.increment();
+        audio = synthesizer.get();
+        store(key, audio);
+        return audio;
+    }
+
+    /**
+     * 힙 캐시, 디스크 캐시 순서로 조회합니다. 디스크에서 찾으면 힙 캐시에 올립니다.
+     *
+     * @return 호출자 전용 복사본 (없으면 null)
+     */
+    private byte[] lookup(byte[] key) {
+        String hexKey = HexFormat.of().formatHex(key);
+
+        byte[] audio = memoryCache.getIfPresent(hexKey);
+        if (audio != null) {
+            memoryHits.increment();
+            return audio.clone();
+        }
+
+        audio = diskStore != null ? diskStore.get(key) : null;
+        if (audio != null) {
+            diskHits.increment();
+            memoryCache.put(hexKey, audio.clone());
+        }
+        return audio;
+    }
+
+    /**
+     * 합성 결과를 힙 캐시와 디스크 캐시에 저장합니다.
+     * 원본은 호출자에게 반환되므로 힙 캐시에는 복사본을 넣습니다.
+     */
+    private void store(byte[] key, byte[] audio) {
+        memoryCache.put(HexFormat.of().formatHex(key), audio.clone());
+        if (diskStore != null) {
+            try {
+                diskStore.put(key, audio);
+            } catch (IOException e) {
+                // 디스크 저장 실패는 응답에 영향을 주지 않음 (힙 캐시로만 동작)
+                logger.warn("TTS 디스크 캐시 저장 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 텍스트와 목소리 설정으로 SHA-256 캐시 키를 만듭니다.
+     */
+    static byte[] cacheKey(String text, TtsVoiceProfile profile) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String source = String.join("\u0000",
+                    text,
+                    String.valueOf(profile.voiceName()),
+                    Double.toString(profile.pitch()),
+                    Double.toString(profile.speakingRate()));
+            return digest.digest(source.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private TtsAudioDiskStore openDiskStore(String diskPath, int segmentBytes, int maxSegments) {
+        try {
+            return new TtsAudioDiskStore(Path.of(diskPath), segmentBytes, maxSegments);
+        } catch (IOException e) {
+            // 디스크 캐시를 열 수 없으면 힙 캐시로만 동작
+            logger.warn("TTS 디스크 캐시를 열 수 없어 메모리 캐시만 사용합니다 - 경로: {}, 오류: {}", diskPath, e.getMessage());
+            return null;
+        }
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("tts.cache.requests")
+                .description("TTS 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
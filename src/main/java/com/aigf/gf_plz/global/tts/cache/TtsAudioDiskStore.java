@@ -0,0 +1,205 @@
+package com.aigf.gf_plz.global.tts.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * TTS 음성 디스크 저장소 (메모리 맵 세그먼트)
+ * 고정 크기 세그먼트 파일을 메모리 맵으로 열어 음성을 이어 붙여 저장하고,
+ * 재시작 시 세그먼트를 스캔해 인덱스를 복구합니다.
+ * 세그먼트 수가 최대치를 넘으면 가장 오래된 세그먼트부터 통째로 삭제합니다 (FIFO).
+ *
+ * 레코드 형식: [MAGIC 4바이트][키 32바이트][길이 4바이트][음성 데이터]
+ * 데이터와 키를 먼저 쓰고 MAGIC을 마지막에 써서, 중간에 죽어도 깨진 레코드는 스캔에서 제외됩니다.
+ */
+class TtsAudioDiskStore implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TtsAudioDiskStore.class);
+
+    private static final int MAGIC = 0x54545331; // "TTS1"
+    static final int KEY_BYTES = 32;
+    private static final int HEADER_BYTES = 4 + KEY_BYTES + 4;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final int maxSegments;
+
+    private final Map<String, Location> index = new HashMap<>();
+    private final Deque<Segment> segments = new ArrayDeque<>();
+
+    TtsAudioDiskStore(Path directory, int segmentBytes, int maxSegments) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = Math.max(1, maxSegments);
+
+        Files.createDirectories(directory);
+        for (Path path : listSegmentFiles()) {
+            Segment segment = openSegment(path, parseSegmentId(path));
+            segments.addLast(segment);
+            scan(segment);
+        }
+        if (segments.isEmpty()) {
+            segments.addLast(createSegment(0));
+        }
+        evictOldSegments();
+        logger.info("TTS 디스크 캐시 로드 완료 - 경로: {}, 세그먼트: {}, 항목: {}",
+                directory.toAbsolutePath(), segments.size(), index.size());
+    }
+
+    /**
+     * 키에 해당하는 음성을 반환합니다. 없으면 null을 반환합니다.
+     */
+    synchronized byte[] get(byte[] key) {
+        Location location = index.get(HexFormat.of().formatHex(key));
+        if (location == null) {
+            return null;
+        }
+        byte[] audio = new byte[location.length()];
+        location.segment().buffer.get(location.offset() + HEADER_BYTES, audio);
+        return audio;
+    }
+
+    /**
+     * 음성을 저장합니다. 세그먼트 하나에 들어가지 않는 크기는 저장하지 않습니다.
+     */
+    synchronized void put(byte[] key, byte[] audio) throws IOException {
+        String hexKey = HexFormat.of().formatHex(key);
+        int recordBytes = HEADER_BYTES + audio.length;
+        if (index.containsKey(hexKey) || recordBytes > segmentBytes) {
+            return;
+        }
+
+        Segment segment = segments.peekLast();
+        if (segment.writePosition + recordBytes > segmentBytes) {
+            segment.buffer.force();
+            segment = createSegment(segment.id + 1);
+            segments.addLast(segment);
+            evictOldSegments();
+        }
+
+        int offset = segment.writePosition;
+        MappedByteBuffer buffer = segment.buffer;
+        buffer.put(offset + HEADER_BYTES, audio);
+        buffer.put(offset + 4, key);
+        buffer.putInt(offset + 4 + KEY_BYTES, audio.length);
+        buffer.putInt(offset, MAGIC);
+        segment.writePosition += recordBytes;
+
+        index.put(hexKey, new Location(segment, offset, audio.length));
+    }
+
+    synchronized int size() {
+        return index.size();
+    }
+
+    synchronized long sizeInBytes() {
+        return segments.stream().mapToLong(segment -> segment.writePosition).sum();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        for (Segment segment : segments) {
+            segment.buffer.force();
+            segment.channel.close();
+        }
+        segments.clear();
+        index.clear();
+    }
+
+    /**
+     * 세그먼트를 처음부터 읽어 유효한 레코드를 인덱스에 등록하고 쓰기 위치를 복구합니다.
+     */
+    private void scan(Segment segment) {
+        MappedByteBuffer buffer = segment.buffer;
+        int position = 0;
+        while (position + HEADER_BYTES <= segmentBytes && buffer.getInt(position) == MAGIC) {
+            int length = buffer.getInt(position + 4 + KEY_BYTES);
+            if (length < 0 || position + HEADER_BYTES + length > segmentBytes) {
+                break;
+            }
+            byte[] key = new byte[KEY_BYTES];
+            buffer.get(position + 4, key);
+            index.put(HexFormat.of().formatHex(key), new Location(segment, position, length));
+            position += HEADER_BYTES + length;
+        }
+        segment.writePosition = position;
+    }
+
+    /**
+     * 세그먼트 수가 최대치를 넘으면 가장 오래된 세그먼트와 그 인덱스를 제거합니다.
+     */
+    private void evictOldSegments() throws IOException {
+        while (segments.size() > maxSegments) {
+            Segment oldest = segments.pollFirst();
+            index.values().removeIf(location -> location.segment() == oldest);
+            oldest.channel.close();
+            Files.deleteIfExists(oldest.path);
+            logger.debug("TTS 디스크 캐시 세그먼트 제거 - {}", oldest.path.getFileName());
+        }
+    }
+
+    private Segment createSegment(long id) throws IOException {
+        Path path = directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+        return openSegment(path, id);
+    }
+
+    private Segment openSegment(Path path, long id) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        return new Segment(id, path, channel, buffer);
+    }
+
+    private List<Path> listSegmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private long parseSegmentId(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private record Location(Segment segment, int offset, int length) {
+    }
+
+    private static final class Segment {
+
+        private final long id;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int writePosition;
+
+        private Segment(long id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+    }
+}
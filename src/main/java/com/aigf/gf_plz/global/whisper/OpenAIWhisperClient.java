@@ -1,13 +1,18 @@
 package com.aigf.gf_plz.global.whisper;
 
+import com.aigf.gf_plz.global.concurrency.UpstreamBusyException;
+import com.aigf.gf_plz.global.concurrency.UpstreamLimiter;
 import com.aigf.gf_plz.global.whisper.exception.WhisperException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -23,15 +28,17 @@ public class OpenAIWhisperClient implements WhisperClient {
 
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
+    private final UpstreamLimiter upstreamLimiter;
 
     @Value("${groq.api-key}")
     private String apiKey;
 
-    public OpenAIWhisperClient(WebClient.Builder builder, ObjectMapper objectMapper) {
+    public OpenAIWhisperClient(WebClient.Builder builder, ObjectMapper objectMapper, UpstreamLimiter upstreamLimiter) {
         this.webClient = builder
                 .baseUrl("https://api.groq.com/openai/v1")
                 .build();
         this.objectMapper = objectMapper;
+        this.upstreamLimiter = upstreamLimiter;
     }
 
     @Override
@@ -40,40 +47,45 @@ public class OpenAIWhisperClient implements WhisperClient {
             throw new WhisperException("음성 파일이 비어있습니다.");
         }
 
-        try {
-            // Multipart form data 생성
-            var bodyBuilder = org.springframework.web.reactive.function.BodyInserters
-                    .fromMultipartData("file", audioFile.getResource())
-                    .with("model", MODEL)
-                    .with("language", "ko"); // 한국어 지정
-
-            String response = webClient.post()
-                    .uri(WHISPER_ENDPOINT)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
-                    .contentType(MediaType.MULTIPART_FORM_DATA)
-                    .body(bodyBuilder)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            if (response == null || response.isBlank()) {
-                throw new WhisperException("Whisper API 응답이 비어있습니다.");
-            }
+        return requestTranscription(audioFile.getResource());
+    }
 
-            // JSON 응답에서 text 필드 추출 (간단한 파싱)
-            // 실제로는 JSON 파서를 사용하는 것이 좋습니다
-            String transcript = extractTextFromResponse(response);
+    @Override
+    public Mono<String> transcribeAsync(byte[] audioData, String filename) {
+        if (audioData == null || audioData.length == 0) {
+            return Mono.error(new WhisperException("음성 파일이 비어있습니다."));
+        }
 
-            if (transcript == null || transcript.isBlank()) {
-                throw new WhisperException("Whisper API 응답에서 텍스트를 추출할 수 없습니다.");
+        // 리액티브 호출도 Whisper 동시 호출 한도 안에서만 수행 (권한은 스레드를 붙잡지 않고 얻음)
+        return Mono.usingWhen(
+                        upstreamLimiter.acquireAsync(UpstreamLimiter.Upstream.WHISPER),
+                        permit -> requestTranscriptionAsync(toNamedResource(audioData, filename)),
+                        permit -> Mono.fromRunnable(permit::close))
+                .onErrorMap(UpstreamBusyException.class, e -> new WhisperException(
+                        "Whisper API 동시 요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요.", e));
+    }
+
+    /**
+     * multipart 파트의 파일 이름으로 포맷을 판별하므로 파일 이름을 지정한 리소스를 만듭니다.
+     */
+    private Resource toNamedResource(byte[] audioData, String filename) {
+        return new ByteArrayResource(audioData) {
+            @Override
+            public String getFilename() {
+                return filename;
             }
+        };
+    }
 
-            return transcript;
-        } catch (WebClientResponseException e) {
-            throw new WhisperException(
-                    String.format("Whisper API 호출 실패: %s - %s", e.getStatusCode(), e.getResponseBodyAsString()),
-                    e
-            );
+    /**
+     * Whisper API에 음성 파일을 보내고 변환된 텍스트를 반환합니다.
+     */
+    private String requestTranscription(Resource audioResource) {
+        // 블로킹 호출은 Whisper 동시 호출 한도 안에서만 수행
+        try (UpstreamLimiter.Permit permit = upstreamLimiter.acquire(UpstreamLimiter.Upstream.WHISPER)) {
+            return requestTranscriptionAsync(audioResource).block();
+        } catch (UpstreamBusyException e) {
+            throw new WhisperException("Whisper API 동시 요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요.", e);
         } catch (Exception e) {
             if (e instanceof WhisperException) {
                 throw e;
@@ -82,6 +94,41 @@ public class OpenAIWhisperClient implements WhisperClient {
         }
     }
 
+    /**
+     * Whisper API에 음성 파일을 논블로킹으로 보내고 변환된 텍스트를 반환합니다.
+     */
+    private Mono<String> requestTranscriptionAsync(Resource audioResource) {
+        // Multipart form data 생성
+        var bodyBuilder = org.springframework.web.reactive.function.BodyInserters
+                .fromMultipartData("file", audioResource)
+                .with("model", MODEL)
+                .with("language", "ko"); // 한국어 지정
+
+        return webClient.post()
+                .uri(WHISPER_ENDPOINT)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(bodyBuilder)
+                .retrieve()
+                .bodyToMono(String.class)
+                .filter(response -> !response.isBlank())
+                .switchIfEmpty(Mono.error(() -> new WhisperException("Whisper API 응답이 비어있습니다.")))
+                .map(response -> {
+                    // JSON 응답에서 text 필드 추출
+                    String transcript = extractTextFromResponse(response);
+                    if (transcript == null || transcript.isBlank()) {
+                        throw new WhisperException("Whisper API 응답에서 텍스트를 추출할 수 없습니다.");
+                    }
+                    return transcript;
+                })
+                .onErrorMap(WebClientResponseException.class, e -> new WhisperException(
+                        String.format("Whisper API 호출 실패: %s - %s", e.getStatusCode(), e.getResponseBodyAsString()),
+                        e
+                ))
+                .onErrorMap(e -> !(e instanceof WhisperException),
+                        e -> new WhisperException("Whisper API 호출 중 예상치 못한 오류가 발생했습니다.", e));
+    }
+
     /**
      * JSON 응답에서 text 필드를 추출합니다.
      */
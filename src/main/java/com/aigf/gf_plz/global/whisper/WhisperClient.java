@@ -2,6 +2,7 @@ package com.aigf.gf_plz.global.whisper;
 
 import com.aigf.gf_plz.global.whisper.exception.WhisperException;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
 
 /**
  * Whisper(STT) 클라이언트 인터페이스
@@ -17,6 +18,16 @@ public interface WhisperClient {
      * @throws WhisperException Whisper API 호출 실패 시
      */
     String transcribe(MultipartFile audioFile);
+
+    /**
+     * 음성 데이터를 논블로킹으로 텍스트로 변환합니다.
+     *
+     * @param audioData 음성 데이터
+     * @param filename 포맷 판별용 파일 이름 (예: utterance.webm)
+     * @return 변환된 텍스트 (transcript)
+     * @throws WhisperException Whisper API 호출 실패 시 (Mono 에러로 전달)
+     */
+    Mono<String> transcribeAsync(byte[] audioData, String filename);
 }
 
 
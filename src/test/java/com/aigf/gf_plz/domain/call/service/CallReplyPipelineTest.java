@@ -0,0 +1,87 @@
+package com.aigf.gf_plz.domain.call.service;
+
+import com.aigf.gf_plz.domain.character.entity.VoiceType;
+import com.aigf.gf_plz.domain.message.entity.MessageType;
+import com.aigf.gf_plz.domain.session.dto.ConversationTurnDto;
+import com.aigf.gf_plz.domain.session.service.ConversationTurnService;
+import com.aigf.gf_plz.global.cancellation.CancellationToken;
+import com.aigf.gf_plz.global.groq.GroqClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CallReplyPipelineTest {
+
+    private static final long SESSION_ID = 1L;
+
+    private final Scheduler dbScheduler = Schedulers.newSingle("test-db");
+    private final GroqClient groqClient = mock(GroqClient.class);
+    private final ConversationTurnService turnService = mock(ConversationTurnService.class);
+    private final CallReplyPipeline pipeline = new CallReplyPipeline(groqClient, null, turnService, dbScheduler, 1);
+
+    @AfterEach
+    void tearDown() {
+        dbScheduler.dispose();
+    }
+
+    @Test
+    @DisplayName("답변 스트리밍 중에 구독이 해제되어도 그때까지 생성된 답변은 저장되어야 한다")
+    void savesPartialReplyWhenDisposedMidStream() throws Exception {
+        // given
+        givenGroqTokens(Flux.just("안녕, ", "오늘은 ").concatWith(Flux.never()));
+        CountDownLatch received = new CountDownLatch(2);
+
+        // when
+        Disposable reply = pipeline.streamReply(turn(), "안녕", new CancellationToken())
+                .subscribe(token -> received.countDown());
+        assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+        reply.dispose();
+
+        // then
+        verify(turnService, timeout(5000)).saveAssistantReply(SESSION_ID, "안녕, 오늘은 ", MessageType.TRANSCRIPT);
+    }
+
+    @Test
+    @DisplayName("답변이 시작되기 전에 취소되면 저장하지 않아야 한다")
+    void skipsSaveWhenCancelledBeforeFirstToken() {
+        // given
+        givenGroqTokens(Flux.never());
+
+        // when
+        Disposable reply = pipeline.streamReply(turn(), "안녕", new CancellationToken()).subscribe();
+        reply.dispose();
+
+        // then
+        verify(turnService, after(200).never()).saveAssistantReply(anyLong(), anyString(), any(MessageType.class));
+    }
+
+    private void givenGroqTokens(Flux<String> tokens) {
+        when(groqClient.streamReply(eq("call"), anyString(), anyList(), anyString(), any(CancellationToken.class)))
+                .thenReturn(tokens);
+    }
+
+    private ConversationTurnDto turn() {
+        return new ConversationTurnDto(SESSION_ID, 1L, List.of(), "시스템 프롬프트", VoiceType.TYPE1);
+    }
+}
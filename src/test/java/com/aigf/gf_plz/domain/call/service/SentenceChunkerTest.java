@@ -0,0 +1,38 @@
+package com.aigf.gf_plz.domain.call.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SentenceChunkerTest {
+
+    @Test
+    @DisplayName("토큰이 여러 개로 쪼개져 와도 문장 경계에서만 잘라야 한다")
+    void chunksAtSentenceBoundaries() {
+        // given
+        Flux<String> tokens = Flux.just("안녕", "! 오늘", " 하루는", " 어땠어? ", "나는 ", "좋았어");
+
+        // when
+        List<String> sentences = SentenceChunker.chunk(tokens).collectList().block();
+
+        // then
+        assertThat(sentences).containsExactly("안녕!", "오늘 하루는 어땠어?", "나는 좋았어");
+    }
+
+    @Test
+    @DisplayName("말줄임표나 소수점은 문장 중간에서 자르지 않아야 한다")
+    void keepsEllipsisAndDecimalsTogether() {
+        // given
+        Flux<String> tokens = Flux.just("음.", "..", " 3.", "5점", "이야.");
+
+        // when
+        List<String> sentences = SentenceChunker.chunk(tokens).collectList().block();
+
+        // then
+        assertThat(sentences).containsExactly("음...", "3.5점이야.");
+    }
+}
@@ -0,0 +1,85 @@
+package com.aigf.gf_plz.domain.character.cache;
+
+import com.aigf.gf_plz.domain.character.entity.AttachmentType;
+import com.aigf.gf_plz.domain.character.entity.Character;
+import com.aigf.gf_plz.domain.character.entity.Gender;
+import com.aigf.gf_plz.domain.character.entity.Mbti;
+import com.aigf.gf_plz.domain.character.entity.VoiceType;
+import com.aigf.gf_plz.domain.character.repository.CharacterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CharacterPromptCacheTest {
+
+    private static final Long CHARACTER_ID = 1L;
+    private static final Character.Persona PERSONA = new Character.Persona(
+            Mbti.ENFJ, 80, AttachmentType.안정형, Gender.FEMALE, "지은", "설명");
+
+    private final CharacterRepository characterRepository = mock(CharacterRepository.class);
+    private final Character character = mock(Character.class);
+    private final CharacterPromptCache cache = new CharacterPromptCache(characterRepository, 100, 60);
+
+    @BeforeEach
+    void setUp() {
+        when(characterRepository.findById(CHARACTER_ID)).thenReturn(Optional.of(character));
+        when(character.getCharacterId()).thenReturn(CHARACTER_ID);
+        when(character.getName()).thenReturn("지은");
+        when(character.getVoiceType()).thenReturn(VoiceType.TYPE1);
+        when(character.persona()).thenReturn(PERSONA);
+        when(character.generateFullSystemPrompt()).thenReturn("지은 프롬프트", "지수 프롬프트");
+    }
+
+    @Test
+    @DisplayName("페르소나가 그대로면 캐릭터 캐시가 비워져도 프롬프트를 다시 만들지 않아야 한다")
+    void reusesPromptWhenPersonaUnchanged() {
+        // given
+        cache.get(CHARACTER_ID);
+
+        // when
+        cache.evict(CHARACTER_ID);
+        String systemPrompt = cache.get(CHARACTER_ID).systemPrompt();
+
+        // then
+        assertThat(systemPrompt).isEqualTo("지은 프롬프트");
+        verify(character, times(1)).generateFullSystemPrompt();
+    }
+
+    @Test
+    @DisplayName("페르소나 필드가 하나라도 바뀌면 프롬프트를 다시 만들어야 한다")
+    void rerendersPromptWhenPersonaChanged() {
+        // given
+        cache.get(CHARACTER_ID);
+        when(character.persona()).thenReturn(new Character.Persona(
+                Mbti.ENFJ, 80, AttachmentType.안정형, Gender.FEMALE, "지수", "설명"));
+
+        // when
+        cache.evict(CHARACTER_ID);
+        String systemPrompt = cache.get(CHARACTER_ID).systemPrompt();
+
+        // then
+        assertThat(systemPrompt).isEqualTo("지수 프롬프트");
+    }
+
+    @Test
+    @DisplayName("캐릭터가 삭제되면 프롬프트 캐시도 비워야 한다")
+    void removeClearsPrompt() {
+        // given
+        cache.get(CHARACTER_ID);
+
+        // when
+        cache.remove(CHARACTER_ID);
+        cache.get(CHARACTER_ID);
+
+        // then
+        verify(character, times(2)).generateFullSystemPrompt();
+    }
+}
@@ -0,0 +1,97 @@
+package com.aigf.gf_plz.domain.chat.service;
+
+import com.aigf.gf_plz.domain.character.entity.VoiceType;
+import com.aigf.gf_plz.domain.chat.dto.ChatRequestDto;
+import com.aigf.gf_plz.domain.chat.dto.ChatStreamEventDto;
+import com.aigf.gf_plz.domain.message.entity.MessageType;
+import com.aigf.gf_plz.domain.session.dto.ConversationTurnDto;
+import com.aigf.gf_plz.domain.session.entity.SessionType;
+import com.aigf.gf_plz.domain.session.service.ConversationTurnService;
+import com.aigf.gf_plz.global.groq.GroqClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatServiceImplTest {
+
+    private static final long SESSION_ID = 1L;
+    private static final long CHARACTER_ID = 1L;
+
+    private final Scheduler dbScheduler = Schedulers.newSingle("test-db");
+    private final GroqClient groqClient = mock(GroqClient.class);
+    private final ConversationTurnService turnService = mock(ConversationTurnService.class);
+    private final ChatServiceImpl chatService = new ChatServiceImpl(groqClient, turnService, dbScheduler);
+
+    @BeforeEach
+    void setUp() {
+        when(turnService.prepareTurn(any(), eq(CHARACTER_ID), eq(SessionType.CHAT), anyString(), eq(MessageType.TEXT)))
+                .thenReturn(new ConversationTurnDto(SESSION_ID, CHARACTER_ID, List.of(), "시스템 프롬프트", VoiceType.TYPE1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dbScheduler.dispose();
+    }
+
+    @Test
+    @DisplayName("스트리밍 중에 클라이언트가 끊어도 그때까지 받은 답변은 저장되어야 한다")
+    void savesPartialReplyWhenDisposedMidStream() throws Exception {
+        // given
+        when(groqClient.streamReply(eq("chat"), anyString(), anyList(), anyString()))
+                .thenReturn(Flux.just("안녕, ", "오늘은 ").concatWith(Flux.never()));
+        CountDownLatch received = new CountDownLatch(2);
+
+        // when
+        Disposable stream = chatService.chatStream(request())
+                .subscribe(event -> received.countDown());
+        assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+        stream.dispose();
+
+        // then
+        verify(turnService, timeout(5000)).saveAssistantReply(SESSION_ID, "안녕, 오늘은 ", MessageType.TEXT);
+    }
+
+    @Test
+    @DisplayName("스트림이 정상 완료되면 답변을 한 번만 저장하고 마지막에 done 이벤트를 보내야 한다")
+    void savesOnceAndEmitsDoneOnCompletion() {
+        // given
+        when(groqClient.streamReply(eq("chat"), anyString(), anyList(), anyString()))
+                .thenReturn(Flux.just("안녕, ", "반가워"));
+
+        // when
+        List<ChatStreamEventDto> events = chatService.chatStream(request())
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(events).hasSize(3);
+        assertThat(events.get(2)).isEqualTo(ChatStreamEventDto.done(SESSION_ID, "안녕, 반가워"));
+        verify(turnService, times(1)).saveAssistantReply(SESSION_ID, "안녕, 반가워", MessageType.TEXT);
+    }
+
+    private ChatRequestDto request() {
+        return new ChatRequestDto(CHARACTER_ID, Optional.of(SESSION_ID), "안녕");
+    }
+}
@@ -0,0 +1,122 @@
+package com.aigf.gf_plz.domain.memory.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HnswIndexTest {
+
+    private static final int DIMENSION = 32;
+
+    @Test
+    @DisplayName("근사 검색 결과가 전수 비교 결과와 대부분 일치해야 한다")
+    void searchMatchesBruteForce() {
+        // given
+        Random random = new Random(7);
+        HnswIndex index = new HnswIndex(DIMENSION, 8, 64, 1L);
+        List<float[]> vectors = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            float[] vector = randomUnitVector(random);
+            vectors.add(vector);
+            index.add(i, "메시지 " + i, vector);
+        }
+
+        // when
+        int hits = 0;
+        int queries = 50;
+        for (int q = 0; q < queries; q++) {
+            float[] query = randomUnitVector(random);
+            List<Long> expected = IntStream.range(0, vectors.size())
+                    .boxed()
+                    .sorted(Comparator.comparingDouble((Integer i) -> dot(query, vectors.get(i))).reversed())
+                    .limit(5)
+                    .map(Integer::longValue)
+                    .toList();
+            List<Long> actual = index.search(query, 5, 50).stream().map(HnswIndex.SearchResult::id).toList();
+            hits += (int) actual.stream().filter(expected::contains).count();
+        }
+
+        // then
+        assertThat(index.size()).isEqualTo(1000);
+        assertThat(hits / (double) (queries * 5)).isGreaterThan(0.9);
+    }
+
+    @Test
+    @DisplayName("스냅샷으로 저장한 인덱스를 다시 읽으면 같은 결과를 반환해야 한다")
+    void snapshotRoundTrip() throws IOException {
+        // given
+        Random random = new Random(11);
+        HnswIndex index = new HnswIndex(DIMENSION, 8, 64, 1L);
+        for (int i = 0; i < 200; i++) {
+            index.add(i, "메시지 " + i, randomUnitVector(random));
+        }
+        float[] query = randomUnitVector(random);
+
+        // when
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        HnswIndex restored = HnswIndex.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), 1L);
+
+        // then
+        assertThat(restored.size()).isEqualTo(200);
+        assertThat(restored.search(query, 5, 50)).isEqualTo(index.search(query, 5, 50));
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후에 추가한 벡터는 로그에서 다시 반영되어야 한다")
+    void storeReplaysLogAfterSnapshot(@TempDir Path directory) {
+        // given
+        Random random = new Random(13);
+        MemoryIndexStore store = new MemoryIndexStore(directory, DIMENSION, 8, 64);
+        store.add(1L, 100L, "사용자: 스냅샷 전", randomUnitVector(random));
+        store.snapshot();
+        float[] afterSnapshot = randomUnitVector(random);
+        store.add(1L, 101L, "사용자: 스냅샷 후", afterSnapshot);
+
+        // when
+        MemoryIndexStore reopened = new MemoryIndexStore(directory, DIMENSION, 8, 64);
+        HnswIndex index = reopened.get(1L);
+
+        // then
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search(afterSnapshot, 1, 10))
+                .extracting(HnswIndex.SearchResult::text)
+                .containsExactly("사용자: 스냅샷 후");
+    }
+
+    private static float[] randomUnitVector(Random random) {
+        float[] vector = new float[DIMENSION];
+        double sum = 0;
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+            sum += vector[i] * vector[i];
+        }
+        float norm = (float) Math.sqrt(sum);
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] /= norm;
+        }
+        return vector;
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
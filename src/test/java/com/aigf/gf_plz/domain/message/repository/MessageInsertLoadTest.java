@@ -0,0 +1,144 @@
+package com.aigf.gf_plz.domain.message.repository;
+
+import com.aigf.gf_plz.domain.character.entity.AttachmentType;
+import com.aigf.gf_plz.domain.character.entity.Character;
+import com.aigf.gf_plz.domain.character.entity.Gender;
+import com.aigf.gf_plz.domain.character.entity.Mbti;
+import com.aigf.gf_plz.domain.character.entity.VoiceType;
+import com.aigf.gf_plz.domain.message.entity.Message;
+import com.aigf.gf_plz.domain.message.entity.MessageType;
+import com.aigf.gf_plz.domain.message.entity.SenderRole;
+import com.aigf.gf_plz.domain.session.entity.Session;
+import com.aigf.gf_plz.domain.session.entity.SessionType;
+import com.aigf.gf_plz.global.persistence.IdSequenceAligner;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메시지 저장 처리량 부하 테스트
+ * 대량 가져오기나 요약 체크포인트처럼 메시지를 한 트랜잭션에서 많이 저장하는 경우를 흉내 내고,
+ * 같은 데이터를 한 건씩 INSERT할 때(예전 IDENTITY와 같은 왕복 수)와 JDBC 배치로 묶을 때의 처리량을 비교합니다.
+ * ID는 풀링 시퀀스로 할당 크기만큼 미리 받아 두므로 시퀀스 조회도 할당 크기마다 한 번이어야 합니다.
+ */
+@Tag("load")
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:message-insert-load;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;NON_KEYWORDS=USER,VALUE",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.aigf.gf_plz.domain.message.repository.MessageInsertLoadTest$SequenceCallCounter"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MessageInsertLoadTest {
+
+    private static final int MESSAGES = 20_000;
+    private static final int FLUSH_EVERY = 1_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("메시지를 배치로 저장하면 시퀀스 조회가 할당 크기마다 한 번이어야 한다 (처리량은 한 건씩 저장할 때와 비교해 출력)")
+    void batchedInsertsUsePooledIds() {
+        // given
+        Session session = persistSession();
+        insertMessages(session, BATCH_SIZE, FLUSH_EVERY); // 워밍업
+        insertMessages(session, 1, FLUSH_EVERY);
+
+        // when
+        InsertResult rowByRow = insertMessages(session, 1, MESSAGES);
+        InsertResult batched = insertMessages(session, BATCH_SIZE, MESSAGES);
+
+        // then
+        System.out.printf("[row-by-row] %d건 %dms (%.0f건/초), 시퀀스 조회 %d회%n",
+                MESSAGES, rowByRow.millis(), rowByRow.perSecond(), rowByRow.sequenceCalls());
+        System.out.printf("[batch=%d] %d건 %dms (%.0f건/초), 시퀀스 조회 %d회%n",
+                BATCH_SIZE, MESSAGES, batched.millis(), batched.perSecond(), batched.sequenceCalls());
+        assertThat(batched.sequenceCalls()).isLessThanOrEqualTo(MESSAGES / IdSequenceAligner.ALLOCATION_SIZE + 1);
+        assertThat(countMessages(session)).isEqualTo(2L * MESSAGES + FLUSH_EVERY * 2L);
+    }
+
+    private InsertResult insertMessages(Session session, int jdbcBatchSize, int count) {
+        entityManager.unwrap(org.hibernate.Session.class).setJdbcBatchSize(jdbcBatchSize);
+        Session reference = entityManager.getReference(Session.class, session.getSessionId());
+        SequenceCallCounter.CALLS.set(0);
+
+        long start = System.nanoTime();
+        for (int i = 1; i <= count; i++) {
+            entityManager.persist(Message.builder()
+                    .session(reference)
+                    .senderRole(i % 2 == 0 ? SenderRole.ASSISTANT : SenderRole.USER)
+                    .messageType(MessageType.TEXT)
+                    .textContent("가져온 메시지 " + i)
+                    .tokenCount(8)
+                    .build());
+            if (i % FLUSH_EVERY == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                reference = entityManager.getReference(Session.class, session.getSessionId());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+        return new InsertResult(millis, count * 1000.0 / millis, SequenceCallCounter.CALLS.get());
+    }
+
+    private Session persistSession() {
+        Character character = Character.builder()
+                .mbti(Mbti.ENFJ)
+                .attachment(AttachmentType.안정형)
+                .teto(50)
+                .gender(Gender.FEMALE)
+                .name("지은")
+                .voiceType(VoiceType.TYPE1)
+                .build();
+        entityManager.persist(character);
+        Session session = Session.builder()
+                .character(character)
+                .sessionType(SessionType.CHAT)
+                .build();
+        entityManager.persist(session);
+        entityManager.flush();
+        return session;
+    }
+
+    private long countMessages(Session session) {
+        return entityManager.createQuery(
+                        "SELECT COUNT(m) FROM Message m WHERE m.session.sessionId = :sessionId", Long.class)
+                .setParameter("sessionId", session.getSessionId())
+                .getSingleResult();
+    }
+
+    private record InsertResult(long millis, double perSecond, int sequenceCalls) {
+    }
+
+    /**
+     * 메시지 ID 시퀀스 조회 SQL 수를 셉니다.
+     */
+    public static class SequenceCallCounter implements StatementInspector {
+
+        static final AtomicInteger CALLS = new AtomicInteger();
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.toLowerCase().contains("message_seq")) {
+                CALLS.incrementAndGet();
+            }
+            return sql;
+        }
+    }
+}
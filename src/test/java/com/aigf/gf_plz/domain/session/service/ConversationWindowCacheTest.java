@@ -0,0 +1,70 @@
+package com.aigf.gf_plz.domain.session.service;
+
+import com.aigf.gf_plz.global.groq.GroqMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConversationWindowCacheTest {
+
+    @Test
+    @DisplayName("캐시 미스일 때만 loader를 호출하고 이후에는 메모리에서 반환해야 한다")
+    void loadsOnlyOnMiss() {
+        // given
+        ConversationWindowCache cache = new ConversationWindowCache(3, 100, 30);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        cache.getOrLoad(1L, id -> {
+            loadCount.incrementAndGet();
+            return List.of(new GroqMessage("user", "안녕"));
+        });
+        List<GroqMessage> second = cache.getOrLoad(1L, id -> {
+            loadCount.incrementAndGet();
+            return List.of();
+        });
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(second).containsExactly(new GroqMessage("user", "안녕"));
+    }
+
+    @Test
+    @DisplayName("윈도우가 가득 차면 가장 오래된 메시지부터 밀려나야 한다")
+    void keepsOnlyLastNMessages() {
+        // given
+        ConversationWindowCache cache = new ConversationWindowCache(3, 100, 30);
+        cache.getOrLoad(1L, id -> List.of(
+                new GroqMessage("user", "1"),
+                new GroqMessage("assistant", "2")
+        ));
+
+        // when
+        cache.append(1L, new GroqMessage("user", "3"));
+        cache.append(1L, new GroqMessage("assistant", "4"));
+        cache.append(1L, new GroqMessage("user", "5"));
+
+        // then
+        assertThat(cache.getOrLoad(1L, id -> List.of()))
+                .extracting(GroqMessage::content)
+                .containsExactly("3", "4", "5");
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 세션에 append하면 무시되고 다음 조회 때 DB에서 다시 채워야 한다")
+    void appendIgnoredWhenNotCached() {
+        // given
+        ConversationWindowCache cache = new ConversationWindowCache(3, 100, 30);
+
+        // when
+        cache.append(2L, new GroqMessage("user", "무시됨"));
+        List<GroqMessage> history = cache.getOrLoad(2L, id -> List.of(new GroqMessage("user", "DB")));
+
+        // then
+        assertThat(history).extracting(GroqMessage::content).containsExactly("DB");
+    }
+}
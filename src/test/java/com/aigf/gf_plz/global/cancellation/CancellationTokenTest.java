@@ -0,0 +1,65 @@
+package com.aigf.gf_plz.global.cancellation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CancellationTokenTest {
+
+    @Test
+    @DisplayName("취소하면 콜백은 한 번만 실행되고, 이미 취소된 토큰에 등록한 콜백은 바로 실행되어야 한다")
+    void runsCallbacksOnce() {
+        // given
+        CancellationToken token = new CancellationToken();
+        AtomicInteger calls = new AtomicInteger();
+        token.onCancel(calls::incrementAndGet);
+
+        // when
+        token.cancel();
+        token.cancel();
+        token.onCancel(calls::incrementAndGet);
+
+        // then
+        assertThat(token.isCancelled()).isTrue();
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("취소되면 그때까지 받은 값만 방출하고 스트림을 완료해야 한다")
+    void completesStreamOnCancel() {
+        // given
+        CancellationToken token = new CancellationToken();
+        Sinks.Many<String> upstream = Sinks.many().unicast().onBackpressureBuffer();
+        List<String> received = new ArrayList<>();
+        upstream.asFlux()
+                .takeUntilOther(token.whenCancelled())
+                .subscribe(received::add);
+
+        // when
+        upstream.tryEmitNext("안녕");
+        token.cancel();
+        upstream.tryEmitNext("무시됨");
+
+        // then
+        assertThat(received).containsExactly("안녕");
+    }
+
+    @Test
+    @DisplayName("none() 토큰은 취소되지 않아야 한다")
+    void noneIsNeverCancelled() {
+        // given
+        CancellationToken token = CancellationToken.none();
+
+        // when
+        token.cancel();
+
+        // then
+        assertThat(token.isCancelled()).isFalse();
+    }
+}
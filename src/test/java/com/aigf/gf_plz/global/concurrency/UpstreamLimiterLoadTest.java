@@ -0,0 +1,154 @@
+package com.aigf.gf_plz.global.concurrency;
+
+import com.aigf.gf_plz.global.cancellation.CancellationToken;
+import com.aigf.gf_plz.global.groq.GroqClient;
+import com.aigf.gf_plz.global.groq.GroqClientImpl;
+import com.aigf.gf_plz.global.groq.GroqPriority;
+import com.aigf.gf_plz.global.groq.ratelimit.GroqRateLimiter;
+import com.aigf.gf_plz.global.groq.resilience.GroqCircuitBreaker;
+import com.aigf.gf_plz.global.groq.resilience.ResilientGroqClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 동시 채팅 부하 테스트
+ * Groq 전송 계층(GroqClientImpl)만 고정 지연으로 흉내 내고, 실제 ResilientGroqClient를 거쳐
+ * 같은 수의 채팅 요청을 플랫폼 스레드 풀(Tomcat 기본 최대 200), 가상 스레드, 리액티브 호출로 각각 처리하여
+ * 동시에 진행 중인 채팅 수와 Groq 동시 호출 수를 비교합니다.
+ */
+@Tag("load")
+class UpstreamLimiterLoadTest {
+
+    private static final int CHATS = 1000;
+    private static final int TOMCAT_DEFAULT_MAX_THREADS = 200;
+    private static final int GROQ_LIMIT = 32;
+    private static final Duration GROQ_LATENCY = Duration.ofMillis(20);
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final AtomicInteger maxUpstreamCalls = new AtomicInteger();
+    private final GroqClient groqClient = groqClient();
+
+    @Test
+    @DisplayName("플랫폼 스레드에서는 동시에 진행 중인 채팅 수가 스레드 수에 묶여야 한다")
+    void platformThreadsCapInFlightChats() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(TOMCAT_DEFAULT_MAX_THREADS);
+
+        // when
+        int maxInFlightChats = runBlockingChats(executor);
+
+        // then
+        System.out.printf("[platform] 최대 동시 채팅: %d, 최대 Groq 동시 호출: %d%n",
+                maxInFlightChats, maxUpstreamCalls.get());
+        assertThat(maxInFlightChats).isEqualTo(TOMCAT_DEFAULT_MAX_THREADS);
+        assertThat(maxUpstreamCalls.get()).isLessThanOrEqualTo(GROQ_LIMIT);
+    }
+
+    @Test
+    @DisplayName("가상 스레드에서는 모든 채팅이 동시에 진행되고, Groq 동시 호출만 세마포어 한도로 제한되어야 한다")
+    void virtualThreadsAreLimitedOnlyByUpstream() throws Exception {
+        // given
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        // when
+        int maxInFlightChats = runBlockingChats(executor);
+
+        // then
+        System.out.printf("[virtual] 최대 동시 채팅: %d, 최대 Groq 동시 호출: %d%n",
+                maxInFlightChats, maxUpstreamCalls.get());
+        assertThat(maxInFlightChats).isGreaterThan(TOMCAT_DEFAULT_MAX_THREADS);
+        assertThat(maxUpstreamCalls.get()).isEqualTo(GROQ_LIMIT);
+    }
+
+    @Test
+    @DisplayName("리액티브 답변 생성과 스트리밍도 Groq 동시 호출 한도 안에서만 나가야 한다")
+    void reactivePathsAreLimitedByUpstream() {
+        // given
+        Flux<String> chats = Flux.range(0, CHATS)
+                .flatMap(i -> i % 2 == 0
+                        ? groqClient.generateReplyAsync("chat", "안녕", List.of(), "시스템 프롬프트")
+                        : groqClient.streamReply("chat", "안녕", List.of(), "시스템 프롬프트").collectList().map(List::toString),
+                        CHATS);
+
+        // when
+        Long completed = chats.count().block(Duration.ofSeconds(60));
+
+        // then
+        System.out.printf("[reactive] 완료된 채팅: %d, 최대 Groq 동시 호출: %d%n", completed, maxUpstreamCalls.get());
+        assertThat(completed).isEqualTo(CHATS);
+        assertThat(maxUpstreamCalls.get()).isEqualTo(GROQ_LIMIT);
+    }
+
+    private int runBlockingChats(ExecutorService executor) throws InterruptedException {
+        AtomicInteger inFlightChats = new AtomicInteger();
+        AtomicInteger maxInFlightChats = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(CHATS);
+
+        try (executor) {
+            for (int i = 0; i < CHATS; i++) {
+                executor.submit(() -> {
+                    maxInFlightChats.accumulateAndGet(inFlightChats.incrementAndGet(), Math::max);
+                    try {
+                        groqClient.generateReply("chat", "안녕", List.of(), "시스템 프롬프트");
+                    } finally {
+                        inFlightChats.decrementAndGet();
+                        done.countDown();
+                    }
+                });
+            }
+            assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        }
+
+        return maxInFlightChats.get();
+    }
+
+    /**
+     * 전송 계층만 흉내 낸 실제 ResilientGroqClient (재시도, 헤징 없음)
+     */
+    private GroqClient groqClient() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        GroqClientImpl transport = mock(GroqClientImpl.class);
+        when(transport.generateReplyAsync(anyString(), anyString(), anyList(), anyString(), any(GroqPriority.class)))
+                .thenReturn(upstreamCall().map(ignored -> "답변"));
+        when(transport.streamReply(anyString(), anyString(), anyList(), anyString(), any(CancellationToken.class)))
+                .thenReturn(upstreamCall().flatMapMany(ignored -> Flux.just("답", "변")));
+
+        return new ResilientGroqClient(
+                transport,
+                new GroqCircuitBreaker(meterRegistry, 20, 10, 50, Duration.ofSeconds(30), 1),
+                mock(GroqRateLimiter.class),
+                new UpstreamLimiter(meterRegistry, GROQ_LIMIT, 1, 1, 30_000),
+                meterRegistry,
+                0, Duration.ofMillis(200), Duration.ofSeconds(2),
+                false, Duration.ofMillis(500), 20);
+    }
+
+    /**
+     * 고정 지연 동안 Groq 동시 호출 수를 집계하는 가짜 호출
+     */
+    private Mono<Long> upstreamCall() {
+        return Mono.defer(() -> {
+            maxUpstreamCalls.accumulateAndGet(upstreamCalls.incrementAndGet(), Math::max);
+            return Mono.delay(GROQ_LATENCY).doFinally(signal -> upstreamCalls.decrementAndGet());
+        });
+    }
+}
@@ -0,0 +1,80 @@
+package com.aigf.gf_plz.global.groq.prompt;
+
+import com.aigf.gf_plz.global.groq.GroqMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PromptBudgeterTest {
+
+    private final PromptBudgeter promptBudgeter = new PromptBudgeter(100);
+
+    @Test
+    @DisplayName("히스토리는 예산 안에서 최신 메시지부터 채우고 시간순을 유지해야 한다")
+    void fitsNewestMessagesWithinBudget() {
+        // given
+        List<GroqMessage> history = List.of(
+                new GroqMessage("user", "가장 오래된 메시지", 40),
+                new GroqMessage("assistant", "중간 메시지", 30),
+                new GroqMessage("user", "최근 메시지", 20)
+        );
+
+        // when
+        PromptBudgeter.BudgetedHistory fitted = promptBudgeter.fitHistory(30, history);
+
+        // then
+        assertThat(fitted.messages()).extracting(GroqMessage::content)
+                .containsExactly("중간 메시지", "최근 메시지");
+        assertThat(fitted.tokens()).isEqualTo(30 + 20 + 2 * PromptBudgeter.MESSAGE_OVERHEAD_TOKENS);
+    }
+
+    @Test
+    @DisplayName("히스토리 맨 앞의 장기 기억 메시지는 오래된 메시지보다 먼저 유지되어야 한다")
+    void keepsLeadingSystemMessage() {
+        // given
+        List<GroqMessage> history = List.of(
+                new GroqMessage("system", "관련된 예전 대화", 20),
+                new GroqMessage("user", "가장 오래된 메시지", 30),
+                new GroqMessage("assistant", "최근 메시지", 20)
+        );
+
+        // when
+        PromptBudgeter.BudgetedHistory fitted = promptBudgeter.fitHistory(30, history);
+
+        // then
+        assertThat(fitted.messages()).extracting(GroqMessage::content)
+                .containsExactly("관련된 예전 대화", "최근 메시지");
+        assertThat(fitted.tokens()).isEqualTo(20 + 20 + 2 * PromptBudgeter.MESSAGE_OVERHEAD_TOKENS);
+    }
+
+    @Test
+    @DisplayName("고정 메시지만으로 예산을 넘으면 히스토리를 전달하지 않아야 한다")
+    void dropsHistoryWhenFixedPromptExceedsBudget() {
+        // given
+        List<GroqMessage> history = List.of(new GroqMessage("user", "안녕", 1));
+
+        // when
+        PromptBudgeter.BudgetedHistory fitted = promptBudgeter.fitHistory(200, history);
+
+        // then
+        assertThat(fitted.messages()).isEmpty();
+        assertThat(fitted.tokens()).isZero();
+    }
+
+    @Test
+    @DisplayName("미리 센 토큰 수가 있으면 다시 세지 않고 그대로 사용해야 한다")
+    void usesStoredTokenCount() {
+        // given
+        GroqMessage counted = promptBudgeter.message("user", "오늘 하루 어땠어?");
+
+        // when
+        int tokens = promptBudgeter.countTokens(new GroqMessage("user", "내용과 무관", counted.tokenCount()));
+
+        // then
+        assertThat(counted.tokenCount()).isPositive();
+        assertThat(tokens).isEqualTo(counted.tokenCount() + PromptBudgeter.MESSAGE_OVERHEAD_TOKENS);
+    }
+}
@@ -0,0 +1,75 @@
+package com.aigf.gf_plz.global.groq.ratelimit;
+
+import com.aigf.gf_plz.global.groq.GroqPriority;
+import com.aigf.gf_plz.global.groq.exception.GroqApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GroqRateLimiterTest {
+
+    private final GroqRateLimiter rateLimiter = new GroqRateLimiter(
+            new SimpleMeterRegistry(), 30, 12000, 256, Duration.ofSeconds(10), Duration.ofMinutes(2));
+
+    @AfterEach
+    void tearDown() {
+        rateLimiter.shutdown();
+    }
+
+    @Test
+    @DisplayName("Groq 초기화 시각 헤더 형식을 Duration으로 변환해야 한다")
+    void parseDuration() {
+        assertThat(GroqRateLimiter.parseDuration("2m59.56s")).isEqualTo(Duration.ofMillis(179_560));
+        assertThat(GroqRateLimiter.parseDuration("7.66s")).isEqualTo(Duration.ofMillis(7_660));
+        assertThat(GroqRateLimiter.parseDuration("120ms")).isEqualTo(Duration.ofMillis(120));
+        assertThat(GroqRateLimiter.parseDuration(null)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("429로 멈춘 동안 쌓인 요청은 채팅이 배치 작업보다 먼저 통과해야 한다")
+    void interactiveBeforeBatch() throws Exception {
+        // given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "0.2");
+        rateLimiter.onRateLimited(headers);
+        List<GroqPriority> order = new CopyOnWriteArrayList<>();
+
+        // when
+        var batch = rateLimiter.admit(GroqPriority.BATCH, 100, rateLimiter.deadlineFor(GroqPriority.BATCH))
+                .doOnSuccess(ignored -> order.add(GroqPriority.BATCH));
+        var interactive = rateLimiter.admit(GroqPriority.INTERACTIVE, 100, rateLimiter.deadlineFor(GroqPriority.INTERACTIVE))
+                .doOnSuccess(ignored -> order.add(GroqPriority.INTERACTIVE));
+        CompletableFuture<Void> batchDone = batch.toFuture();
+        interactive.block(Duration.ofSeconds(5));
+        batchDone.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(order).containsExactly(GroqPriority.INTERACTIVE, GroqPriority.BATCH);
+    }
+
+    @Test
+    @DisplayName("마감 시각까지 한도를 확보하지 못하면 429 메시지로 실패해야 한다")
+    void expiresAfterDeadline() {
+        // given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "5");
+        rateLimiter.onRateLimited(headers);
+
+        // when & then
+        long deadline = System.nanoTime() + Duration.ofMillis(100).toNanos();
+        assertThatThrownBy(() -> rateLimiter.admit(GroqPriority.INTERACTIVE, 100, deadline).block(Duration.ofSeconds(5)))
+                .isInstanceOf(GroqApiException.class)
+                .hasMessageContaining("(429)");
+    }
+}
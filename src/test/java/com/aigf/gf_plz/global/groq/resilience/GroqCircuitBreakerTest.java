@@ -0,0 +1,78 @@
+package com.aigf.gf_plz.global.groq.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroqCircuitBreakerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GroqCircuitBreaker circuitBreaker = new GroqCircuitBreaker(
+            meterRegistry, 10, 4, 50, Duration.ofMillis(100), 1);
+
+    @Test
+    @DisplayName("실패율이 기준을 넘으면 열려서 호출을 바로 거절해야 한다")
+    void opensWhenFailureRateExceeded() {
+        // given
+        recordCall(true);
+        recordCall(false);
+        recordCall(true);
+
+        // when
+        recordCall(true);
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(GroqCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        assertThat(meterRegistry.get("groq.circuit.transitions").tag("from", "closed").tag("to", "open")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("열린 뒤 대기 시간이 지나면 시험 호출 하나만 허용하고, 성공하면 닫혀야 한다")
+    void halfOpenTrialClosesOnSuccess() throws InterruptedException {
+        // given
+        for (int i = 0; i < 4; i++) {
+            recordCall(false);
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(GroqCircuitBreaker.State.OPEN);
+        Thread.sleep(150);
+
+        // when
+        boolean trial = circuitBreaker.tryAcquire();
+        boolean second = circuitBreaker.tryAcquire();
+        circuitBreaker.onSuccess();
+
+        // then
+        assertThat(trial).isTrue();
+        assertThat(second).isFalse();
+        assertThat(circuitBreaker.state()).isEqualTo(GroqCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Decorrelated jitter 간격은 최소값과 최대값 사이여야 한다")
+    void decorrelatedJitterStaysWithinBounds() {
+        // given
+        DecorrelatedJitterBackoff backoff = new DecorrelatedJitterBackoff(Duration.ofMillis(200), Duration.ofSeconds(2));
+        Duration delay = backoff.first();
+
+        // when & then
+        for (int i = 0; i < 100; i++) {
+            delay = backoff.next(delay);
+            assertThat(delay).isBetween(Duration.ofMillis(200), Duration.ofSeconds(2));
+        }
+    }
+
+    private void recordCall(boolean success) {
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        if (success) {
+            circuitBreaker.onSuccess();
+        } else {
+            circuitBreaker.onFailure();
+        }
+    }
+}
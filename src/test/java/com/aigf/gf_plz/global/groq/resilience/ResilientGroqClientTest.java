@@ -0,0 +1,83 @@
+package com.aigf.gf_plz.global.groq.resilience;
+
+import com.aigf.gf_plz.global.concurrency.UpstreamLimiter;
+import com.aigf.gf_plz.global.groq.GroqClientImpl;
+import com.aigf.gf_plz.global.groq.GroqPriority;
+import com.aigf.gf_plz.global.groq.exception.GroqApiException;
+import com.aigf.gf_plz.global.groq.ratelimit.GroqRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ResilientGroqClientTest {
+
+    private static final Duration HEDGE_DELAY = Duration.ofMillis(300);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GroqClientImpl delegate = mock(GroqClientImpl.class);
+    private final GroqRateLimiter rateLimiter = mock(GroqRateLimiter.class);
+    private final ResilientGroqClient client = new ResilientGroqClient(
+            delegate,
+            new GroqCircuitBreaker(meterRegistry, 10, 4, 50, Duration.ofSeconds(30), 1),
+            rateLimiter,
+            new UpstreamLimiter(meterRegistry, 4, 1, 1, 1000),
+            meterRegistry,
+            0, Duration.ofMillis(10), Duration.ofMillis(50),
+            true, HEDGE_DELAY, 1);
+
+    @BeforeEach
+    void warmUp() {
+        // 응답 시간 표본을 하나 쌓아 헤징이 켜지도록 함
+        when(delegate.generateReplyAsync(anyString(), anyString(), anyList(), anyString(), any(GroqPriority.class)))
+                .thenReturn(Mono.just("준비"));
+        client.generateReplyAsync("chat", "안녕", List.of(), "시스템 프롬프트").block(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("원래 요청이 헤징 지연 전에 실패하면 헤징 없이 그 오류를 바로 전달해야 한다")
+    void propagatesPrimaryFailureWithoutHedging() throws InterruptedException {
+        // given
+        when(delegate.generateReplyAsync(anyString(), anyString(), anyList(), anyString(), any(GroqPriority.class)))
+                .thenReturn(Mono.delay(Duration.ofMillis(50)).then(Mono.error(new GroqApiException("400 Bad Request"))));
+
+        // when & then
+        assertThatThrownBy(() -> client.generateReplyAsync("chat", "안녕", List.of(), "시스템 프롬프트")
+                .block(HEDGE_DELAY))
+                .isInstanceOf(GroqApiException.class)
+                .hasMessage("400 Bad Request");
+        Thread.sleep(HEDGE_DELAY.toMillis() + 100);
+        verify(delegate, times(2)).generateReplyAsync(anyString(), anyString(), anyList(), anyString(), any(GroqPriority.class));
+        assertThat(meterRegistry.get("groq.resilience.hedges").tag("result", "fired").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("원래 요청이 지연되면 헤징 요청을 보내 먼저 온 응답을 사용해야 한다")
+    void hedgesWhilePrimaryIsPending() {
+        // given
+        when(delegate.generateReplyAsync(anyString(), anyString(), anyList(), anyString(), any(GroqPriority.class)))
+                .thenReturn(Mono.never(), Mono.just("헤징 응답"));
+
+        // when
+        String reply = client.generateReplyAsync("chat", "안녕", List.of(), "시스템 프롬프트")
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(reply).isEqualTo("헤징 응답");
+        assertThat(meterRegistry.get("groq.resilience.hedges").tag("result", "won").counter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,71 @@
+package com.aigf.gf_plz.global.tts.cache;
+
+import com.aigf.gf_plz.global.tts.TtsVoiceProfile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TtsAudioDiskStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("저장한 음성은 저장소를 다시 열어도 조회되어야 한다")
+    void survivesReopen() throws Exception {
+        // given
+        byte[] key = CachingTtsClient.cacheKey("안녕!", new TtsVoiceProfile("ko-KR-Wavenet-A", 2.0, 0.95));
+        byte[] audio = {1, 2, 3, 4, 5};
+        try (TtsAudioDiskStore store = new TtsAudioDiskStore(directory, 1024, 2)) {
+            store.put(key, audio);
+        }
+
+        // when
+        try (TtsAudioDiskStore reopened = new TtsAudioDiskStore(directory, 1024, 2)) {
+            // then
+            assertThat(reopened.get(key)).containsExactly(audio);
+            assertThat(reopened.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("목소리 설정이 다르면 다른 키가 만들어져야 한다")
+    void keyDependsOnVoiceProfile() {
+        // given
+        TtsVoiceProfile female = new TtsVoiceProfile("ko-KR-Wavenet-A", 2.0, 0.95);
+        TtsVoiceProfile male = new TtsVoiceProfile("ko-KR-Wavenet-B", -2.0, 0.95);
+
+        // when
+        byte[] femaleKey = CachingTtsClient.cacheKey("안녕!", female);
+        byte[] maleKey = CachingTtsClient.cacheKey("안녕!", male);
+
+        // then
+        assertThat(femaleKey).hasSize(TtsAudioDiskStore.KEY_BYTES).isNotEqualTo(maleKey);
+    }
+
+    @Test
+    @DisplayName("세그먼트 수가 최대치를 넘으면 가장 오래된 세그먼트의 음성부터 제거되어야 한다")
+    void evictsOldestSegment() throws Exception {
+        // given
+        TtsVoiceProfile profile = new TtsVoiceProfile("ko-KR-Wavenet-A", 2.0, 0.95);
+        byte[] first = CachingTtsClient.cacheKey("첫 번째", profile);
+        byte[] second = CachingTtsClient.cacheKey("두 번째", profile);
+        byte[] third = CachingTtsClient.cacheKey("세 번째", profile);
+
+        try (TtsAudioDiskStore store = new TtsAudioDiskStore(directory, 128, 2)) {
+            // when (레코드 하나가 세그먼트 하나를 거의 채움)
+            store.put(first, new byte[80]);
+            store.put(second, new byte[80]);
+            store.put(third, new byte[80]);
+
+            // then
+            assertThat(store.get(first)).isNull();
+            assertThat(store.get(second)).hasSize(80);
+            assertThat(store.get(third)).hasSize(80);
+        }
+    }
+}